@@ -0,0 +1,28 @@
+#ifdef GL_ES
+#define LOWP lowp
+precision mediump float;
+#else
+#define LOWP
+#endif
+
+varying LOWP vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
+
+// Offset for RGB separation (e.g. 0.005)
+uniform float u_intensity;
+
+void main() {
+    vec2 toCenter = vec2(0.5, 0.5) - v_texCoords;
+    float dist = length(toCenter);
+
+    // Red and Blue channels are shifted in opposite directions along the vector to center
+    vec2 aberrationOffset = toCenter * u_intensity * dist * 2.0;
+
+    float r = texture2D(u_texture, v_texCoords - aberrationOffset).r;
+    float g = texture2D(u_texture, v_texCoords).g;
+    float b = texture2D(u_texture, v_texCoords + aberrationOffset).b;
+
+    gl_FragColor = vec4(r, g, b, 1.0) * v_color;
+}
@@ -0,0 +1,39 @@
+#ifdef GL_ES
+#define LOWP lowp
+precision mediump float;
+#else
+#define LOWP
+#endif
+
+varying LOWP vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
+
+// Glow added on top of the scene (0.0 = off)
+uniform float u_intensity;
+// Only the part of a color above this contributes to the glow
+uniform float u_threshold;
+// One texel scaled by the glow radius
+uniform vec2 u_step;
+
+vec3 bright(vec2 offset) {
+    return max(texture2D(u_texture, v_texCoords + offset * u_step).rgb - u_threshold, 0.0);
+}
+
+void main() {
+    vec3 base = texture2D(u_texture, v_texCoords).rgb;
+
+    // Single pass: bright parts of two rings of 8 taps, the outer ring weighted half
+    vec3 glow = bright(vec2(1.0, 0.0)) + bright(vec2(-1.0, 0.0))
+            + bright(vec2(0.0, 1.0)) + bright(vec2(0.0, -1.0))
+            + bright(vec2(0.7071, 0.7071)) + bright(vec2(-0.7071, 0.7071))
+            + bright(vec2(0.7071, -0.7071)) + bright(vec2(-0.7071, -0.7071));
+    glow += 0.5 * (bright(vec2(2.0, 0.0)) + bright(vec2(-2.0, 0.0))
+            + bright(vec2(0.0, 2.0)) + bright(vec2(0.0, -2.0))
+            + bright(vec2(1.4142, 1.4142)) + bright(vec2(-1.4142, 1.4142))
+            + bright(vec2(1.4142, -1.4142)) + bright(vec2(-1.4142, -1.4142)));
+    glow /= 12.0;
+
+    gl_FragColor = vec4(base + glow * u_intensity, 1.0) * v_color;
+}
@@ -0,0 +1,41 @@
+// Procedural starfield: every star is a static quad uploaded once; drift and
+// twinkle are computed here so the CPU cost does not depend on the star count.
+
+// Star origin in [0, 1) of the view; scaled by u_viewSize so resizes need no re-upload
+attribute vec2 a_position;
+// Quad corner, (0,0) bottom-left to (1,1) top-right
+attribute vec2 a_corner;
+attribute vec4 a_color;
+// x: twinkle phase [0, 1), y: twinkle period in seconds, z: size relative to the star sprite
+attribute vec3 a_params;
+
+uniform mat4 u_projTrans;
+uniform vec2 u_viewSize;
+// Accumulated drift in pixels (already wrapped to the view on the CPU)
+uniform vec2 u_offset;
+uniform float u_time;
+// Star sprite size in pixels for size 1.0, resolution scaling included
+uniform float u_spriteSize;
+// Star sprite region: u, v, u2, v2
+uniform vec4 u_region;
+uniform vec2 u_alphaRange;
+// Brightness lost per second after each flash
+uniform float u_fadeRate;
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+
+void main() {
+    vec2 origin = mod(a_position * u_viewSize + u_offset, u_viewSize);
+
+    // Each cycle a star flashes to a random peak brightness and fades to the base alpha
+    float cycle = u_time / a_params.y + a_params.x;
+    float peak = fract(sin(floor(cycle) * 12.9898 + a_params.x * 78.233) * 43758.5453);
+    float brightness = clamp(peak - fract(cycle) * a_params.y * u_fadeRate, 0.0, 1.0);
+
+    v_color = vec4(a_color.rgb, mix(u_alphaRange.x, u_alphaRange.y, brightness));
+    v_texCoords = vec2(mix(u_region.x, u_region.z, a_corner.x), mix(u_region.w, u_region.y, a_corner.y));
+
+    vec2 position = origin + a_corner * (a_params.z * u_spriteSize);
+    gl_Position = u_projTrans * vec4(position, 0.0, 1.0);
+}
@@ -0,0 +1,29 @@
+#ifdef GL_ES
+#define LOWP lowp
+precision mediump float;
+#else
+#define LOWP
+#endif
+
+varying LOWP vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
+
+// How much of the vignette is applied (0.0 = none, 1.0 = full)
+uniform float u_intensity;
+// Shape: larger values pull the dark edge further in (was u_vignetteIntensity)
+uniform float u_spread;
+
+void main() {
+    vec4 texColor = texture2D(u_texture, v_texCoords);
+    float dist = length(vec2(0.5, 0.5) - v_texCoords);
+
+    // Smoothstep creates a soft edge.
+    // 0.8 is the radius where darkness is fully applied (outer edge)
+    // The second parameter controls where the fade starts.
+    float vignette = smoothstep(0.8, 0.8 - (0.5 + u_spread * 0.5), dist);
+    texColor.rgb *= mix(1.0, vignette, u_intensity);
+
+    gl_FragColor = vec4(texColor.rgb, 1.0) * v_color;
+}
@@ -0,0 +1,37 @@
+#ifdef GL_ES
+#ifdef GL_FRAGMENT_PRECISION_HIGH
+// World coordinates run into the thousands; mediump is too coarse for a clean cone edge
+precision highp float;
+#else
+precision mediump float;
+#endif
+#define LOWP lowp
+#else
+#define LOWP
+#endif
+
+varying LOWP vec4 v_color;
+varying vec2 v_texCoords;
+varying vec2 v_world;
+
+uniform sampler2D u_texture;
+
+// Cone apex (the ship), in world units
+uniform vec2 u_center;
+// Unit vector along the cone axis
+uniform vec2 u_direction;
+// cos(half opening angle)
+uniform float u_cosHalfAngle;
+uniform float u_radius;
+
+void main() {
+    vec2 toFragment = v_world - u_center;
+    float dist = length(toFragment);
+    float cosAngle = dot(toFragment, u_direction) / max(dist, 0.0001);
+
+    // 1 inside the cone (visible), 0 outside (dark)
+    float lit = step(dist, u_radius) * step(u_cosHalfAngle, cosAngle);
+
+    // u_texture is a white pixel: only its alpha matters, and only to keep the batch's uniform in use
+    gl_FragColor = vec4(v_color.rgb, v_color.a * (1.0 - lit) * texture2D(u_texture, v_texCoords).a);
+}
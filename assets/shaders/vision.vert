@@ -0,0 +1,17 @@
+attribute vec4 a_position;
+attribute vec4 a_color;
+attribute vec2 a_texCoord0;
+
+uniform mat4 u_projTrans;
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+// World position of the fragment, for the cone test
+varying vec2 v_world;
+
+void main() {
+    v_color = a_color;
+    v_texCoords = a_texCoord0;
+    v_world = a_position.xy;
+    gl_Position = u_projTrans * a_position;
+}
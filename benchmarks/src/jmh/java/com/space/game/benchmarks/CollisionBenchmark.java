@@ -0,0 +1,82 @@
+package com.space.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.space.game.Game;
+import com.space.game.SpaceGame;
+import com.space.game.config.ConfigUtils;
+import com.space.game.entities.Spaceship;
+import com.space.game.levels.DynamicLevel;
+import com.space.game.managers.AlienManager;
+import com.space.game.managers.BulletManager;
+import com.space.game.managers.CollisionManager;
+
+/**
+ * CollisionManager.checkBulletCollisions with a steady population: aliens fill
+ * the left part of the screen and every bullet flies right from the ship, so
+ * nothing is destroyed between invocations. This is the common frame (no hit);
+ * it measures grid rebuild, broadphase queries and narrowphase rejects.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollisionBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int aliens;
+
+    // BulletManager caps active bullets at 15
+    @Param({ "1", "15" })
+    public int bullets;
+
+    @Param({ "true", "false" })
+    public boolean swept;
+
+    private CollisionManager collisionManager;
+
+    @Setup
+    public void setUp() {
+        DynamicLevel level = GameFixture.startLevel();
+        Game game = SpaceGame.getGame();
+        AlienManager alienManager = level.getAlienManager();
+        BulletManager bulletManager = game.getMapManager().getBulletManager();
+        Spaceship spaceship = level.getSpaceship();
+
+        float scale = ConfigUtils.calcularFatorDeEscala();
+        float width = game.getWorldWidth();
+        float height = game.getWorldHeight();
+        for (int i = 0; i < aliens; i++) {
+            alienManager.addAlien(new Vector2(MathUtils.random(0f, width * 0.35f), MathUtils.random(0f, height)),
+                    scale, 0f, i % 3);
+        }
+
+        Vector2 center = spaceship.getVisualCenter();
+        float shipWidth = spaceship.getBounds().width / spaceship.getScale();
+        float shipHeight = spaceship.getBounds().height / spaceship.getScale();
+        for (int i = 0; i < bullets; i++) {
+            // Angle -90 points right; fan out a little so bullets sit in different cells
+            bulletManager.fireBullet(center, -90f + MathUtils.random(-30f, 30f), shipWidth, shipHeight,
+                    spaceship.getScale(), false);
+        }
+
+        collisionManager = new CollisionManager(bulletManager, alienManager, spaceship, game.getSoundManager(),
+                game.getMusicManager(), game.getMapManager().getParticleManager());
+        collisionManager.setSweptCollisionEnabled(swept);
+    }
+
+    @Benchmark
+    public void checkBulletCollisions() {
+        collisionManager.checkBulletCollisions();
+    }
+}
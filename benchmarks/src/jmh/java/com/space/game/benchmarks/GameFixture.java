@@ -0,0 +1,30 @@
+package com.space.game.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.space.game.SpaceGame;
+import com.space.game.headless.HeadlessGame;
+import com.space.game.levels.DynamicLevel;
+import com.space.game.managers.GameStateManager.State;
+
+/**
+ * Boots the game headless and enters level 1, so benchmarks get real managers,
+ * textures and a spaceship to work with. One per forked JVM.
+ */
+final class GameFixture {
+    static final int WIDTH = 1920;
+    static final int HEIGHT = 1080;
+    static final long SEED = 42L;
+
+    private GameFixture() {
+    }
+
+    static DynamicLevel startLevel() {
+        if (SpaceGame.getGame() == null) {
+            HeadlessGame.bootStandalone(WIDTH, HEIGHT);
+        }
+        MathUtils.random.setSeed(SEED);
+        SpaceGame.getGame().getRandom().setMasterSeed(SEED);
+        SpaceGame.getGame().getGsm().setState(State.PLAYING);
+        return (DynamicLevel) SpaceGame.getGame().getMapManager().getCurrentLevel();
+    }
+}
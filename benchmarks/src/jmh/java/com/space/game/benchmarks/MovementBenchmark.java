@@ -0,0 +1,113 @@
+package com.space.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.space.game.GameClock;
+import com.space.game.SpaceGame;
+import com.space.game.config.ConfigUtils;
+import com.space.game.entities.Alien;
+import com.space.game.entities.Spaceship;
+import com.space.game.entities.movements.LinearMovement;
+import com.space.game.entities.movements.MovementBatch;
+import com.space.game.entities.movements.MovementFrame;
+import com.space.game.entities.movements.MovementStrategy;
+import com.space.game.entities.movements.SpiralMovement;
+import com.space.game.entities.movements.WaveMovement;
+
+/**
+ * One simulation tick of a MovementStrategy over a whole wave of aliens,
+ * packed in a single batch. Every RESPAWN_TICKS invocations (and before every
+ * iteration) the aliens are put back on their spawn ring and their movement
+ * state is started afresh, so samples time aliens still on their way in
+ * rather than a wave collapsed onto, or orbiting, the ship.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovementBenchmark {
+
+    @Param({ "linear", "wave", "spiral" })
+    public String movement;
+
+    @Param({ "100", "1000" })
+    public int aliens;
+
+    // About 4 s of game time: at speed worldWidth / 11 an alien covers under half of the
+    // worldWidth spawn radius. The respawn itself is amortised over these ticks
+    private static final int RESPAWN_TICKS = 256;
+
+    private MovementStrategy strategy;
+    private final MovementBatch batch = new MovementBatch();
+    private MovementFrame frame;
+    private Vector2[] spawnPositions;
+    private int ticksSinceRespawn;
+
+    @Setup
+    public void setUp() {
+        Spaceship spaceship = GameFixture.startLevel().getSpaceship();
+        float scale = ConfigUtils.calcularFatorDeEscala();
+        float speed = SpaceGame.getGame().getWorldWidth() / 11;
+        float radius = SpaceGame.getGame().getWorldWidth();
+        Vector2 center = spaceship.getVisualCenter();
+
+        strategy = createStrategy();
+        frame = new MovementFrame(SpaceGame.getGame().getRandom().gameplay());
+        frame.set(spaceship, SpaceGame.getGame().getWorldWidth(), SpaceGame.getGame().getWorldHeight(),
+                GameClock.DEFAULT_STEP);
+        batch.clear();
+        spawnPositions = new Vector2[aliens];
+        for (int i = 0; i < aliens; i++) {
+            float angle = MathUtils.random(0f, MathUtils.PI2);
+            spawnPositions[i] = new Vector2(center.x + MathUtils.cos(angle) * radius,
+                    center.y + MathUtils.sin(angle) * radius);
+            Alien alien = SpaceGame.getGame().getMapManager().getAlienFactory().createAlien(spawnPositions[i], scale,
+                    speed, 0, frame.random);
+
+            int row = batch.add(i);
+            batch.width[row] = alien.getBounds().width;
+            batch.height[row] = alien.getBounds().height;
+            batch.speed[row] = speed;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void respawn() {
+        // Rows were added in order, so row i is alien i
+        for (int i = 0; i < aliens; i++) {
+            batch.x[i] = spawnPositions[i].x;
+            batch.y[i] = spawnPositions[i].y;
+            strategy.start(batch, i, frame);
+        }
+        ticksSinceRespawn = 0;
+    }
+
+    private MovementStrategy createStrategy() {
+        if (movement.equals("wave")) {
+            return new WaveMovement();
+        }
+        if (movement.equals("spiral")) {
+            return new SpiralMovement();
+        }
+        return new LinearMovement();
+    }
+
+    @Benchmark
+    public void move() {
+        if (++ticksSinceRespawn > RESPAWN_TICKS) {
+            respawn();
+        }
+        strategy.moveAll(batch, frame);
+    }
+}
@@ -0,0 +1,76 @@
+package com.space.game.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.space.game.GameClock;
+import com.space.game.SpaceGame;
+import com.space.game.managers.ParticleManager;
+
+/**
+ * ParticleManager.update at a fixed live particle count.
+ * steady: particles never expire, so this is the pure integrate loop.
+ * churn: particles live 0.5-1s and are topped back up after every tick,
+ * which also exercises swap-removal and spawning.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParticleBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int particles;
+
+    private ParticleManager steady;
+    private ParticleManager churn;
+
+    @Setup
+    public void setUp() {
+        GameFixture.startLevel();
+        steady = new ParticleManager(SpaceGame.getGame().getTextureManager(),
+                SpaceGame.getGame().getRandom().effects(), particles);
+        churn = new ParticleManager(SpaceGame.getGame().getTextureManager(),
+                SpaceGame.getGame().getRandom().effects(), particles);
+        for (int i = 0; i < particles; i++) {
+            spawn(steady, Float.MAX_VALUE);
+        }
+        topUp(churn);
+    }
+
+    private static void spawn(ParticleManager manager, float life) {
+        float angle = MathUtils.random(0f, 360f);
+        float speed = MathUtils.random(15f, 150f);
+        manager.addParticle(MathUtils.random(0f, 1920f), MathUtils.random(0f, 1080f),
+                MathUtils.cosDeg(angle) * speed, MathUtils.sinDeg(angle) * speed, life, Color.WHITE_FLOAT_BITS,
+                MathUtils.random(0.8f, 1.5f), -1.0f);
+    }
+
+    private void topUp(ParticleManager manager) {
+        while (manager.getParticleCount() < particles) {
+            spawn(manager, MathUtils.random(0.5f, 1.0f));
+        }
+    }
+
+    @Benchmark
+    public int updateSteady() {
+        steady.update(GameClock.DEFAULT_STEP);
+        return steady.getParticleCount();
+    }
+
+    @Benchmark
+    public int updateChurn() {
+        churn.update(GameClock.DEFAULT_STEP);
+        topUp(churn);
+        return churn.getParticleCount();
+    }
+}
@@ -5,21 +5,26 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.space.game.managers.BackgroundManager;
+import com.space.game.managers.DynamicResolutionManager;
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
+import com.space.game.graphics.VisionMask;
+import com.space.game.graphics.post.PostProcessor;
 import com.space.game.managers.GameStateManager;
+import com.space.game.managers.LoadingManager;
 import com.space.game.managers.MapManager;
 import com.space.game.managers.SoundManager;
 import com.space.game.managers.UIManager;
-import com.badlogic.gdx.graphics.glutils.FrameBuffer;
-import com.badlogic.gdx.graphics.glutils.ShaderProgram;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Matrix4;
+import com.space.game.managers.ProfilerManager;
+import com.space.game.managers.ProfilerManager.Section;
 
 public class Game {
 
     private SpriteBatch batch;
 
+    // Streams textures and audio in through an AssetManager
+    private LoadingManager loading;
+
     private TextureManager textureManager;
     private UIManager uiManager;
     private ExtendViewport extendViewport;
@@ -29,106 +34,176 @@ public class Game {
     private SoundManager soundManager;
     private com.space.game.managers.MusicManager musicManager;
 
-    private FrameBuffer fbo;
+    private final GameClock clock = new GameClock();
+    // Seeded per run; managers draw from its streams instead of MathUtils.random
+    private final com.space.game.managers.RandomManager random = new com.space.game.managers.RandomManager();
 
-    private ShaderProgram shader;
+    private PostProcessor postProcessor;
+    // Shared by dark levels; compiled once instead of per level
+    private VisionMask visionMask;
+    // Playfield draw commands, sorted by layer and texture before they reach the batch
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final DynamicResolutionManager resolution = new DynamicResolutionManager();
 
-    // Post-processing uniforms
-    public float vignetteIntensity = 0.15f; // Reduced from 0.6f
-    public float chromaticAberrationIntensity = 0.003f;
+    // Subsystem timings, draw calls and texture binds (wraps Gdx.gl while enabled)
+    private ProfilerManager profiler;
 
     public Game() {
         batch = new SpriteBatch();
 
+        // Created before the managers: levels look it up when they are constructed
+        profiler = new ProfilerManager();
+        profiler.setEnabled(com.space.game.config.GameConfig.DEBUG_PROFILER);
+
         extendViewport = new ExtendViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         extendViewport.getCamera().position.set(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2, 0);
 
         textureManager = new TextureManager();
-        textureManager.loadTextures(textureManager);
-
         soundManager = new SoundManager();
-        soundManager.loadSounds();
         soundManager.initializeVolume();
-
-        musicManager = new com.space.game.managers.MusicManager();
-        musicManager.loadMusics();
+        musicManager = new com.space.game.managers.MusicManager(random.music());
         musicManager.initializeVolume();
 
-        initShader();
+        loading = new LoadingManager();
+        textureManager.queueTextures(loading);
+        musicManager.queueMusics(loading);
+        soundManager.queueSounds(loading);
+        loading.start();
+        // The background is drawn from the first frame on; only its textures are waited for here
+        loading.finishLoading(LoadingManager.Group.BOOT);
+
+        postProcessor = new PostProcessor();
+        visionMask = new VisionMask();
 
         uiManager = new UIManager(this, batch);
         mapManager = new MapManager(this);
 
-        backgroundManager = new BackgroundManager(textureManager, this);
+        backgroundManager = new BackgroundManager(textureManager, this, random.background());
 
         gsm = new GameStateManager(this);
-
-    }
-
-    private void initShader() {
-        shader = new ShaderProgram(Gdx.files.internal("shaders/default.vert"),
-                Gdx.files.internal("shaders/scifi.frag"));
-        if (!shader.isCompiled()) {
-            Gdx.app.error("Shader", "Compilation failed:\n" + shader.getLog());
-        }
     }
 
     public void render() {
-        boolean useFbo = fbo != null && shader.isCompiled();
-
-        if (useFbo) {
-            fbo.begin();
+        // CPU time of this frame, excluding the buffer swap: with vsync on it is the only measure of headroom
+        long workStart = com.badlogic.gdx.utils.TimeUtils.nanoTime();
+        clock.beginFrame(Gdx.graphics.getDeltaTime());
+        applyQuality();
+        if (!loading.isFinished()) {
+            loading.update(com.space.game.config.GameConfig.ASSET_STREAM_MILLIS);
         }
+        profiler.begin(Section.FRAME);
+
+        extendViewport.apply();
+        // Scene goes to the post-processing buffer (at its render scale) when any pass is active
+        postProcessor.begin();
 
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        extendViewport.apply();
 
         batch.begin();
 
         batch.setProjectionMatrix(extendViewport.getCamera().combined);
 
+        profiler.begin(Section.BACKGROUND_RENDER);
         backgroundManager.render(batch);
-        backgroundManager.update(Gdx.graphics.getDeltaTime());
+        profiler.end(Section.BACKGROUND_RENDER);
+        profiler.begin(Section.BACKGROUND_UPDATE);
+        backgroundManager.update(clock.getFrameDelta());
+        profiler.end(Section.BACKGROUND_UPDATE);
 
+        profiler.begin(Section.STATE_UPDATE);
         gsm.update(batch);
-        soundManager.update();
-        musicManager.update();
+        profiler.end(Section.STATE_UPDATE);
+        soundManager.update(clock.getFrameDelta());
+        musicManager.update(clock.getFrameDelta());
 
         batch.end();
         batch.setShader(null);
 
-        if (useFbo) {
-            fbo.end();
-
-            // Render FBO to screen with shader
-            batch.setShader(shader);
-            batch.begin();
-            // Reset projection to screen space for FBO drawing
-            batch.setProjectionMatrix(
-                    new Matrix4().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight()));
-
-            // Update Uniforms
-            shader.setUniformf("u_vignetteIntensity", vignetteIntensity);
-            shader.setUniformf("u_chromaticAberrationIntensity", chromaticAberrationIntensity);
-
-            Texture fboTex = fbo.getColorBufferTexture();
-            // Draw flipped on Y axis because FBOs are inverted
-            batch.draw(fboTex, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), 0, 0, fboTex.getWidth(),
-                    fboTex.getHeight(), false, true);
-
-            batch.end();
-            batch.setShader(null);
-        }
+        profiler.begin(Section.POST_PROCESS);
+        postProcessor.update(clock.getFrameDelta());
+        postProcessor.end(batch);
+        profiler.end(Section.POST_PROCESS);
 
         // --- UI RENDERING (No Shader) ---
+        profiler.begin(Section.UI);
         batch.begin();
         // Reset projection to World/UI space (ExtendViewport)
         batch.setProjectionMatrix(extendViewport.getCamera().combined);
 
         gsm.renderUI(batch);
 
+        if (profiler.isEnabled()) {
+            uiManager.displayProfiler(profiler);
+        }
+
         batch.end();
+        profiler.end(Section.UI);
+
+        profiler.end(Section.FRAME);
+        profiler.endFrame();
+
+        // Streaming frames are slow on purpose; judging quality on them would only lower it
+        if (loading.isFinished()) {
+            resolution.update(Gdx.graphics.getDeltaTime(), com.badlogic.gdx.utils.TimeUtils.nanoTime() - workStart);
+        }
+
+        if (Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F3)) {
+            profiler.setEnabled(!profiler.isEnabled());
+        }
+        if (profiler.isEnabled() && Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F4)) {
+            dumpProfile();
+        }
+        if (profiler.isEnabled() && Gdx.input.isKeyJustPressed(com.badlogic.gdx.Input.Keys.F5)) {
+            // Compare background layer strategies (see the BG line of the overlay)
+            backgroundManager.cycleLayerMode();
+        }
+    }
+
+    // Re-applied every frame: each level builds its own ParticleManager at full budget
+    private void applyQuality() {
+        postProcessor.setRenderScale(resolution.getRenderScale());
+        backgroundManager.setStarFraction(resolution.getStarFraction());
+        com.space.game.managers.ParticleManager particles = getParticleManager();
+        if (particles != null) {
+            particles.setBudget(Math.round(particles.getCapacity() * resolution.getParticleFraction()));
+        }
+    }
+
+    /**
+     * Writes the profiler window (CSV) and its percentiles (JSON) next to the
+     * game, for comparing builds, plus the current run's input replay.
+     */
+    public void dumpProfile() {
+        if (!Gdx.files.isLocalStorageAvailable()) {
+            Gdx.app.log("Profiler", profiler.toJson());
+            return;
+        }
+        String name = "profile-" + com.badlogic.gdx.utils.TimeUtils.millis();
+        Gdx.files.local(name + ".csv").writeString(profiler.toCsv(), false);
+        Gdx.files.local(name + ".json").writeString(profiler.toJson(), false);
+        // The run so far, so a slowdown can be replayed headless (--replay)
+        Replay replay = mapManager != null ? mapManager.getReplay() : null;
+        if (replay != null) {
+            replay.save(Gdx.files.local(name + ".sgrp"));
+            Gdx.app.log("Profiler", "Wrote " + name + ".csv/.json/.sgrp");
+        } else {
+            Gdx.app.log("Profiler", "Wrote " + name + ".csv/.json");
+        }
+    }
+
+    public ProfilerManager getProfiler() {
+        return profiler;
+    }
+
+    /** Draw calls of the last complete frame (0 while the profiler is disabled). */
+    public int getFrameDrawCalls() {
+        return profiler.getDrawCalls();
+    }
+
+    /** Texture binds of the last complete frame (0 while the profiler is disabled). */
+    public int getFrameTextureBindings() {
+        return profiler.getTextureBindings();
     }
 
     public void resize(int width, int height) {
@@ -136,25 +211,7 @@ public class Game {
         extendViewport.getCamera().position.set(getWorldWidth() / 2f, getWorldHeight() / 2f, 0);
         extendViewport.getCamera().update();
 
-        if (fbo != null)
-            fbo.dispose();
-        try {
-            // Attempt to create FBO with Stencil buffer (Required for Dark Level cone
-            // effect)
-            // Use try-catch or safe instantiation if unsure about constructor support in
-            // current libGDX version.
-            // Constructor: Format, width, height, hasDepth, hasStencil
-            fbo = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false, true);
-            fbo.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        } catch (Exception e) {
-            Gdx.app.error("FBO", "Failed to create FBO with Stencil, trying without", e);
-            try {
-                fbo = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
-                fbo.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-            } catch (Exception ex) {
-                Gdx.app.error("FBO", "Failed to create FBO fallback", ex);
-            }
-        }
+        postProcessor.resize(width, height);
 
         if (backgroundManager != null) {
             backgroundManager.resize(width, height);
@@ -170,10 +227,21 @@ public class Game {
         backgroundManager.dispose();
         soundManager.dispose();
         musicManager.dispose();
-        if (fbo != null)
-            fbo.dispose();
-        if (shader != null)
-            shader.dispose();
+        postProcessor.dispose();
+        visionMask.dispose();
+        loading.dispose();
+    }
+
+    public LoadingManager getLoading() {
+        return loading;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public com.space.game.managers.RandomManager getRandom() {
+        return random;
     }
 
     public GameStateManager getGsm() {
@@ -212,6 +280,23 @@ public class Game {
         return batch;
     }
 
+    public PostProcessor getPostProcessor() {
+        return postProcessor;
+    }
+
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+
+    public VisionMask getVisionMask() {
+        return visionMask;
+    }
+
+    /** Quality level chosen from measured frame times; also the debug API (forceLevel, last decision). */
+    public DynamicResolutionManager getResolution() {
+        return resolution;
+    }
+
     public BackgroundManager getBackground() {
         return backgroundManager;
     }
@@ -0,0 +1,84 @@
+package com.space.game;
+
+/**
+ * Fixed-timestep simulation clock.
+ *
+ * Game feeds it the real frame delta once per frame; the gameplay loop then
+ * asks how many fixed steps to run and uses {@link #getStep()} as its delta,
+ * so physics behaves the same at 30 fps and at 240 fps. {@link #getAlpha()}
+ * tells renderers how far the frame is between the last two simulation ticks.
+ */
+public class GameClock {
+    public static final float DEFAULT_STEP = 1f / 120f;
+
+    // A frame longer than this (GC pause, tab switch, window drag) is treated as this long
+    private static final float MAX_FRAME_DELTA = 0.25f;
+    // Spiral-of-death guard: leftover time beyond this many steps is dropped
+    private static final int MAX_STEPS_PER_FRAME = 8;
+
+    private final float step;
+    private float accumulator;
+    private float frameDelta;
+    private long tick;
+
+    public GameClock() {
+        this(DEFAULT_STEP);
+    }
+
+    public GameClock(float step) {
+        this.step = step;
+    }
+
+    /**
+     * Records the real time elapsed since the previous frame.
+     */
+    public void beginFrame(float rawDelta) {
+        frameDelta = Math.max(0f, Math.min(rawDelta, MAX_FRAME_DELTA));
+    }
+
+    /**
+     * Adds this frame's time to the simulation and consumes it in whole steps.
+     *
+     * @return number of fixed steps the caller should simulate this frame
+     */
+    public int advance() {
+        accumulator += frameDelta;
+        int steps = 0;
+        while (accumulator >= step && steps < MAX_STEPS_PER_FRAME) {
+            accumulator -= step;
+            steps++;
+        }
+        if (steps == MAX_STEPS_PER_FRAME && accumulator >= step) {
+            accumulator = accumulator % step;
+        }
+        tick += steps;
+        return steps;
+    }
+
+    /**
+     * Drops any accumulated, not yet simulated time (e.g. when resuming from a
+     * pause) so the simulation does not try to catch up.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    /** Simulation delta: the fixed step length in seconds. */
+    public float getStep() {
+        return step;
+    }
+
+    /** Real (clamped) duration of the current frame; for purely visual timers. */
+    public float getFrameDelta() {
+        return frameDelta;
+    }
+
+    /** Interpolation factor in [0, 1] between the previous and the current simulation tick. */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / step);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+}
@@ -0,0 +1,40 @@
+package com.space.game;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * A seedable random stream with the MathUtils helpers, same formulas, so
+ * code moved off the global MathUtils.random draws the same distributions.
+ * Streams are handed out by {@link com.space.game.managers.RandomManager}.
+ */
+public class GameRandom extends RandomXS128 {
+
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    /** Like MathUtils.random(int, int): inclusive on both ends. */
+    public int range(int start, int end) {
+        return start + nextInt(end - start + 1);
+    }
+
+    /** Like MathUtils.random(float, float): start inclusive, end exclusive. */
+    public float range(float start, float end) {
+        return start + nextFloat() * (end - start);
+    }
+
+    /** Like MathUtils.randomBoolean(float): true with the given probability. */
+    public boolean chance(float chance) {
+        return nextFloat() < chance;
+    }
+
+    /** Like MathUtils.randomTriangular(float, float, float). */
+    public float triangular(float min, float max, float mode) {
+        float u = nextFloat();
+        float d = max - min;
+        if (u <= (mode - min) / d) {
+            return min + (float) Math.sqrt(u * d * (mode - min));
+        }
+        return max - (float) Math.sqrt((1 - u) * d * (max - mode));
+    }
+}
@@ -0,0 +1,178 @@
+package com.space.game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * One run's input: the session seed plus every key press and release,
+ * stamped with the simulation tick it arrived before. Feeding the same
+ * events to the level's InputManager at the same ticks, from the same seed
+ * and step, plays the run back exactly.
+ *
+ * Binary layout (big-endian):
+ * "SGRP", version byte, seed (8 bytes), step (float bits, 4 bytes),
+ * varint tick count, varint event count, then per event
+ * varint (ticks since previous event << 1 | pressed) and the keycode byte.
+ * Hand-rolled on a ByteArray so it also works in the GWT build.
+ */
+public class Replay {
+    private static final byte[] MAGIC = { 'S', 'G', 'R', 'P' };
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final float step;
+    private int ticks;
+    private final IntArray eventTicks = new IntArray();
+    private final IntArray keycodes = new IntArray();
+    private final BooleanArray pressed = new BooleanArray();
+
+    public Replay(long seed, float step) {
+        this.seed = seed;
+        this.step = step;
+    }
+
+    /** Appends an event; ticks must not go backwards. */
+    public void record(int tick, boolean down, int keycode) {
+        eventTicks.add(tick);
+        keycodes.add(keycode);
+        pressed.add(down);
+        ticks = Math.max(ticks, tick);
+    }
+
+    /** Marks how many ticks the run lasted (the last events may be followed by idle ticks). */
+    public void setTicks(int ticks) {
+        this.ticks = Math.max(this.ticks, ticks);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public int getEventCount() {
+        return eventTicks.size;
+    }
+
+    public int getEventTick(int event) {
+        return eventTicks.get(event);
+    }
+
+    public int getKeycode(int event) {
+        return keycodes.get(event);
+    }
+
+    public boolean isPressed(int event) {
+        return pressed.get(event);
+    }
+
+    public byte[] toBytes() {
+        ByteArray out = new ByteArray(32 + eventTicks.size * 2);
+        out.addAll(MAGIC);
+        out.add((byte) VERSION);
+        writeLong(out, seed);
+        writeInt(out, Float.floatToIntBits(step));
+        writeVarint(out, ticks);
+        writeVarint(out, eventTicks.size);
+        int previous = 0;
+        for (int i = 0; i < eventTicks.size; i++) {
+            int tick = eventTicks.get(i);
+            writeVarint(out, (tick - previous) << 1 | (pressed.get(i) ? 1 : 0));
+            out.add((byte) keycodes.get(i));
+            previous = tick;
+        }
+        return out.toArray();
+    }
+
+    public static Replay fromBytes(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (in.readByte() != MAGIC[i]) {
+                throw new GdxRuntimeException("Not a replay file");
+            }
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Unsupported replay version " + version);
+        }
+        long seed = (long) in.readInt() << 32 | (in.readInt() & 0xFFFFFFFFL);
+        Replay replay = new Replay(seed, Float.intBitsToFloat(in.readInt()));
+        int ticks = in.readVarint();
+        int count = in.readVarint();
+        int tick = 0;
+        for (int i = 0; i < count; i++) {
+            int packed = in.readVarint();
+            tick += packed >>> 1;
+            replay.record(tick, (packed & 1) != 0, in.readByte());
+        }
+        replay.setTicks(ticks);
+        return replay;
+    }
+
+    public void save(FileHandle file) {
+        file.writeBytes(toBytes(), false);
+    }
+
+    public static Replay load(FileHandle file) {
+        return fromBytes(file.readBytes());
+    }
+
+    private static void writeLong(ByteArray out, long value) {
+        writeInt(out, (int) (value >>> 32));
+        writeInt(out, (int) value);
+    }
+
+    private static void writeInt(ByteArray out, int value) {
+        out.add((byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value);
+    }
+
+    // 7 bits per byte, high bit set on all but the last
+    private static void writeVarint(ByteArray out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.add((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.add((byte) value);
+    }
+
+    private static class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new GdxRuntimeException("Truncated replay file");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        int readInt() {
+            return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new GdxRuntimeException("Malformed replay file");
+        }
+    }
+}
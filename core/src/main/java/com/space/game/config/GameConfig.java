@@ -81,6 +81,10 @@ public class GameConfig {
   public static final float COOLDOWN_INTENSE_MIN = 0.8f;
   public static final float COOLDOWN_INTENSE_MAX = 1.5f;
 
+  // Spawn scheduler: a batch is queued and created over the following ticks
+  public static final int SPAWNS_PER_TICK = 1; // Aliens created per simulation tick (120 per second)
+  public static final int ALIEN_POOL_SIZE = ABSOLUTE_MAX_ALIENS_ON_SCREEN; // Recycled aliens kept per type
+
   // ============================================================================
   // BOSS CONFIGURATION
   // ============================================================================
@@ -134,12 +138,79 @@ public class GameConfig {
   // Baby Boomer explosion
   public static final float BABY_EXPLOSION_RADIUS = 400f;
   public static final float BABY_KNOCKBACK_FORCE = 200f;
+  public static final boolean BOOMER_CHAIN_EXPLOSIONS = false; // Babies killed by a blast detonate too
 
   // Baby Boomer spawn chances (after level 10)
   public static final float BABY_BOOMER_CHANCE_AFTER_LEVEL_10 = 0.01f; // 1% chance
   public static final int MAX_BABY_BOOMERS_PER_WAVE = 2;
   public static final int MAX_ACTIVE_BABY_BOOMERS = 1;
 
+  // ============================================================================
+  // COLLISION CONFIGURATION
+  // ============================================================================
+
+  // Test the whole path a bullet travelled this frame instead of only its end
+  // position (prevents fast/charged shots skipping small aliens on frame drops)
+  public static final boolean SWEPT_BULLET_COLLISION = true;
+
+  // ============================================================================
+  // BACKGROUND CONFIGURATION
+  // ============================================================================
+
+  // Procedural background stars; the GPU path keeps the same cost at tens of thousands
+  public static final int BACKGROUND_STAR_COUNT = 400;
+  // Stars drawn from a static mesh animated in a shader; false forces one sprite per star on the CPU
+  public static final boolean GPU_STARFIELD = true;
+
+  // ============================================================================
+  // POST-PROCESSING CONFIGURATION
+  // ============================================================================
+
+  // Scene resolution as a fraction of the window (upscaled after the passes); lower trades sharpness for speed
+  public static final float RENDER_SCALE = 1.0f;
+  public static final float MIN_RENDER_SCALE = 0.5f;
+
+  // Pass intensities; a pass at 0 is skipped entirely
+  public static final float VIGNETTE_INTENSITY = 1.0f;
+  public static final float VIGNETTE_SPREAD = 0.15f;
+  public static final float ABERRATION_INTENSITY = 0.003f;
+
+  // Bloom is off until a massive explosion pulses it, then fades back out
+  public static final float BLOOM_EXPLOSION_INTENSITY = 1.2f;
+  public static final float BLOOM_FADE_PER_SECOND = 1.5f;
+  public static final float BLOOM_THRESHOLD = 0.6f;
+  public static final float BLOOM_RADIUS = 3.0f; // texels
+
+  // Dynamic resolution: lowers the render scale (then particles and stars) when frames miss TARGET_FPS
+  public static final boolean DYNAMIC_RESOLUTION = true;
+  public static final float TARGET_FPS = 60f;
+
+  // ============================================================================
+  // LOADING CONFIGURATION
+  // ============================================================================
+
+  // Milliseconds per frame spent streaming assets in (intro and menu stay responsive meanwhile)
+  public static final int ASSET_STREAM_MILLIS = 10;
+
+  // ============================================================================
+  // AUDIO CONFIGURATION
+  // ============================================================================
+
+  // Effect voices playing at once across all mixed sounds; past this, lower priority voices are stolen
+  public static final int SOUND_MAX_VOICES = 12;
+  // Each extra request for a sound in the same frame adds this share of its volume to the single voice played
+  public static final float SOUND_DEDUP_GAIN = 0.25f;
+
+  // ============================================================================
+  // DEBUG CONFIGURATION
+  // ============================================================================
+
+  // Runs the brute-force bullet/alien scan next to the grid broadphase and logs any mismatch
+  public static final boolean DEBUG_COLLISION_CROSSCHECK = false;
+
+  // Profiler overlay: CPU time per subsystem, draw calls, texture binds (toggle in game with F3, dump with F4)
+  public static final boolean DEBUG_PROFILER = false;
+
   // ============================================================================
   // DEPRECATED / UNUSED CONFIGURATION
   // ============================================================================
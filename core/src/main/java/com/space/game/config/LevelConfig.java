@@ -1,12 +1,11 @@
 package com.space.game.config;
 
-import java.util.List;
-
 public class LevelConfig {
     private final int levelNumber;
     private final int enemyCount;
     private final float enemySpeed;
-    private final List<Integer> enemyMovementPatterns;
+    // One pattern per enemy, in spawn order; shared and never modified
+    private final int[] enemyMovementPatterns;
     private final int ammunitions;
     private final int kills;
     private final int streak;
@@ -43,7 +42,8 @@ public class LevelConfig {
         return enemySpeed;
     }
 
-    public List<Integer> getEnemyMovementPatterns() {
+    /** Read-only: spawners keep their own cursor into it. */
+    public int[] getEnemyMovementPatterns() {
         return enemyMovementPatterns;
     }
 
@@ -75,6 +75,26 @@ public class LevelConfig {
         return theme;
     }
 
+    /**
+     * Same level with the player's resources and stats replaced; used when a
+     * config generated ahead of time is finally played.
+     */
+    public LevelConfig withPlayerStats(int ammunitions, int kills, int streak, int consecutiveKills) {
+        return builder()
+                .levelNumber(levelNumber)
+                .enemyCount(enemyCount)
+                .enemySpeed(enemySpeed)
+                .enemyMovementPatterns(enemyMovementPatterns)
+                .ammunitions(ammunitions)
+                .kills(kills)
+                .streak(streak)
+                .consecutiveKills(consecutiveKills)
+                .darkLevel(darkLevel)
+                .swarmWarning(swarmWarning)
+                .theme(theme)
+                .build();
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -83,7 +103,7 @@ public class LevelConfig {
         private int levelNumber;
         private int enemyCount;
         private float enemySpeed;
-        private List<Integer> enemyMovementPatterns;
+        private int[] enemyMovementPatterns;
         private int ammunitions;
         private int kills;
         private int streak;
@@ -107,7 +127,7 @@ public class LevelConfig {
             return this;
         }
 
-        public Builder enemyMovementPatterns(List<Integer> enemyMovementPatterns) {
+        public Builder enemyMovementPatterns(int[] enemyMovementPatterns) {
             this.enemyMovementPatterns = enemyMovementPatterns;
             return this;
         }
@@ -149,7 +169,7 @@ public class LevelConfig {
 
         public LevelConfig build() {
             // Validação movida para o método build
-            if (enemyMovementPatterns != null && enemyMovementPatterns.size() != enemyCount) {
+            if (enemyMovementPatterns != null && enemyMovementPatterns.length != enemyCount) {
                 throw new IllegalArgumentException("The size of enemyMovementPatterns must match enemyCount");
             }
             if (theme == null) {
@@ -1,7 +1,5 @@
 package com.space.game.config;
 
-import java.util.List;
-
 /**
  * Interface Builder para construção de configurações de nível
  * Seguindo o padrão Builder com etapas bem definidas
@@ -21,7 +19,7 @@ public interface LevelConfigBuilder {
     /**
      * Define os padrões de movimento dos inimigos
      */
-    LevelConfigBuilder setMovementPatterns(List<Integer> patterns);
+    LevelConfigBuilder setMovementPatterns(int[] patterns);
 
     /**
      * Configura os recursos do jogador
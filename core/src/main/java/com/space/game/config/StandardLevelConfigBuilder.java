@@ -1,7 +1,5 @@
 package com.space.game.config;
 
-import java.util.List;
-
 /**
  * Builder concreto para construção de configurações padrão de níveis
  * Implementa a interface LevelConfigBuilder
@@ -28,7 +26,7 @@ public class StandardLevelConfigBuilder implements LevelConfigBuilder {
     }
 
     @Override
-    public LevelConfigBuilder setMovementPatterns(List<Integer> patterns) {
+    public LevelConfigBuilder setMovementPatterns(int[] patterns) {
         configBuilder.enemyMovementPatterns(patterns);
         return this;
     }
@@ -0,0 +1,78 @@
+package com.space.game.ecs;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.space.game.entities.Alien;
+
+/**
+ * Keeps an {@link Alien} and its entity in step.
+ *
+ * Aliens keep their behaviour as objects (hit flash, boss rest and
+ * detonation states, per-type rendering); movement is batched by the
+ * {@link AlienMovementSystem}. What the systems iterate
+ * (position, bounds, health, type, dead flag, speed) is copied into the world
+ * with {@link #push} after anything changes the alien. The AlienManager pushes
+ * after every update; the {@link DamageSystem} after every hit.
+ */
+public final class AlienAdapter {
+
+    private AlienAdapter() {
+    }
+
+    /** Creates the alien's entity, at the end of the world (spawn order). */
+    public static int attach(EntityWorld world, Alien alien, int movementPattern) {
+        int id = world.create(EntityWorld.KIND_ALIEN,
+                EntityWorld.POSITION | EntityWorld.BOUNDS | EntityWorld.HEALTH | EntityWorld.MOVEMENT, alien);
+        alien.setEntity(id);
+        int i = world.indexOf(id);
+        world.type[i] = alien.getType().ordinal();
+        world.movePattern[i] = movementPattern;
+        pushAt(world, i, alien);
+        return id;
+    }
+
+    public static void detach(EntityWorld world, Alien alien) {
+        world.destroy(alien.getEntity());
+        alien.setEntity(-1);
+    }
+
+    public static void push(EntityWorld world, Alien alien) {
+        int i = world.indexOf(alien.getEntity());
+        if (i >= 0) {
+            pushAt(world, i, alien);
+        }
+    }
+
+    private static void pushAt(EntityWorld world, int i, Alien alien) {
+        Vector2 position = alien.getPosition();
+        Vector2 previous = alien.getPreviousPosition();
+        world.x[i] = position.x;
+        world.y[i] = position.y;
+        world.prevX[i] = previous.x;
+        world.prevY[i] = previous.y;
+
+        Rectangle bounds = alien.getBounds();
+        if (bounds != null) {
+            world.boundsX[i] = bounds.x;
+            world.boundsY[i] = bounds.y;
+            world.boundsWidth[i] = bounds.width;
+            world.boundsHeight[i] = bounds.height;
+        } else {
+            // No texture, no size: a point at the position
+            world.boundsX[i] = position.x;
+            world.boundsY[i] = position.y;
+            world.boundsWidth[i] = 0;
+            world.boundsHeight[i] = 0;
+        }
+
+        world.hp[i] = alien.getHp();
+        world.maxHp[i] = alien.getMaxHp();
+        world.moveSpeed[i] = alien.getSpeed();
+        world.setDead(i, alien.isDead());
+    }
+
+    /** The alien behind an alien entity's dense index. */
+    public static Alien get(EntityWorld world, int index) {
+        return (Alien) world.owner[index];
+    }
+}
@@ -0,0 +1,104 @@
+package com.space.game.ecs;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.space.game.GameRandom;
+import com.space.game.SpaceGame;
+import com.space.game.entities.Alien;
+import com.space.game.entities.Spaceship;
+import com.space.game.entities.movements.LinearMovement;
+import com.space.game.entities.movements.MovementBatch;
+import com.space.game.entities.movements.MovementFrame;
+import com.space.game.entities.movements.MovementStrategy;
+import com.space.game.entities.movements.SpiralMovement;
+import com.space.game.entities.movements.WaveMovement;
+
+/**
+ * Moves aliens one strategy at a time: the aliens that move this tick are
+ * gathered into one {@link MovementBatch} per movement kind, each strategy
+ * runs once over its batch, and the results are copied back to the aliens.
+ *
+ * Strategy state persists in the world's move* columns. An alien whose
+ * movement kind differs from the one its state was made for (just spawned,
+ * or switched to linear on death) has its state started by the strategy.
+ */
+public class AlienMovementSystem {
+    private static final MovementStrategy[] STRATEGIES = new MovementStrategy[MovementStrategy.KINDS];
+
+    static {
+        STRATEGIES[MovementStrategy.LINEAR] = new LinearMovement();
+        STRATEGIES[MovementStrategy.WAVE] = new WaveMovement();
+        STRATEGIES[MovementStrategy.SPIRAL] = new SpiralMovement();
+    }
+
+    private final EntityWorld world;
+    private final MovementFrame frame;
+    private final MovementBatch[] batches = new MovementBatch[MovementStrategy.KINDS];
+
+    public AlienMovementSystem(EntityWorld world, GameRandom random) {
+        this.world = world;
+        this.frame = new MovementFrame(random);
+        for (int i = 0; i < batches.length; i++) {
+            batches[i] = new MovementBatch();
+        }
+    }
+
+    /** Opens a pass: hoists the ship centre and world size and empties the batches. */
+    public void begin(Spaceship spaceship, float deltaTime) {
+        frame.set(spaceship, SpaceGame.getGame().getWorldWidth(), SpaceGame.getGame().getWorldHeight(), deltaTime);
+        for (int i = 0; i < batches.length; i++) {
+            batches[i].clear();
+        }
+    }
+
+    /** Queues an attached alien to be moved by {@link #run()}. */
+    public void add(Alien alien) {
+        int i = world.indexOf(alien.getEntity());
+        if (i < 0) {
+            return;
+        }
+        int kind = alien.getMovement();
+        MovementBatch batch = batches[kind];
+        int row = batch.add(i);
+
+        Vector2 position = alien.getPosition();
+        Rectangle bounds = alien.getBounds();
+        batch.x[row] = position.x;
+        batch.y[row] = position.y;
+        batch.width[row] = bounds != null ? bounds.width : 0;
+        batch.height[row] = bounds != null ? bounds.height : 0;
+        batch.speed[row] = alien.getSpeed();
+
+        if (world.moveKind[i] != kind) {
+            world.moveKind[i] = kind;
+            STRATEGIES[kind].start(batch, row, frame);
+        } else {
+            batch.time[row] = world.moveTime[i];
+            batch.paramA[row] = world.moveParamA[i];
+            batch.paramB[row] = world.moveParamB[i];
+            batch.radius[row] = world.moveRadius[i];
+            batch.timer[row] = world.moveTimer[i];
+        }
+    }
+
+    /** Runs every strategy over its batch and writes positions and state back. */
+    public void run() {
+        for (int kind = 0; kind < batches.length; kind++) {
+            MovementBatch batch = batches[kind];
+            if (batch.size == 0) {
+                continue;
+            }
+            STRATEGIES[kind].moveAll(batch, frame);
+
+            for (int row = 0; row < batch.size; row++) {
+                int i = batch.source[row];
+                AlienAdapter.get(world, i).getPosition().set(batch.x[row], batch.y[row]);
+                world.moveTime[i] = batch.time[row];
+                world.moveParamA[i] = batch.paramA[row];
+                world.moveParamB[i] = batch.paramB[row];
+                world.moveRadius[i] = batch.radius[row];
+                world.moveTimer[i] = batch.timer[row];
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.space.game.ecs;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.space.game.entities.Bullet;
+import com.space.game.graphics.RenderQueue;
+
+/**
+ * Bullets live in the world: the {@link MovementSystem} moves them and the
+ * {@link RenderSystem} draws them. The pooled {@link Bullet} object keeps the
+ * gameplay state (charged, kill count, spent) and copies of its position and
+ * bounds, {@link #pull}ed after every movement pass so the collision code
+ * reads them as before.
+ */
+public final class BulletAdapter {
+    private static final float CHARGED_COLOR = Color.toFloatBits(0.2f, 1.0f, 1.0f, 1.0f); // Cyan
+    private static final float TINT_ALPHA = 0.77f;
+
+    private BulletAdapter() {
+    }
+
+    /** Creates the entity of a freshly initialised bullet. */
+    public static int attach(EntityWorld world, Bullet bullet) {
+        int id = world.create(EntityWorld.KIND_BULLET,
+                EntityWorld.POSITION | EntityWorld.VELOCITY | EntityWorld.BOUNDS | EntityWorld.RENDER, bullet);
+        bullet.bind(world, id);
+        int i = world.indexOf(id);
+
+        world.x[i] = bullet.getPosition().x;
+        world.y[i] = bullet.getPosition().y;
+        world.prevX[i] = bullet.getPreviousPosition().x;
+        world.prevY[i] = bullet.getPreviousPosition().y;
+
+        float radianAngle = MathUtils.degreesToRadians * bullet.getAngle();
+        world.vx[i] = bullet.getSpeed() * MathUtils.cos(radianAngle);
+        world.vy[i] = bullet.getSpeed() * MathUtils.sin(radianAngle);
+
+        world.boundsX[i] = bullet.getBounds().x;
+        world.boundsY[i] = bullet.getBounds().y;
+        world.boundsWidth[i] = bullet.getBounds().width;
+        world.boundsHeight[i] = bullet.getBounds().height;
+
+        TextureRegion region = bullet.getRegion();
+        world.region[i] = region;
+        world.layer[i] = RenderQueue.LAYER_BULLETS;
+        world.width[i] = region.getRegionWidth();
+        world.height[i] = region.getRegionHeight();
+        world.originX[i] = region.getRegionWidth() / 2;
+        world.originY[i] = region.getRegionHeight() / 2;
+        world.scale[i] = bullet.getScale();
+        world.rotation[i] = bullet.getAngle() + 90;
+        if (bullet.isCharged()) {
+            world.color[i] = CHARGED_COLOR;
+        } else {
+            world.tintAlpha[i] = TINT_ALPHA;
+        }
+        return id;
+    }
+
+    /** Copies this tick's movement into the bullet's position, previous position and bounds. */
+    public static void pull(EntityWorld world, Bullet bullet) {
+        int i = world.indexOf(bullet.getEntity());
+        if (i < 0) {
+            return;
+        }
+        bullet.getPreviousPosition().set(world.prevX[i], world.prevY[i]);
+        bullet.getPosition().set(world.x[i], world.y[i]);
+        bullet.getBounds().setPosition(world.boundsX[i], world.boundsY[i]);
+    }
+
+    public static void detach(EntityWorld world, Bullet bullet) {
+        world.destroy(bullet.getEntity());
+    }
+}
@@ -0,0 +1,103 @@
+package com.space.game.ecs;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.space.game.managers.SpatialGrid;
+
+/**
+ * Broadphase and area queries over the world's dense bounds.
+ *
+ * {@link #rebuild} buckets every live entity of one kind into a
+ * {@link SpatialGrid} by dense index; queries answer dense indices in
+ * ascending (spawn) order. Indices stay valid until the world is next
+ * compacted, so the grid is only trusted between rebuild() and
+ * {@link #invalidate()}.
+ */
+public class CollisionSystem {
+    private final EntityWorld world;
+    private final SpatialGrid grid = new SpatialGrid();
+    private final Rectangle queryBounds = new Rectangle();
+    private boolean valid;
+
+    public CollisionSystem(EntityWorld world) {
+        this.world = world;
+    }
+
+    public void rebuild(int kind, float minX, float minY, float width, float height, float cellSize) {
+        grid.setBounds(minX, minY, width, height, cellSize);
+        grid.clear();
+        for (int i = 0, n = world.size(); i < n; i++) {
+            if (world.isLive(i, kind) && (world.mask[i] & EntityWorld.BOUNDS) != 0) {
+                grid.insert(i, world.boundsX[i], world.boundsY[i], world.boundsWidth[i], world.boundsHeight[i]);
+            }
+        }
+        valid = true;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public void invalidate() {
+        valid = false;
+    }
+
+    /** Adds the entity's current bounds (after it moved) so later queries still find it. */
+    public void reinsert(int index) {
+        grid.insert(index, world.boundsX[index], world.boundsY[index], world.boundsWidth[index],
+                world.boundsHeight[index]);
+    }
+
+    /** Candidates whose cells the box touches; reused by the next query. */
+    public IntArray query(Rectangle bounds) {
+        return grid.query(bounds);
+    }
+
+    /** Same test as Rectangle.overlaps, against the entity's bounds. */
+    public boolean overlaps(int index, Rectangle r) {
+        float x = world.boundsX[index];
+        float y = world.boundsY[index];
+        return x < r.x + r.width && x + world.boundsWidth[index] > r.x
+                && y < r.y + r.height && y + world.boundsHeight[index] > r.y;
+    }
+
+    /**
+     * Live, not dead entities of the kind (except {@code excludeIndex}) whose
+     * centre, taken as position plus half the bounds size, lies strictly inside
+     * the circle, in ascending index order. Uses the grid when it is valid;
+     * {@code margin} covers entities whose bounds sit away from their position.
+     *
+     * @return {@code out}, cleared and refilled
+     */
+    public IntArray queryRadius(int kind, float cx, float cy, float radius, float margin, int excludeIndex,
+            IntArray out) {
+        out.clear();
+        float radius2 = radius * radius;
+        if (valid) {
+            float reach = radius + margin;
+            IntArray candidates = grid.query(queryBounds.set(cx - reach, cy - reach, reach * 2, reach * 2));
+            for (int c = 0; c < candidates.size; c++) {
+                int i = candidates.get(c);
+                if (isInRadius(i, kind, excludeIndex, cx, cy, radius2)) {
+                    out.add(i);
+                }
+            }
+        } else {
+            for (int i = 0, n = world.size(); i < n; i++) {
+                if (isInRadius(i, kind, excludeIndex, cx, cy, radius2)) {
+                    out.add(i);
+                }
+            }
+        }
+        return out;
+    }
+
+    private boolean isInRadius(int i, int kind, int excludeIndex, float cx, float cy, float radius2) {
+        if (i == excludeIndex || !world.isLive(i, kind) || (world.flags[i] & EntityWorld.FLAG_DEAD) != 0) {
+            return false;
+        }
+        float dx = world.x[i] + world.boundsWidth[i] / 2 - cx;
+        float dy = world.y[i] + world.boundsHeight[i] / 2 - cy;
+        return dx * dx + dy * dy < radius2;
+    }
+}
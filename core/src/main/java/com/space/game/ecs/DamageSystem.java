@@ -0,0 +1,36 @@
+package com.space.game.ecs;
+
+import com.space.game.entities.Alien;
+
+/**
+ * Applies damage and knockback to aliens and keeps their entities current,
+ * so the collision queries later in the same frame see who died or moved.
+ * The rules themselves (boss rest, detonation immunity) stay on the alien.
+ *
+ * Also answers the health questions the spawner asks every tick, from the
+ * world's alive counts instead of the alien objects.
+ */
+public class DamageSystem {
+    private final EntityWorld world;
+
+    public DamageSystem(EntityWorld world) {
+        this.world = world;
+    }
+
+    /** @return true if this damage killed the alien */
+    public boolean apply(Alien alien, int damage) {
+        boolean killed = alien.takeDamage(damage);
+        AlienAdapter.push(world, alien);
+        return killed;
+    }
+
+    public void knockback(Alien alien, float force) {
+        alien.applyKnockback(force);
+        AlienAdapter.push(world, alien);
+    }
+
+    /** Entities of the kind that are neither dead nor destroyed. */
+    public int countAlive(int kind) {
+        return world.countAlive(kind);
+    }
+}
@@ -0,0 +1,346 @@
+package com.space.game.ecs;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.Arrays;
+
+/**
+ * Dense storage for the playfield's entities: one array per component field,
+ * indexed by a dense index that systems walk linearly.
+ *
+ * Entities are referred to by a stable id ({@link #create}); the dense index
+ * of an id only changes when {@link #compact()} closes the gaps left by
+ * {@link #destroy}ed entities. Compaction keeps the creation order, so
+ * iterating the world visits entities in the order they were spawned (the
+ * order the alien list had, which collision tie-breaks rely on).
+ *
+ * Which components an entity has is a bit mask; a field of a component the
+ * entity lacks holds garbage. Destroyed entities stay in place, flagged
+ * {@link #FLAG_DESTROYED}, until the next compact(); systems skip them.
+ *
+ * Objects that still own behaviour or are referenced by gameplay code are
+ * attached as the entity's owner and kept in step by an adapter: aliens are
+ * pushed in ({@link AlienAdapter}), bullets are pulled out
+ * ({@link BulletAdapter}).
+ */
+public class EntityWorld {
+
+    // Kinds
+    public static final int KIND_ALIEN = 0;
+    public static final int KIND_BULLET = 1;
+    private static final int KINDS = 2;
+
+    // Components
+    public static final int POSITION = 1; // x, y and the previous tick's x, y
+    public static final int VELOCITY = 1 << 1; // vx, vy in world units per second
+    public static final int BOUNDS = 1 << 2; // collision box, absolute
+    public static final int HEALTH = 1 << 3; // hp, max hp
+    public static final int MOVEMENT = 1 << 4; // movement pattern, speed and strategy state (see AlienMovementSystem)
+    public static final int RENDER = 1 << 5; // region, size, origin, scale, rotation, color
+
+    // Flags
+    public static final int FLAG_DEAD = 1;
+    public static final int FLAG_DESTROYED = 1 << 1;
+
+    private int capacity;
+    private int size;
+    private boolean dirty; // Some entity was destroyed since the last compact()
+    // Per kind: entities neither dead nor destroyed, kept by create/destroy/setDead
+    private final int[] aliveCount = new int[KINDS];
+
+    // Id <-> dense index
+    private int[] indexOfId;
+    private int[] idAt;
+    private int[] freeIds;
+    private int freeIdCount;
+    private int nextId;
+
+    int[] kind;
+    int[] mask;
+    int[] flags;
+    int[] type; // Kind-specific subtype (alien type ordinal)
+    Object[] owner;
+
+    float[] x, y, prevX, prevY;
+    float[] vx, vy;
+    float[] boundsX, boundsY, boundsWidth, boundsHeight;
+    int[] hp, maxHp;
+    int[] movePattern;
+    float[] moveSpeed;
+    int[] moveKind; // MovementStrategy kind the state below belongs to, -1 before the first move
+    float[] moveTime, moveParamA, moveParamB, moveRadius, moveTimer;
+
+    TextureRegion[] region;
+    int[] layer;
+    float[] width, height, originX, originY, scale, rotation;
+    float[] color; // Packed color, used when tintAlpha is negative
+    float[] tintAlpha; // >= 0: draw in the level tint with this alpha
+
+    public EntityWorld() {
+        this(256);
+    }
+
+    public EntityWorld(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        indexOfId = grow(indexOfId, newCapacity);
+        idAt = grow(idAt, newCapacity);
+        freeIds = grow(freeIds, newCapacity);
+        kind = grow(kind, newCapacity);
+        mask = grow(mask, newCapacity);
+        flags = grow(flags, newCapacity);
+        type = grow(type, newCapacity);
+        owner = owner == null ? new Object[newCapacity] : Arrays.copyOf(owner, newCapacity);
+        x = grow(x, newCapacity);
+        y = grow(y, newCapacity);
+        prevX = grow(prevX, newCapacity);
+        prevY = grow(prevY, newCapacity);
+        vx = grow(vx, newCapacity);
+        vy = grow(vy, newCapacity);
+        boundsX = grow(boundsX, newCapacity);
+        boundsY = grow(boundsY, newCapacity);
+        boundsWidth = grow(boundsWidth, newCapacity);
+        boundsHeight = grow(boundsHeight, newCapacity);
+        hp = grow(hp, newCapacity);
+        maxHp = grow(maxHp, newCapacity);
+        movePattern = grow(movePattern, newCapacity);
+        moveSpeed = grow(moveSpeed, newCapacity);
+        moveKind = grow(moveKind, newCapacity);
+        moveTime = grow(moveTime, newCapacity);
+        moveParamA = grow(moveParamA, newCapacity);
+        moveParamB = grow(moveParamB, newCapacity);
+        moveRadius = grow(moveRadius, newCapacity);
+        moveTimer = grow(moveTimer, newCapacity);
+        region = region == null ? new TextureRegion[newCapacity] : Arrays.copyOf(region, newCapacity);
+        layer = grow(layer, newCapacity);
+        width = grow(width, newCapacity);
+        height = grow(height, newCapacity);
+        originX = grow(originX, newCapacity);
+        originY = grow(originY, newCapacity);
+        scale = grow(scale, newCapacity);
+        rotation = grow(rotation, newCapacity);
+        color = grow(color, newCapacity);
+        tintAlpha = grow(tintAlpha, newCapacity);
+    }
+
+    private static int[] grow(int[] array, int newCapacity) {
+        return array == null ? new int[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    private static float[] grow(float[] array, int newCapacity) {
+        return array == null ? new float[newCapacity] : Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * Adds an entity at the end of the dense arrays.
+     *
+     * @param owner the object still driving this entity's behaviour, or null
+     * @return its id, valid until {@link #destroy}
+     */
+    public int create(int kind, int mask, Object owner) {
+        if (size == capacity) {
+            allocate(capacity * 2);
+        }
+        int id = freeIdCount > 0 ? freeIds[--freeIdCount] : nextId++;
+        int i = size++;
+        indexOfId[id] = i;
+        idAt[i] = id;
+        this.kind[i] = kind;
+        this.mask[i] = mask;
+        this.owner[i] = owner;
+        flags[i] = 0;
+        aliveCount[kind]++;
+        type[i] = 0;
+        moveKind[i] = -1;
+        region[i] = null;
+        tintAlpha[i] = -1f;
+        return id;
+    }
+
+    /** Flags the entity; it is skipped from now on and removed by the next {@link #compact()}. */
+    public void destroy(int id) {
+        int i = indexOf(id);
+        if (i < 0 || (flags[i] & FLAG_DESTROYED) != 0) {
+            return;
+        }
+        if ((flags[i] & FLAG_DEAD) == 0) {
+            aliveCount[kind[i]]--;
+        }
+        flags[i] |= FLAG_DESTROYED;
+        owner[i] = null;
+        region[i] = null;
+        dirty = true;
+    }
+
+    /**
+     * Closes the gaps left by destroyed entities, keeping the order of the
+     * rest, and releases their ids. One linear pass; a no-op when nothing was
+     * destroyed.
+     */
+    public void compact() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if ((flags[read] & FLAG_DESTROYED) != 0) {
+                indexOfId[idAt[read]] = -1;
+                freeIds[freeIdCount++] = idAt[read];
+                continue;
+            }
+            if (write != read) {
+                move(read, write);
+            }
+            write++;
+        }
+        for (int i = write; i < size; i++) {
+            owner[i] = null;
+            region[i] = null;
+        }
+        size = write;
+    }
+
+    private void move(int from, int to) {
+        int id = idAt[from];
+        idAt[to] = id;
+        indexOfId[id] = to;
+        kind[to] = kind[from];
+        mask[to] = mask[from];
+        flags[to] = flags[from];
+        type[to] = type[from];
+        owner[to] = owner[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        prevX[to] = prevX[from];
+        prevY[to] = prevY[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        boundsX[to] = boundsX[from];
+        boundsY[to] = boundsY[from];
+        boundsWidth[to] = boundsWidth[from];
+        boundsHeight[to] = boundsHeight[from];
+        hp[to] = hp[from];
+        maxHp[to] = maxHp[from];
+        movePattern[to] = movePattern[from];
+        moveSpeed[to] = moveSpeed[from];
+        moveKind[to] = moveKind[from];
+        moveTime[to] = moveTime[from];
+        moveParamA[to] = moveParamA[from];
+        moveParamB[to] = moveParamB[from];
+        moveRadius[to] = moveRadius[from];
+        moveTimer[to] = moveTimer[from];
+        region[to] = region[from];
+        layer[to] = layer[from];
+        width[to] = width[from];
+        height[to] = height[from];
+        originX[to] = originX[from];
+        originY[to] = originY[from];
+        scale[to] = scale[from];
+        rotation[to] = rotation[from];
+        color[to] = color[from];
+        tintAlpha[to] = tintAlpha[from];
+    }
+
+    /** Drops components from a live entity (e.g. RENDER from a spent bullet still awaiting removal). */
+    public void removeComponents(int id, int components) {
+        int i = indexOf(id);
+        if (i >= 0) {
+            mask[i] &= ~components;
+        }
+    }
+
+    /** Dense index of a live id, or -1. */
+    public int indexOf(int id) {
+        return id >= 0 && id < nextId ? indexOfId[id] : -1;
+    }
+
+    public int idAt(int index) {
+        return idAt[index];
+    }
+
+    /** Dense entries, destroyed ones included until the next {@link #compact()}. */
+    public int size() {
+        return size;
+    }
+
+    /** Entities of a kind that are neither dead nor destroyed; O(1). */
+    public int countAlive(int kind) {
+        return aliveCount[kind];
+    }
+
+    /** Sets or clears FLAG_DEAD on a live entry, keeping the alive count in step. */
+    public void setDead(int index, boolean dead) {
+        if ((flags[index] & FLAG_DESTROYED) != 0 || dead == ((flags[index] & FLAG_DEAD) != 0)) {
+            return;
+        }
+        if (dead) {
+            flags[index] |= FLAG_DEAD;
+            aliveCount[kind[index]]--;
+        } else {
+            flags[index] &= ~FLAG_DEAD;
+            aliveCount[kind[index]]++;
+        }
+    }
+
+    /** True if the entry at this index is of the kind and not destroyed. */
+    public boolean isLive(int index, int kind) {
+        return this.kind[index] == kind && (flags[index] & FLAG_DESTROYED) == 0;
+    }
+
+    public int getType(int index) {
+        return type[index];
+    }
+
+    public boolean isDead(int index) {
+        return (flags[index] & FLAG_DEAD) != 0;
+    }
+
+    public Object getOwner(int index) {
+        return owner[index];
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getPreviousX(int index) {
+        return prevX[index];
+    }
+
+    public float getPreviousY(int index) {
+        return prevY[index];
+    }
+
+    public float getBoundsX(int index) {
+        return boundsX[index];
+    }
+
+    public float getBoundsY(int index) {
+        return boundsY[index];
+    }
+
+    public float getBoundsWidth(int index) {
+        return boundsWidth[index];
+    }
+
+    public float getBoundsHeight(int index) {
+        return boundsHeight[index];
+    }
+
+    /** Destroys every entity of a kind (level teardown). */
+    public void destroyAll(int kind) {
+        for (int i = 0; i < size; i++) {
+            if (this.kind[i] == kind) {
+                destroy(idAt[i]);
+            }
+        }
+        compact();
+    }
+}
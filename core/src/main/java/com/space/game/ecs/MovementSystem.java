@@ -0,0 +1,39 @@
+package com.space.game.ecs;
+
+/**
+ * Integrates every entity with a {@link EntityWorld#VELOCITY} in one linear
+ * pass: the previous position is saved for interpolation and swept
+ * collision, then position and bounds advance. Entities with a
+ * {@link EntityWorld#MOVEMENT} are moved by their owner instead.
+ */
+public class MovementSystem {
+    private static final int MOVED = EntityWorld.POSITION | EntityWorld.VELOCITY;
+
+    private final EntityWorld world;
+
+    public MovementSystem(EntityWorld world) {
+        this.world = world;
+    }
+
+    public void update(float delta) {
+        int[] mask = world.mask;
+        int[] flags = world.flags;
+        float[] x = world.x;
+        float[] y = world.y;
+        for (int i = 0, n = world.size(); i < n; i++) {
+            if ((mask[i] & MOVED) != MOVED || (mask[i] & EntityWorld.MOVEMENT) != 0
+                    || (flags[i] & EntityWorld.FLAG_DESTROYED) != 0) {
+                continue;
+            }
+            world.prevX[i] = x[i];
+            world.prevY[i] = y[i];
+            x[i] += world.vx[i] * delta;
+            y[i] += world.vy[i] * delta;
+            // Moving entities carry their box at their position
+            if ((mask[i] & EntityWorld.BOUNDS) != 0) {
+                world.boundsX[i] = x[i];
+                world.boundsY[i] = y[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.space.game.ecs;
+
+import com.space.game.SpaceGame;
+import com.space.game.graphics.RenderQueue;
+
+/**
+ * Queues every entity with a {@link EntityWorld#RENDER} in one linear pass,
+ * interpolated between the last two simulation ticks. Aliens draw themselves
+ * (animation and flash states live on the objects) and have no RENDER.
+ */
+public class RenderSystem {
+    private static final int DRAWN = EntityWorld.POSITION | EntityWorld.RENDER;
+
+    private final EntityWorld world;
+
+    public RenderSystem(EntityWorld world) {
+        this.world = world;
+    }
+
+    public void render(RenderQueue queue) {
+        float alpha = SpaceGame.getGame().getClock().getAlpha();
+        for (int i = 0, n = world.size(); i < n; i++) {
+            if ((world.mask[i] & DRAWN) != DRAWN || (world.flags[i] & EntityWorld.FLAG_DESTROYED) != 0) {
+                continue;
+            }
+            float color = world.tintAlpha[i] >= 0 ? queue.tintWithAlpha(world.tintAlpha[i]) : world.color[i];
+            float x = world.prevX[i] + (world.x[i] - world.prevX[i]) * alpha;
+            float y = world.prevY[i] + (world.y[i] - world.prevY[i]) * alpha;
+            queue.draw(world.layer[i], world.region[i], color, x, y, world.originX[i], world.originY[i],
+                    world.width[i], world.height[i], world.scale[i], world.scale[i], world.rotation[i]);
+        }
+    }
+}
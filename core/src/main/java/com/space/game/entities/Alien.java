@@ -1,18 +1,24 @@
 package com.space.game.entities;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.space.game.SpaceGame;
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
-import com.space.game.entities.movements.MovementStrategy;
 
-public abstract class Alien {
-    protected Texture texture;
+/**
+ * Aliens are recycled by AlienFactory's pools (bosses excepted); subclasses
+ * provide an init() that calls {@link #init} before use.
+ */
+public abstract class Alien implements Pool.Poolable {
+    protected TextureRegion region;
     protected TextureManager textureManager;
-    protected Vector2 position;
+    protected final Vector2 position = new Vector2();
+    protected final Vector2 previousPosition = new Vector2(); // Position before the current simulation tick
     protected float speed;
     protected boolean isDead = false;
     protected float scale;
@@ -23,67 +29,106 @@ public abstract class Alien {
     protected float hitTimer = 0;
     protected int hp;
     protected int maxHp;
-    protected MovementStrategy strategy;
+    protected int movement; // MovementStrategy kind, moved in batches by AlienMovementSystem
     protected AlienType type;
+    private int entity = -1; // Id in the EntityWorld, mirrored by AlienAdapter
 
     public enum AlienType {
         NORMAL, BABY_BOOMER, BOSS_BOOMER
     }
 
-    public Alien(TextureManager textureManager, Vector2 position, float scale, float speed, MovementStrategy strategy,
+    /** Resets the shared state for a new life; the position is copied. */
+    protected void init(TextureManager textureManager, Vector2 position, float scale, float speed, int movement,
             AlienType type) {
         this.textureManager = textureManager;
-        this.position = position;
+        this.position.set(position);
+        this.previousPosition.set(position);
         this.scale = scale;
         this.speed = speed;
-        this.strategy = strategy;
+        this.movement = movement;
         this.type = type;
+        this.isDead = false;
+        this.deathTimer = 0;
+        this.isMarkedForRemoval = false;
+        this.hitTimer = 0;
+        this.entity = -1;
 
         // Default bounds initialization - Override in subclasses if needed
-        // Assuming texture is loaded by subclass constructor before or after?
-        // Subclasses should load texture and THEN call super? No, super is called
-        // first.
-        // Subclasses must set texture and then initializeBounds().
+        // Subclasses must set region and then initializeBounds().
     }
 
     protected void initializeBounds() {
-        if (texture == null)
+        if (region == null) {
+            bounds = null;
             return;
-        float width = texture.getWidth() * this.scale;
-        float height = texture.getHeight() * this.scale;
-        this.bounds = new Rectangle(position.x, position.y, width, height);
+        }
+        float width = region.getRegionWidth() * this.scale;
+        float height = region.getRegionHeight() * this.scale;
+        setBounds(position.x, position.y, width, height);
     }
 
-    public abstract void update(float deltaTime, Spaceship spaceship);
+    /** Sets the bounds, reusing the rectangle of a previous life. */
+    protected void setBounds(float x, float y, float width, float height) {
+        if (bounds == null) {
+            bounds = new Rectangle();
+        }
+        bounds.set(x, y, width, height);
+    }
 
-    public void render(SpriteBatch batch) {
-        if (!isMarkedForRemoval) {
-            float oldR = batch.getColor().r;
-            float oldG = batch.getColor().g;
-            float oldB = batch.getColor().b;
-            float oldA = batch.getColor().a;
+    @Override
+    public void reset() {
+        region = null;
+        textureManager = null;
+        entity = -1;
+    }
 
-            applyRenderEffects(batch, oldG, oldB, oldA);
+    /**
+     * First half of a simulation tick: timers and state changes.
+     *
+     * @return true if the alien moves this tick (AlienManager then queues it
+     *         for the movement pass)
+     */
+    public abstract boolean beginUpdate(float deltaTime);
 
-            batch.draw(texture, position.x, position.y, texture.getWidth() * scale,
-                    texture.getHeight() * scale);
+    /** Second half of a tick, after the movement pass: bounds and speed follow the new position. */
+    public abstract void endUpdate(float deltaTime);
 
-            batch.setColor(oldR, oldG, oldB, oldA);
+    public void render(RenderQueue queue) {
+        if (!isMarkedForRemoval) {
+            queue.draw(RenderQueue.LAYER_ALIENS, region, renderColor(queue), getRenderX(), getRenderY(),
+                    region.getRegionWidth() * scale, region.getRegionHeight() * scale);
         }
     }
 
-    protected void applyRenderEffects(SpriteBatch batch, float oldG, float oldB, float oldA) {
+    /**
+     * Called by AlienManager before each simulation tick so render() can
+     * interpolate between the last two ticks.
+     */
+    public void savePreviousPosition() {
+        previousPosition.set(position);
+    }
+
+    protected float getRenderX() {
+        return MathUtils.lerp(previousPosition.x, position.x, SpaceGame.getGame().getClock().getAlpha());
+    }
+
+    protected float getRenderY() {
+        return MathUtils.lerp(previousPosition.y, position.y, SpaceGame.getGame().getClock().getAlpha());
+    }
+
+    /** Packed sprite color: the level tint, or a flash/tint effect keeping the tint's alpha. */
+    protected float renderColor(RenderQueue queue) {
+        float alpha = queue.getTint().a;
         // Base implementation (Normal hit flash)
         if (hitTimer > 0) {
             if (MathUtils.randomBoolean()) {
-                batch.setColor(1, 1, 1, oldA);
-            } else {
-                batch.setColor(1, 1, 0, oldA);
+                return Color.toFloatBits(1f, 1f, 1f, alpha);
             }
+            return Color.toFloatBits(1f, 1f, 0f, alpha);
         } else if (isDead) { // Is Dead -> Red Tint
-            // Use set color to Tint RED like original
-            batch.setColor(1.0f, 0.2f, 0.2f, oldA); // Hard red tint
+            return Color.toFloatBits(1.0f, 0.2f, 0.2f, alpha); // Hard red tint
         }
+        return queue.getPackedTint();
     }
 
     public boolean takeDamage(int damage) {
@@ -115,11 +160,16 @@ public abstract class Alien {
 
         float centerX = SpaceGame.getGame().getWorldWidth() / 2f;
         float centerY = SpaceGame.getGame().getWorldHeight() / 2f;
-        Vector2 knockDir = new Vector2(position.x - centerX, position.y - centerY).nor();
-
-        float shoveDistance = force * 0.05f;
-        position.x += knockDir.x * shoveDistance;
-        position.y += knockDir.y * shoveDistance;
+        // Direction away from the centre, in scalars so a hit allocates nothing
+        float dx = position.x - centerX;
+        float dy = position.y - centerY;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len == 0)
+            return; // Dead centre: no direction to push in
+
+        float shoveDistance = force * 0.05f / len;
+        position.x += dx * shoveDistance;
+        position.y += dy * shoveDistance;
         if (bounds != null)
             bounds.setPosition(position.x, position.y);
     }
@@ -132,8 +182,12 @@ public abstract class Alien {
         takeDamage(1);
     }
 
-    public void setStrategy(MovementStrategy strategy) {
-        this.strategy = strategy;
+    public int getMovement() {
+        return movement;
+    }
+
+    public void setMovement(int movement) {
+        this.movement = movement;
     }
 
     // Boomer/Boss methods (Default implementation)
@@ -156,6 +210,10 @@ public abstract class Alien {
         return position;
     }
 
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
     public Rectangle getBounds() {
         return bounds;
     }
@@ -192,4 +250,12 @@ public abstract class Alien {
         return type;
     }
 
+    public int getEntity() {
+        return entity;
+    }
+
+    public void setEntity(int entity) {
+        this.entity = entity;
+    }
+
 }
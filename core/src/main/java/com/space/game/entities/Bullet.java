@@ -1,29 +1,46 @@
 package com.space.game.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 import com.space.game.SpaceGame;
+import com.space.game.ecs.EntityWorld;
 import com.space.game.graphics.TextureManager;
 
-public class Bullet {
-    private Texture texture;
-    private Vector2 position;
+/**
+ * A shot. Its movement and sprite live in the EntityWorld (see
+ * com.space.game.ecs.BulletAdapter); position, previous position and bounds
+ * here are copies, refreshed every tick, for the collision code.
+ */
+public class Bullet implements Pool.Poolable {
+    private EntityWorld world;
+    private int entity = -1;
+
+    private TextureRegion region;
+    private final Vector2 position = new Vector2();
+    private final Vector2 previousPosition = new Vector2(); // Start of this frame's movement, used by swept collision
     private float angle;
     private float scale;
     private float speed;
-    private Rectangle bounds;
+    private final Rectangle bounds = new Rectangle();
     private boolean shouldRemove = false;
     private boolean isCharged = false;
     private int killCount = 0;
 
-    public Bullet(TextureManager textureManager, Vector2 spaceshipCenter, float angle, float spaceshipWidth,
+    /**
+     * Bullets are recycled by BulletManager's pool; call init() before use.
+     */
+    public Bullet() {
+    }
+
+    public Bullet init(TextureManager textureManager, Vector2 spaceshipCenter, float angle, float spaceshipWidth,
             float spaceshipHeight, float scale, boolean isCharged) {
         this.angle = angle + 90;
         this.isCharged = isCharged;
+        this.shouldRemove = false;
+        this.killCount = 0;
 
         // Configuration based on type
         if (isCharged) {
@@ -34,9 +51,9 @@ public class Bullet {
             this.speed = SpaceGame.getGame().getWorldWidth() / 2;
         }
 
-        texture = textureManager.getTexture("bullet");
-        float bulletWidth = texture.getWidth();
-        float bulletHeight = texture.getHeight();
+        region = textureManager.getRegion("bullet");
+        float bulletWidth = region.getRegionWidth();
+        float bulletHeight = region.getRegionHeight();
 
         // Calculate spawn position
         // spaceshipCenter is now the Visual Center of the ship.
@@ -52,46 +69,39 @@ public class Bullet {
         float bullet_x = spaceshipCenter.x + bulletOffsetX - (bulletWidth / 2); // Center bullet on tip
         float bullet_y = spaceshipCenter.y + bulletOffsetY - (bulletHeight / 2);
 
-        position = new Vector2(bullet_x, bullet_y);
+        position.set(bullet_x, bullet_y);
+        previousPosition.set(position);
 
         // Bounds
         float boundsScale = isCharged ? 2.5f : 1f;
-        bounds = new Rectangle(position.x, position.y, bulletWidth * boundsScale, bulletHeight * boundsScale);
+        bounds.set(position.x, position.y, bulletWidth * boundsScale, bulletHeight * boundsScale);
+        return this;
     }
 
-    public void update() {
-        // Simple linear movement
-        float radianAngle = MathUtils.degreesToRadians * angle;
-        position.x += speed * MathUtils.cos(radianAngle) * Gdx.graphics.getDeltaTime();
-        position.y += speed * MathUtils.sin(radianAngle) * Gdx.graphics.getDeltaTime();
-        bounds.setPosition(position);
+    /** Called by BulletAdapter once the bullet has its entity. */
+    public void bind(EntityWorld world, int entity) {
+        this.world = world;
+        this.entity = entity;
     }
 
-    public void render(SpriteBatch batch) {
-        if (shouldRemove)
-            return;
-
-        float oldR = batch.getColor().r;
-        float oldG = batch.getColor().g;
-        float oldB = batch.getColor().b;
-        float oldA = batch.getColor().a;
-
-        if (isCharged) {
-            batch.setColor(0.2f, 1.0f, 1.0f, 1.0f); // Cyan
-        } else {
-            batch.setColor(oldR, oldG, oldB, 0.77f);
-        }
-
-        batch.draw(texture,
-                position.x, position.y,
-                texture.getWidth() / 2, texture.getHeight() / 2,
-                texture.getWidth(), texture.getHeight(),
-                this.scale, this.scale,
-                angle + 90, 0, 0,
-                texture.getWidth(), texture.getHeight(),
-                false, false);
+    public int getEntity() {
+        return entity;
+    }
 
-        batch.setColor(oldR, oldG, oldB, oldA);
+    @Override
+    public void reset() {
+        world = null;
+        entity = -1;
+        region = null;
+        position.setZero();
+        previousPosition.setZero();
+        bounds.set(0, 0, 0, 0);
+        angle = 0;
+        scale = 0;
+        speed = 0;
+        shouldRemove = false;
+        isCharged = false;
+        killCount = 0;
     }
 
     // Getters and Setters
@@ -113,16 +123,40 @@ public class Bullet {
 
     public void markForRemoval() {
         shouldRemove = true;
+        // Gone from this frame's picture already; BulletManager frees it next tick
+        if (world != null) {
+            world.removeComponents(entity, EntityWorld.RENDER);
+        }
     }
 
     public Vector2 getPosition() {
         return position;
     }
 
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
     public Rectangle getBounds() {
         return bounds;
     }
 
+    public TextureRegion getRegion() {
+        return region;
+    }
+
+    public float getAngle() {
+        return angle;
+    }
+
+    public float getScale() {
+        return scale;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
     public void dispose() {
     }
 }
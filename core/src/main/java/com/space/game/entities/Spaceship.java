@@ -1,16 +1,16 @@
 package com.space.game.entities;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.MathUtils;
 import com.space.game.SpaceGame;
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
 import com.space.game.managers.BulletManager;
 import com.badlogic.gdx.math.Rectangle;
 
 public class Spaceship {
-    private Texture texture;
+    private TextureRegion region;
     private float energy;
     private int streak;
     private int consecutiveKills;
@@ -18,11 +18,13 @@ public class Spaceship {
     private int bossesDefeated = 0;
     private BulletManager bulletManager;
     private float angle = 0;
+    private float previousAngle = 0; // Angle before the current simulation tick, for render interpolation
 
     private float x_nave, y_nave;
 
     private float scale;
     private Vector2 position = new Vector2(0, 0);
+    private final Vector2 visualCenter = new Vector2(); // Reused by getVisualCenter()
 
     // Energy Constants
     private float maxEnergy = 100.0f;
@@ -51,14 +53,14 @@ public class Spaceship {
 
     public Spaceship(TextureManager textureManager, BulletManager bulletManager) {
 
-        this.texture = textureManager.getTexture("spaceship");
+        this.region = textureManager.getRegion("spaceship");
 
-        scale = Math.min(SpaceGame.getGame().getWorldWidth() / (float) texture.getWidth(),
-                SpaceGame.getGame().getWorldHeight() / (float) texture.getHeight());
+        scale = Math.min(SpaceGame.getGame().getWorldWidth() / (float) region.getRegionWidth(),
+                SpaceGame.getGame().getWorldHeight() / (float) region.getRegionHeight());
         scale *= 0.06f; // padrao é 0.075f
 
-        x_nave = SpaceGame.getGame().getWorldWidth() / 2f - texture.getWidth() * scale / 2f;
-        y_nave = SpaceGame.getGame().getWorldHeight() / 2f - texture.getHeight() * scale / 2f;
+        x_nave = SpaceGame.getGame().getWorldWidth() / 2f - region.getRegionWidth() * scale / 2f;
+        y_nave = SpaceGame.getGame().getWorldHeight() / 2f - region.getRegionHeight() * scale / 2f;
         position = new Vector2(x_nave, y_nave);
 
         this.consecutiveKills = 0;
@@ -115,10 +117,9 @@ public class Spaceship {
     public void fire() {
         // Normal fire
         if (energy >= FIRE_COST) {
-            bulletManager.fireBullet(getVisualCenter(), angle, texture.getWidth(),
-                    texture.getHeight(), scale, false); // false = not charged
+            bulletManager.fireBullet(getVisualCenter(), angle, region.getRegionWidth(),
+                    region.getRegionHeight(), scale, false); // false = not charged (plays the shot sound)
             consumeEnergy(FIRE_COST);
-            SpaceGame.getGame().getSoundManager().playBulletSound();
         }
     }
 
@@ -153,9 +154,8 @@ public class Spaceship {
     private void fireChargedShot() {
         // Only fire if we are actually charging or forced by logic
 
-        bulletManager.fireBullet(getVisualCenter(), angle, texture.getWidth(),
-                texture.getHeight(), scale, true); // true = charged
-        SpaceGame.getGame().getSoundManager().playBulletSound();
+        bulletManager.fireBullet(getVisualCenter(), angle, region.getRegionWidth(),
+                region.getRegionHeight(), scale, true); // true = charged (plays the shot sound)
 
         // Reset state handled by caller usually, but if auto-fire, we must reset here
         // If called by releaseCharge, resetChargeState will be called immediately
@@ -198,7 +198,7 @@ public class Spaceship {
                 float centerY = center.y;
 
                 // Comprimento do centro até a ponta (Raio) ajustado pela escala
-                float len = (texture.getHeight() * scale) / 2f;
+                float len = (region.getRegionHeight() * scale) / 2f;
 
                 // Ajuste de ângulo e posição da ponta
                 float tipX = centerX + MathUtils.cosDeg(angle + 90) * len;
@@ -206,12 +206,13 @@ public class Spaceship {
 
                 // Espalhamento das partículas (Aumente para ficar mais disperso)
                 float spread = 15.0f; // Increased spread from 5.0f to 15.0f
-                tipX += MathUtils.random(-spread, spread);
-                tipY += MathUtils.random(-spread, spread);
+                com.space.game.GameRandom effects = SpaceGame.getGame().getRandom().effects();
+                tipX += effects.range(-spread, spread);
+                tipY += effects.range(-spread, spread);
 
                 if (SpaceGame.getGame().getMapManager().getParticleManager() != null) {
                     // Reduce frequency: only spawn 50% of the frames
-                    if (MathUtils.randomBoolean(0.5f)) {
+                    if (effects.chance(0.5f)) {
                         SpaceGame.getGame().getMapManager().getParticleManager().createChargeParticle(tipX, tipY);
                     }
                 }
@@ -271,8 +272,8 @@ public class Spaceship {
 
     public Rectangle getBounds() {
         // Reduce hitbox by ~30% for fairer gameplay
-        float width = texture.getWidth() * scale;
-        float height = texture.getHeight() * scale;
+        float width = region.getRegionWidth() * scale;
+        float height = region.getRegionHeight() * scale;
         float reduceW = width * 0.3f;
         float reduceH = height * 0.3f;
         return new Rectangle(
@@ -283,6 +284,7 @@ public class Spaceship {
     }
 
     public void update(float delta) {
+        previousAngle = angle;
         if (isDead) {
             deathTimer += delta;
 
@@ -290,8 +292,8 @@ public class Spaceship {
             if (deathTimer >= 0.5f && deathTimer - delta < 0.5f) {
                 if (SpaceGame.getGame().getParticleManager() != null) {
                     SpaceGame.getGame().getParticleManager().createExplosion(
-                            position.x + texture.getWidth() / 2,
-                            position.y + texture.getHeight() / 2,
+                            position.x + region.getRegionWidth() / 2,
+                            position.y + region.getRegionHeight() / 2,
                             150, // Big player explosion, but smaller than boss
                             com.badlogic.gdx.graphics.Color.ORANGE);
                 }
@@ -301,28 +303,30 @@ public class Spaceship {
         updateCharging(delta);
     }
 
-    public void render(SpriteBatch batch) {
+    public void render(RenderQueue queue) {
         if (!isDead || (isDead && deathTimer < 0.5f)) {
             // Calculate drawing position to center the sprite on the logical position
             // Desired Center = position.x + (width * scale) / 2
             // Texture Center = drawX + width / 2
             // drawX = position.x + (width * scale - width) / 2
-            float drawX = position.x + (texture.getWidth() * scale - texture.getWidth()) / 2f;
-            float drawY = position.y + (texture.getHeight() * scale - texture.getHeight()) / 2f;
+            float drawX = position.x + (region.getRegionWidth() * scale - region.getRegionWidth()) / 2f;
+            float drawY = position.y + (region.getRegionHeight() * scale - region.getRegionHeight()) / 2f;
 
-            batch.draw(texture,
+            // Interpolate along the shortest arc so crossing +-180 doesn't spin the ship
+            float turn = ((angle - previousAngle) % 360f + 540f) % 360f - 180f;
+            float renderAngle = previousAngle + turn * SpaceGame.getGame().getClock().getAlpha();
+
+            queue.draw(RenderQueue.LAYER_SHIP, region, queue.getPackedTint(),
                     drawX, drawY,
-                    texture.getWidth() / 2f, texture.getHeight() / 2f, // Origin at center of UNMODIFIED texture
-                    texture.getWidth(), texture.getHeight(),
+                    region.getRegionWidth() / 2f, region.getRegionHeight() / 2f, // Origin at center of UNMODIFIED sprite
+                    region.getRegionWidth(), region.getRegionHeight(),
                     scale, scale,
-                    angle, 0, 0,
-                    texture.getWidth(), texture.getHeight(),
-                    false, false);
+                    renderAngle);
         }
     }
 
     public void dispose() {
-        texture.dispose();
+        // Region is owned by TextureManager (possibly shared atlas page), don't dispose it here.
     }
 
     public void setDead(boolean dead) {
@@ -343,10 +347,14 @@ public class Spaceship {
         return deathTimer;
     }
 
+    /**
+     * Centre of the ship sprite. The same vector is returned on every call so
+     * firing and the charge effect don't allocate; copy it to keep it.
+     */
     public Vector2 getVisualCenter() {
-        return new Vector2(
-                position.x + (texture.getWidth() * scale) / 2f,
-                position.y + (texture.getHeight() * scale) / 2f);
+        return visualCenter.set(
+                position.x + (region.getRegionWidth() * scale) / 2f,
+                position.y + (region.getRegionHeight() * scale) / 2f);
     }
 
     public void increaseMaxEnergy(float percent) {
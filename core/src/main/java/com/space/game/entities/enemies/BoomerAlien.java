@@ -1,17 +1,14 @@
 package com.space.game.entities.enemies;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.space.game.config.GameConfig;
 import com.space.game.entities.Alien;
-import com.space.game.entities.Spaceship;
-import com.space.game.entities.movements.MovementStrategy;
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.space.game.graphics.AnimationHelper;
@@ -21,7 +18,7 @@ public class BoomerAlien extends Alien {
   private Animation<TextureRegion> idleAnimation;
   private TextureRegion restFrame;
   private float stateTime = 0f;
-  private Texture spriteSheet;
+  private TextureRegion spriteSheet;
 
   private boolean isBoss;
   private boolean isDetonating = false;
@@ -33,13 +30,29 @@ public class BoomerAlien extends Alien {
   private float restTimer = 0f;
   private int damageTakenSinceRest = 0;
 
-  public BoomerAlien(TextureManager textureManager, Vector2 position, float scale, float speed, Spaceship spaceship,
-      MovementStrategy strategy, boolean isBoss) {
-    super(textureManager, position, scale, speed, strategy,
+  /**
+   * Baby Boomers are recycled by AlienFactory's pool, the boss is not; call
+   * init() before use.
+   */
+  public BoomerAlien() {
+  }
+
+  public BoomerAlien init(TextureManager textureManager, Vector2 position, float scale, float speed, int movement,
+      boolean isBoss) {
+    init(textureManager, position, scale, speed, movement,
         isBoss ? AlienType.BOSS_BOOMER : AlienType.BABY_BOOMER);
     this.isBoss = isBoss;
-
-    this.texture = textureManager.getTexture("alienBoomer");
+    this.idleAnimation = null;
+    this.restFrame = null;
+    this.spriteSheet = null;
+    this.stateTime = 0f;
+    this.isDetonating = false;
+    this.detonationTimer = 0f;
+    this.isResting = false;
+    this.restTimer = 0f;
+    this.damageTakenSinceRest = 0;
+
+    this.region = textureManager.getRegion("alienBoomer");
 
     if (isBoss) {
       this.scale = (scale > 0) ? scale : GameConfig.BOSS_BOOMER_SCALE;
@@ -48,7 +61,7 @@ public class BoomerAlien extends Alien {
       this.speed = GameConfig.BOSS_BOOMER_SPEED;
 
       // Initialize Animation
-      this.spriteSheet = textureManager.getTexture("alienBoomerSheet");
+      this.spriteSheet = textureManager.getRegion("alienBoomerSheet");
       if (this.spriteSheet != null) {
         this.idleAnimation = AnimationHelper.createAnimation(
             this.spriteSheet,
@@ -64,7 +77,7 @@ public class BoomerAlien extends Alien {
         // But AnimationHelper created it. Let's just grab Frame 3 from the animation
         // logic for consistency
         // Or simpler: just use split for initialization
-        TextureRegion[][] tmp = TextureRegion.split(this.spriteSheet, GameConfig.BOSS_TILE_WIDTH,
+        TextureRegion[][] tmp = this.spriteSheet.split(GameConfig.BOSS_TILE_WIDTH,
             GameConfig.BOSS_TILE_HEIGHT);
         if (tmp.length > 0 && tmp[0].length >= 4) {
           this.restFrame = tmp[0][3];
@@ -79,12 +92,13 @@ public class BoomerAlien extends Alien {
     }
 
     initializeBounds();
+    return this;
   }
 
   @Override
   protected void initializeBounds() {
     // If animating, bounds should assume frame size, not entire sheet size.
-    // However, texture field is still the static image for Baby Boomers or
+    // However, region field is still the static image for Baby Boomers or
     // fallbacks.
 
     float width, height;
@@ -93,10 +107,12 @@ public class BoomerAlien extends Alien {
       width = GameConfig.BOSS_TILE_WIDTH * this.scale;
       height = GameConfig.BOSS_TILE_HEIGHT * this.scale;
     } else {
-      if (texture == null)
+      if (region == null) {
+        bounds = null;
         return;
-      width = texture.getWidth() * this.scale;
-      height = texture.getHeight() * this.scale;
+      }
+      width = region.getRegionWidth() * this.scale;
+      height = region.getRegionHeight() * this.scale;
     }
 
     if (isBoss) {
@@ -108,15 +124,15 @@ public class BoomerAlien extends Alien {
       float finalHeight = height - topTrim - bottomTrim;
       float finalWidth = width - (sideTrim * 2);
 
-      this.bounds = new Rectangle(position.x + sideTrim, position.y + bottomTrim, finalWidth, finalHeight);
+      setBounds(position.x + sideTrim, position.y + bottomTrim, finalWidth, finalHeight);
     } else {
       float boundsPadding = 14f;
-      this.bounds = new Rectangle(position.x, position.y, width + boundsPadding, height + boundsPadding);
+      setBounds(position.x, position.y, width + boundsPadding, height + boundsPadding);
     }
   }
 
   @Override
-  public void update(float deltaTime, Spaceship spaceship) {
+  public boolean beginUpdate(float deltaTime) {
     stateTime += deltaTime;
 
     if (hitTimer > 0)
@@ -124,12 +140,12 @@ public class BoomerAlien extends Alien {
 
     if (isDetonating) {
       detonationTimer -= deltaTime;
-      return; // No movement
+      return false; // No movement
     }
 
     if (isDead) {
       deathTimer += deltaTime;
-      return; // No movement
+      return false; // No movement
     }
 
     if (isResting) {
@@ -139,11 +155,17 @@ public class BoomerAlien extends Alien {
         damageTakenSinceRest = 0;
       }
       updateBoundsPosition();
-      return;
+      return false;
     }
 
-    strategy.move(this, spaceship, deltaTime);
-    updateBoundsPosition();
+    return true;
+  }
+
+  @Override
+  public void endUpdate(float deltaTime) {
+    if (!isDetonating && !isDead && !isResting) {
+      updateBoundsPosition();
+    }
   }
 
   private void updateBoundsPosition() {
@@ -175,23 +197,19 @@ public class BoomerAlien extends Alien {
   }
 
   @Override
-  public void render(SpriteBatch batch) {
+  public void render(RenderQueue queue) {
     if (!isMarkedForRemoval) {
-      float oldR = batch.getColor().r;
-      float oldG = batch.getColor().g;
-      float oldB = batch.getColor().b;
-      float oldA = batch.getColor().a;
-
+      float alpha = queue.getTint().a;
+      float color = queue.getPackedTint();
       float currentScale = scale;
 
-      TextureRegion regionToDraw = null;
-      Texture textureToDraw = null;
+      TextureRegion regionToDraw;
 
       if (isBoss) {
         // Boss Logic
         if (isDead || isDetonating) {
-          // Dead/Exploding: Static Image (Original 'texture')
-          textureToDraw = this.texture;
+          // Dead/Exploding: Static Image (Original 'region')
+          regionToDraw = this.region;
         } else if (isResting && restFrame != null) {
           // Resting: Frame 4
           regionToDraw = restFrame;
@@ -200,11 +218,11 @@ public class BoomerAlien extends Alien {
           regionToDraw = idleAnimation.getKeyFrame(stateTime, true);
         } else {
           // Fallback
-          textureToDraw = this.texture;
+          regionToDraw = this.region;
         }
       } else {
         // Baby Boomer Logic (Always Static)
-        textureToDraw = this.texture;
+        regionToDraw = this.region;
       }
 
       // Effects Logic (Scale/Color)
@@ -212,30 +230,27 @@ public class BoomerAlien extends Alien {
         float progress = 1.0f - (detonationTimer / DETONATION_TIME);
         float maxInflation = 0.3f;
         currentScale = scale * (1.0f + progress * maxInflation);
-        batch.setColor(1f, MathUtils.random(0.5f, 1f), 0f, oldA);
+        color = Color.toFloatBits(1f, MathUtils.random(0.5f, 1f), 0f, alpha);
       } else if (isDead) {
         float blink = MathUtils.sin(deathTimer * 20);
         if (blink > 0)
-          batch.setColor(1, 0, 0, oldA);
+          color = Color.toFloatBits(1f, 0f, 0f, alpha);
         else
-          batch.setColor(1, 0.5f, 0, oldA);
+          color = Color.toFloatBits(1f, 0.5f, 0f, alpha);
       } else if (hitTimer > 0) {
         if (MathUtils.randomBoolean())
-          batch.setColor(1, 1, 1, oldA);
+          color = Color.toFloatBits(1f, 1f, 1f, alpha);
         else
-          batch.setColor(1, 1, 0, oldA);
+          color = Color.toFloatBits(1f, 1f, 0f, alpha);
       }
 
       // Draw
+      float drawX = getRenderX();
+      float drawY = getRenderY();
       if (regionToDraw != null) {
-        batch.draw(regionToDraw, position.x, position.y, regionToDraw.getRegionWidth() * currentScale,
-            regionToDraw.getRegionHeight() * currentScale);
-      } else if (textureToDraw != null) {
-        batch.draw(textureToDraw, position.x, position.y, textureToDraw.getWidth() * currentScale,
-            textureToDraw.getHeight() * currentScale);
+        queue.draw(RenderQueue.LAYER_ALIENS, regionToDraw, color, drawX, drawY,
+            regionToDraw.getRegionWidth() * currentScale, regionToDraw.getRegionHeight() * currentScale);
       }
-
-      batch.setColor(oldR, oldG, oldB, oldA);
     }
   }
 
@@ -1,26 +1,37 @@
 package com.space.game.entities.movements;
 
-import com.badlogic.gdx.math.Vector2;
-import com.space.game.entities.Alien;
-import com.space.game.entities.Spaceship;
-
 public class LinearMovement implements MovementStrategy {
   @Override
-  public void move(Alien alien, Spaceship spaceship, float deltaTime) {
-    moveLinearly(alien, spaceship, deltaTime);
+  public void start(MovementBatch batch, int row, MovementFrame frame) {
+    // Stateless
   }
 
-  private void moveLinearly(Alien alien, Spaceship spaceship, float deltaTime) {
-    float naveCenterX = spaceship.getPosition().x + spaceship.getBounds().width * spaceship.getScale() / 2;
-    float naveCenterY = spaceship.getPosition().y + spaceship.getBounds().height * spaceship.getScale() / 2;
+  @Override
+  public void moveAll(MovementBatch batch, MovementFrame frame) {
+    float naveCenterX = frame.shipCenterX;
+    float naveCenterY = frame.shipCenterY;
+    float deltaTime = frame.deltaTime;
+    float[] x = batch.x;
+    float[] y = batch.y;
+    float[] width = batch.width;
+    float[] height = batch.height;
+    float[] speed = batch.speed;
 
-    float alienCenterX = alien.getPosition().x + alien.getBounds().width / 2;
-    float alienCenterY = alien.getPosition().y + alien.getBounds().height / 2;
+    for (int i = 0, n = batch.size; i < n; i++) {
+      float alienCenterX = x[i] + width[i] / 2;
+      float alienCenterY = y[i] + height[i] / 2;
 
-    Vector2 direction = new Vector2(naveCenterX - alienCenterX, naveCenterY - alienCenterY);
-    direction.nor();
+      // Same arithmetic as Vector2.nor()
+      float directionX = naveCenterX - alienCenterX;
+      float directionY = naveCenterY - alienCenterY;
+      float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+      if (length != 0) {
+        directionX /= length;
+        directionY /= length;
+      }
 
-    alien.getPosition().x += direction.x * alien.getSpeed() * deltaTime;
-    alien.getPosition().y += direction.y * alien.getSpeed() * deltaTime;
+      x[i] += directionX * speed[i] * deltaTime;
+      y[i] += directionY * speed[i] * deltaTime;
+    }
   }
 }
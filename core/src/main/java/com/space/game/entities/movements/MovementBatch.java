@@ -0,0 +1,62 @@
+package com.space.game.entities.movements;
+
+import java.util.Arrays;
+
+/**
+ * The aliens sharing a movement this tick, one array per field so a
+ * strategy's moveAll is a plain loop over floats. The owner gathers rows in
+ * before the pass and copies positions and state columns back after it.
+ */
+public class MovementBatch {
+  public int size;
+  public int[] source; // Owner's index for the row (dense entity index)
+
+  public float[] x, y;
+  public float[] width, height; // Collision box size; the alien's centre is x + width / 2
+  public float[] speed;
+
+  // Per-alien strategy state, kept by the owner between ticks
+  public float[] time;
+  public float[] paramA, paramB; // Fixed for the alien's life (wave amplitude/frequency, spiral angle speed/offset)
+  public float[] radius;
+  public float[] timer;
+
+  public MovementBatch() {
+    this(64);
+  }
+
+  public MovementBatch(int capacity) {
+    resize(Math.max(8, capacity));
+  }
+
+  private void resize(int capacity) {
+    source = source == null ? new int[capacity] : Arrays.copyOf(source, capacity);
+    x = grow(x, capacity);
+    y = grow(y, capacity);
+    width = grow(width, capacity);
+    height = grow(height, capacity);
+    speed = grow(speed, capacity);
+    time = grow(time, capacity);
+    paramA = grow(paramA, capacity);
+    paramB = grow(paramB, capacity);
+    radius = grow(radius, capacity);
+    timer = grow(timer, capacity);
+  }
+
+  private static float[] grow(float[] array, int capacity) {
+    return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+  }
+
+  public void clear() {
+    size = 0;
+  }
+
+  /** Appends a row for the given source index; the caller fills its columns. */
+  public int add(int sourceIndex) {
+    if (size == source.length) {
+      resize(size * 2);
+    }
+    source[size] = sourceIndex;
+    return size++;
+  }
+}
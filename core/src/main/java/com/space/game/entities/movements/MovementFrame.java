@@ -0,0 +1,31 @@
+package com.space.game.entities.movements;
+
+import com.space.game.GameRandom;
+import com.space.game.entities.Spaceship;
+
+/**
+ * What every strategy reads and nothing changes during a movement pass,
+ * computed once per tick instead of once per alien, plus the random stream
+ * strategies draw a new alien's parameters from.
+ */
+public class MovementFrame {
+  public final GameRandom random;
+  public float shipCenterX;
+  public float shipCenterY;
+  public float worldWidth;
+  public float worldHeight;
+  public float deltaTime;
+
+  public MovementFrame(GameRandom random) {
+    this.random = random;
+  }
+
+  public MovementFrame set(Spaceship spaceship, float worldWidth, float worldHeight, float deltaTime) {
+    shipCenterX = spaceship.getPosition().x + spaceship.getBounds().width * spaceship.getScale() / 2;
+    shipCenterY = spaceship.getPosition().y + spaceship.getBounds().height * spaceship.getScale() / 2;
+    this.worldWidth = worldWidth;
+    this.worldHeight = worldHeight;
+    this.deltaTime = deltaTime;
+    return this;
+  }
+}
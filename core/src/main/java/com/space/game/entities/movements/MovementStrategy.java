@@ -1,8 +1,20 @@
 package com.space.game.entities.movements;
 
-import com.space.game.entities.Alien;
-import com.space.game.entities.Spaceship;
-
+/**
+ * Moves every alien of one movement kind in a single call. Strategies are
+ * stateless and shared: what used to live in each alien's strategy object
+ * (wave phase, spiral radius...) is a state column of the {@link MovementBatch}.
+ */
 public interface MovementStrategy {
-  void move(Alien alien, Spaceship spaceship, float deltaTime);
+  // Movement kinds, also the index of each strategy's batch
+  int LINEAR = 0;
+  int WAVE = 1;
+  int SPIRAL = 2;
+  int KINDS = 3;
+
+  /** Sets up the state columns of a row whose alien just took this movement. */
+  void start(MovementBatch batch, int row, MovementFrame frame);
+
+  /** Moves every row of the batch one tick. */
+  void moveAll(MovementBatch batch, MovementFrame frame);
 }
@@ -1,48 +1,57 @@
 package com.space.game.entities.movements;
 
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
-import com.space.game.entities.Alien;
-import com.space.game.entities.Spaceship;
-import com.space.game.SpaceGame;
 import com.space.game.config.ConfigUtils;
 
+/**
+ * Tracks the ship like LinearMovement plus a sideways sine offset.
+ * State: time = wave clock, paramA = amplitude, paramB = frequency.
+ */
 public class WaveMovement implements MovementStrategy {
-  private float elapsedTime = 0;
-  private float waveAmplitude;
-  private float waveFrequency;
-
-  public WaveMovement() {
-    // Initialize random values similar to original Alien constructor
+  @Override
+  public void start(MovementBatch batch, int row, MovementFrame frame) {
     // Scale amplitude to ensure consistent movement across resolutions
-    float baseAmplitude = MathUtils.random(SpaceGame.getGame().getWorldHeight() / 9,
-        SpaceGame.getGame().getWorldHeight() / 5);
-    waveAmplitude = ConfigUtils.scale(baseAmplitude);
-    waveFrequency = MathUtils.random(1, 5);
-    elapsedTime = MathUtils.random(0, 5);
+    float baseAmplitude = frame.random.range(frame.worldHeight / 9, frame.worldHeight / 5);
+    batch.paramA[row] = ConfigUtils.scale(baseAmplitude);
+    batch.paramB[row] = frame.random.range(1, 5);
+    batch.time[row] = frame.random.range(0, 5);
   }
 
   @Override
-  public void move(Alien alien, Spaceship spaceship, float deltaTime) {
-    float naveCenterX = spaceship.getPosition().x + spaceship.getBounds().width * spaceship.getScale() / 2;
-    float naveCenterY = spaceship.getPosition().y + spaceship.getBounds().height * spaceship.getScale() / 2;
-
-    float alienCenterX = alien.getPosition().x + alien.getBounds().width / 2;
-    float alienCenterY = alien.getPosition().y + alien.getBounds().height / 2;
-
-    Vector2 direction = new Vector2(naveCenterX - alienCenterX, naveCenterY - alienCenterY);
-    direction.nor();
-
-    // Standard Tracking
-    alien.getPosition().x += direction.x * alien.getSpeed() * deltaTime;
-    alien.getPosition().y += direction.y * alien.getSpeed() * deltaTime;
-
-    // Wave Offset
-    elapsedTime += deltaTime;
-    float waveOffset = waveAmplitude * (float) Math.sin(waveFrequency * elapsedTime) * deltaTime;
-
-    Vector2 perpendicularDirection = new Vector2(-direction.y, direction.x);
-    alien.getPosition().x += perpendicularDirection.x * waveOffset;
-    alien.getPosition().y += perpendicularDirection.y * waveOffset;
+  public void moveAll(MovementBatch batch, MovementFrame frame) {
+    float naveCenterX = frame.shipCenterX;
+    float naveCenterY = frame.shipCenterY;
+    float deltaTime = frame.deltaTime;
+    float[] x = batch.x;
+    float[] y = batch.y;
+    float[] width = batch.width;
+    float[] height = batch.height;
+    float[] speed = batch.speed;
+    float[] time = batch.time;
+    float[] amplitude = batch.paramA;
+    float[] frequency = batch.paramB;
+
+    for (int i = 0, n = batch.size; i < n; i++) {
+      float alienCenterX = x[i] + width[i] / 2;
+      float alienCenterY = y[i] + height[i] / 2;
+
+      // Same arithmetic as Vector2.nor()
+      float directionX = naveCenterX - alienCenterX;
+      float directionY = naveCenterY - alienCenterY;
+      float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+      if (length != 0) {
+        directionX /= length;
+        directionY /= length;
+      }
+
+      // Standard Tracking
+      x[i] += directionX * speed[i] * deltaTime;
+      y[i] += directionY * speed[i] * deltaTime;
+
+      // Wave Offset, along the perpendicular (-directionY, directionX)
+      time[i] += deltaTime;
+      float waveOffset = amplitude[i] * (float) Math.sin(frequency[i] * time[i]) * deltaTime;
+      x[i] += -directionY * waveOffset;
+      y[i] += directionX * waveOffset;
+    }
   }
 }
@@ -1,6 +1,5 @@
 package com.space.game.graphics;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
@@ -11,16 +10,16 @@ public class AnimationHelper {
    * Splits a sprite sheet into an Animation.
    * Assumes a single row strip.
    *
-   * @param texture       The sprite sheet texture.
+   * @param sheet         The sprite sheet region (a whole texture or an atlas region).
    * @param tileWidth     Width of a single frame.
    * @param tileHeight    Height of a single frame.
    * @param frameDuration Duration of each frame.
    * @param loop          Whether the animation should loop.
    * @return The created Animation.
    */
-  public static Animation<TextureRegion> createAnimation(Texture texture, int tileWidth, int tileHeight,
+  public static Animation<TextureRegion> createAnimation(TextureRegion sheet, int tileWidth, int tileHeight,
       float frameDuration, boolean loop) {
-    TextureRegion[][] tmp = TextureRegion.split(texture, tileWidth, tileHeight);
+    TextureRegion[][] tmp = sheet.split(tileWidth, tileHeight);
 
     // Flatten the 2D array into a 1D array (since it's a strip, we take the first
     // row)
@@ -0,0 +1,216 @@
+package com.space.game.graphics;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import java.util.Arrays;
+
+/**
+ * Collects the playfield's draw commands for a frame and submits them to the
+ * SpriteBatch sorted by layer, then by texture.
+ *
+ * Layers keep the visual order (bullets over aliens, the ship over
+ * everything); within a layer the order of submission does not matter, so
+ * commands sharing a texture are drawn together and the batch only flushes
+ * when the texture really changes. Each command carries its own packed
+ * color, so entities never touch the batch color.
+ *
+ * Commands live in preallocated parallel arrays (grown when a frame needs
+ * more) and are sorted through one long key per command: building and
+ * flushing a frame does not allocate.
+ */
+public class RenderQueue {
+
+    // Layers, drawn in this order
+    public static final int LAYER_ALIENS = 0;
+    public static final int LAYER_BULLETS = 1;
+    public static final int LAYER_DARKNESS = 2;
+    public static final int LAYER_PARTICLES = 3;
+    public static final int LAYER_SHIP = 4;
+
+    /**
+     * A command that draws itself (vertex runs, shader swaps) instead of a
+     * single region. It is still sorted by its layer and texture.
+     */
+    public interface Drawable {
+        void draw(SpriteBatch batch, RenderQueue queue);
+    }
+
+    // Sort key: layer (8 bits) | texture id (16 bits) | submission index (24 bits)
+    private static final int INDEX_BITS = 24;
+    private static final int TEXTURE_BITS = 16;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    private static final int TRANSFORM_FLOATS = 9;
+
+    private int capacity;
+    private int size;
+    private TextureRegion[] regions;
+    private Drawable[] drawables;
+    private Texture[] textures;
+    private float[] transforms; // x, y, originX, originY, width, height, scaleX, scaleY, rotation
+    private float[] colors;
+    private long[] keys;
+
+    // Small per-texture ids for the sort key; textures live for the whole game, so this stays small
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<Texture>();
+
+    private final Color tint = new Color(Color.WHITE);
+    private float packedTint = tint.toFloatBits();
+
+    private int lastTextureSwitches;
+    private int lastUnsortedTextureSwitches;
+
+    public RenderQueue() {
+        this(256);
+    }
+
+    public RenderQueue(int initialCapacity) {
+        allocate(Math.max(16, initialCapacity));
+    }
+
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        regions = regions == null ? new TextureRegion[newCapacity] : Arrays.copyOf(regions, newCapacity);
+        drawables = drawables == null ? new Drawable[newCapacity] : Arrays.copyOf(drawables, newCapacity);
+        textures = textures == null ? new Texture[newCapacity] : Arrays.copyOf(textures, newCapacity);
+        transforms = transforms == null ? new float[newCapacity * TRANSFORM_FLOATS]
+                : Arrays.copyOf(transforms, newCapacity * TRANSFORM_FLOATS);
+        colors = colors == null ? new float[newCapacity] : Arrays.copyOf(colors, newCapacity);
+        keys = keys == null ? new long[newCapacity] : Arrays.copyOf(keys, newCapacity);
+    }
+
+    /**
+     * Starts a frame. The tint (the level's ambient color) is what entities
+     * multiply their own colors with; see {@link #getTint()}.
+     */
+    public void begin(Color tint) {
+        this.tint.set(tint);
+        packedTint = this.tint.toFloatBits();
+        size = 0;
+    }
+
+    public Color getTint() {
+        return tint;
+    }
+
+    /** The tint, packed: the color for a plain, untinted sprite. */
+    public float getPackedTint() {
+        return packedTint;
+    }
+
+    /** Tint's RGB with the given alpha, packed. */
+    public float tintWithAlpha(float alpha) {
+        return Color.toFloatBits(tint.r, tint.g, tint.b, alpha);
+    }
+
+    /** Queues an unrotated region. */
+    public void draw(int layer, TextureRegion region, float packedColor, float x, float y, float width,
+            float height) {
+        draw(layer, region, packedColor, x, y, 0, 0, width, height, 1, 1, 0);
+    }
+
+    /** Queues a region with the same transform parameters as SpriteBatch.draw. */
+    public void draw(int layer, TextureRegion region, float packedColor, float x, float y, float originX,
+            float originY, float width, float height, float scaleX, float scaleY, float rotation) {
+        if (region == null) {
+            return;
+        }
+        int i = add(layer, region.getTexture());
+        regions[i] = region;
+        colors[i] = packedColor;
+        int t = i * TRANSFORM_FLOATS;
+        transforms[t] = x;
+        transforms[t + 1] = y;
+        transforms[t + 2] = originX;
+        transforms[t + 3] = originY;
+        transforms[t + 4] = width;
+        transforms[t + 5] = height;
+        transforms[t + 6] = scaleX;
+        transforms[t + 7] = scaleY;
+        transforms[t + 8] = rotation;
+    }
+
+    /** Queues a command that draws itself; texture may be null if it draws none (it then sorts first). */
+    public void draw(int layer, Texture texture, Drawable drawable) {
+        int i = add(layer, texture);
+        drawables[i] = drawable;
+    }
+
+    private int add(int layer, Texture texture) {
+        if (size == capacity) {
+            allocate(capacity * 2);
+        }
+        int i = size++;
+        regions[i] = null;
+        drawables[i] = null;
+        textures[i] = texture;
+        keys[i] = ((long) layer << (INDEX_BITS + TEXTURE_BITS)) | ((long) textureId(texture) << INDEX_BITS) | i;
+        return i;
+    }
+
+    private int textureId(Texture texture) {
+        if (texture == null) {
+            return 0;
+        }
+        int id = textureIds.get(texture, -1);
+        if (id < 0) {
+            id = textureIds.size + 1;
+            textureIds.put(texture, id);
+        }
+        return id;
+    }
+
+    /**
+     * Sorts and draws everything queued this frame into a running batch, then
+     * restores the batch color. The index in each key keeps sorting stable.
+     */
+    public void flush(SpriteBatch batch) {
+        lastUnsortedTextureSwitches = countTextureSwitches(false);
+        Arrays.sort(keys, 0, size);
+        lastTextureSwitches = countTextureSwitches(true);
+
+        float previousColor = batch.getPackedColor();
+        for (int k = 0; k < size; k++) {
+            int i = (int) (keys[k] & INDEX_MASK);
+            if (drawables[i] != null) {
+                batch.setPackedColor(previousColor);
+                drawables[i].draw(batch, this);
+                drawables[i] = null;
+                continue;
+            }
+            int t = i * TRANSFORM_FLOATS;
+            batch.setPackedColor(colors[i]);
+            batch.draw(regions[i], transforms[t], transforms[t + 1], transforms[t + 2], transforms[t + 3],
+                    transforms[t + 4], transforms[t + 5], transforms[t + 6], transforms[t + 7], transforms[t + 8]);
+            regions[i] = null;
+        }
+        batch.setPackedColor(previousColor);
+        size = 0;
+    }
+
+    private int countTextureSwitches(boolean sorted) {
+        int switches = 0;
+        Texture current = null;
+        for (int k = 0; k < size; k++) {
+            Texture texture = textures[sorted ? (int) (keys[k] & INDEX_MASK) : k];
+            if (texture != null && texture != current) {
+                switches++;
+                current = texture;
+            }
+        }
+        return switches;
+    }
+
+    /** Texture switches (batch flushes) in the last flushed frame. */
+    public int getTextureSwitches() {
+        return lastTextureSwitches;
+    }
+
+    /** Draw calls the sort saved in the last flushed frame versus drawing in submission order. */
+    public int getDrawCallsSaved() {
+        return lastUnsortedTextureSwitches - lastTextureSwitches;
+    }
+}
@@ -0,0 +1,191 @@
+package com.space.game.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.space.game.GameRandom;
+
+/**
+ * Background stars drawn from static meshes.
+ *
+ * Every star's attributes (position, color, twinkle phase/period, size) are
+ * uploaded once; drift and twinkle run in shaders/starfield.vert from a few
+ * uniforms, so update and render cost the same for 400 stars or 40,000.
+ *
+ * Stars are split into meshes of at most {@link #STARS_PER_MESH} so indices
+ * fit in 16 bits (WebGL 1 has no 32-bit indices).
+ *
+ * Check {@link #isSupported()} after construction; when the shader does not
+ * compile the caller keeps drawing stars on the CPU.
+ */
+public class StarfieldMesh {
+    public static final int STARS_PER_MESH = 65536 / 4;
+
+    // a_position(2) + a_corner(2) + a_color(packed, 1) + a_params(3)
+    private static final int FLOATS_PER_VERTEX = 8;
+
+    // Wrap the twinkle clock so float precision holds up in long sessions
+    private static final float TIME_WRAP = 3600f;
+
+    private final ShaderProgram shader;
+    private final Array<Mesh> meshes = new Array<Mesh>();
+    private final IntArray starsPerMesh = new IntArray();
+    private TextureRegion region;
+    private int visibleStars = Integer.MAX_VALUE;
+
+    private float time;
+    private float offsetX, offsetY;
+
+    public StarfieldMesh(int starCount, Color[] palette, TextureRegion region, GameRandom random) {
+        this.region = region;
+        shader = new ShaderProgram(Gdx.files.internal("shaders/starfield.vert"),
+                Gdx.files.internal("shaders/starfield.frag"));
+        if (!shader.isCompiled()) {
+            Gdx.app.error("Starfield", "Shader compilation failed, using CPU stars:\n" + shader.getLog());
+            return;
+        }
+
+        for (int first = 0; first < starCount; first += STARS_PER_MESH) {
+            int count = Math.min(STARS_PER_MESH, starCount - first);
+            meshes.add(buildMesh(count, palette, random));
+            starsPerMesh.add(count);
+        }
+    }
+
+    private Mesh buildMesh(int stars, Color[] palette, GameRandom random) {
+        Mesh mesh = new Mesh(true, stars * 4, stars * 6,
+                new VertexAttribute(Usage.Position, 2, "a_position"),
+                new VertexAttribute(Usage.Generic, 2, "a_corner"),
+                VertexAttribute.ColorPacked(),
+                new VertexAttribute(Usage.Generic, 3, "a_params"));
+
+        float[] vertices = new float[stars * 4 * FLOATS_PER_VERTEX];
+        short[] indices = new short[stars * 6];
+        int v = 0;
+        for (int s = 0; s < stars; s++) {
+            float x = random.nextFloat();
+            float y = random.nextFloat();
+            float color = palette[random.range(0, palette.length - 1)].toFloatBits();
+            float phase = random.nextFloat();
+            float period = randomTwinklePeriod(random);
+            float size = 1f / randomSize(random);
+
+            for (int corner = 0; corner < 4; corner++) {
+                vertices[v++] = x;
+                vertices[v++] = y;
+                vertices[v++] = corner == 1 || corner == 2 ? 1 : 0;
+                vertices[v++] = corner >= 2 ? 1 : 0;
+                vertices[v++] = color;
+                vertices[v++] = phase;
+                vertices[v++] = period;
+                vertices[v++] = size;
+            }
+
+            int base = s * 4;
+            int i = s * 6;
+            indices[i] = (short) base;
+            indices[i + 1] = (short) (base + 1);
+            indices[i + 2] = (short) (base + 2);
+            indices[i + 3] = (short) (base + 2);
+            indices[i + 4] = (short) (base + 3);
+            indices[i + 5] = (short) base;
+        }
+        mesh.setVertices(vertices);
+        mesh.setIndices(indices);
+        return mesh;
+    }
+
+    /**
+     * Size divisor of a background star (smaller means bigger on screen):
+     * 10% large highlights, 50% medium, 40% small distant ones.
+     */
+    public static float randomSize(GameRandom random) {
+        float r = random.nextFloat();
+        if (r < 0.10f) {
+            return random.range(0.6f, 0.8f);
+        } else if (r < 0.60f) {
+            return random.range(0.8f, 1.2f);
+        }
+        return random.range(1.2f, 1.8f);
+    }
+
+    /** Seconds between flashes; the CPU stars use the same 77-777 frame range at 60 fps. */
+    public static float randomTwinklePeriod(GameRandom random) {
+        return random.range(77, 777) / 60f;
+    }
+
+    public boolean isSupported() {
+        return shader.isCompiled() && region != null;
+    }
+
+    /** Draws only the first stars; positions are random, so this thins the field evenly. */
+    public void setVisibleStars(int visibleStars) {
+        this.visibleStars = Math.max(0, visibleStars);
+    }
+
+    public void setRegion(TextureRegion region) {
+        this.region = region;
+    }
+
+    /** Advances drift (pixels per second) and the twinkle clock; constant cost. */
+    public void update(float delta, float velocityX, float velocityY, float viewWidth, float viewHeight) {
+        time = (time + delta) % TIME_WRAP;
+        if (viewWidth > 0 && viewHeight > 0) {
+            offsetX = (offsetX + velocityX * delta) % viewWidth;
+            offsetY = (offsetY + velocityY * delta) % viewHeight;
+        }
+    }
+
+    /**
+     * Draws all stars between the batch's surrounding draws. The batch is
+     * flushed first and its shader rebound afterwards, so it can keep going.
+     */
+    public void render(SpriteBatch batch, float viewWidth, float viewHeight, float spriteSize, float minAlpha,
+            float maxAlpha, float fadeRate) {
+        if (!isSupported() || meshes.size == 0) {
+            return;
+        }
+        batch.flush();
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        region.getTexture().bind(0);
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", batch.getProjectionMatrix());
+        shader.setUniformi("u_texture", 0);
+        shader.setUniformf("u_viewSize", viewWidth, viewHeight);
+        shader.setUniformf("u_offset", offsetX, offsetY);
+        shader.setUniformf("u_time", time);
+        shader.setUniformf("u_spriteSize", spriteSize);
+        shader.setUniformf("u_region", region.getU(), region.getV(), region.getU2(), region.getV2());
+        shader.setUniformf("u_alphaRange", minAlpha, maxAlpha);
+        shader.setUniformf("u_fadeRate", fadeRate);
+
+        int remaining = visibleStars;
+        for (int i = 0; i < meshes.size && remaining > 0; i++) {
+            int stars = Math.min(remaining, starsPerMesh.get(i));
+            meshes.get(i).render(shader, GL20.GL_TRIANGLES, 0, stars * 6);
+            remaining -= stars;
+        }
+
+        // SpriteBatch only binds its program in begin(); restore it for the rest of the frame
+        batch.getShader().bind();
+    }
+
+    public void dispose() {
+        for (Mesh mesh : meshes) {
+            mesh.dispose();
+        }
+        meshes.clear();
+        shader.dispose();
+    }
+}
@@ -1,55 +1,142 @@
 package com.space.game.graphics;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.space.game.managers.LoadingManager;
+import com.space.game.managers.LoadingManager.Group;
 import java.util.HashMap;
 
-public class TextureManager {
+/**
+ * Owns every texture the game draws.
+ *
+ * Sprites (ship, bullet, aliens, star) are handed out as TextureRegions. When
+ * the packed atlas ({@link TexturePaths#ATLAS}) is present they all live on the
+ * same page, so the playfield batches into a single draw call; otherwise each
+ * region wraps its own standalone Texture, which looks the same but costs a
+ * texture bind per switch. Regenerate the atlas with ./gradlew lwjgl3:packTextures.
+ *
+ * Background layers stay standalone Textures: they are large and get tiled.
+ *
+ * Everything is loaded by the {@link LoadingManager} (BOOT group), which also
+ * owns and disposes the textures.
+ */
+public class TextureManager implements LoadingManager.Listener {
     private HashMap<String, Texture> textures;
+    private HashMap<String, TextureRegion> regions;
+    private TextureAtlas atlas;
+    private final Array<Texture> ownTextures = new Array<Texture>();
+
+    // Background layers: { TextureManager key, image }
+    private static final String[][] LAYERS = {
+            { "background", TexturePaths.BACKGROUND },
+            { "bg_nebula", TexturePaths.BG_NEBULA },
+            { "bg_stars", TexturePaths.BG_STARS },
+            { "bg_dust", TexturePaths.BG_DUST },
+            { "fixed_bg_nebula", TexturePaths.BG_NEBULA_RED },
+    };
 
     public TextureManager() {
         textures = new HashMap<String, Texture>();
+        regions = new HashMap<String, TextureRegion>();
+    }
+
+    /**
+     * Queues every texture in the BOOT group: the atlas when present (its
+     * page comes in as a dependency), otherwise each sprite on its own, plus
+     * the background layers.
+     */
+    public void queueTextures(LoadingManager loading) {
+        if (Gdx.files.internal(TexturePaths.ATLAS).exists()) {
+            loading.load(Group.BOOT, TexturePaths.ATLAS, TextureAtlas.class);
+        } else {
+            System.out.println("No texture atlas at " + TexturePaths.ATLAS + ", using standalone sprite textures");
+            for (String[] sprite : TexturePaths.SPRITES) {
+                loading.load(Group.BOOT, sprite[1], Texture.class);
+            }
+        }
+        for (String[] layer : LAYERS) {
+            loading.load(Group.BOOT, layer[1], Texture.class);
+        }
+        loading.addListener(Group.BOOT, this);
+    }
+
+    @Override
+    public void onAssetsLoaded(Group group, AssetManager assets) {
+        if (assets.isLoaded(TexturePaths.ATLAS)) {
+            atlas = assets.get(TexturePaths.ATLAS, TextureAtlas.class);
+        }
+
+        // Sprites (packed into the atlas; see TexturePaths.SPRITES)
+        for (String[] sprite : TexturePaths.SPRITES) {
+            TextureRegion region = atlas != null ? atlas.findRegion(sprite[0]) : null;
+            if (region == null) {
+                if (atlas != null) {
+                    System.out.println("Sprite missing from atlas, loading it standalone: " + sprite[0]);
+                }
+                Texture texture = atlas != null ? loadStandalone(sprite[1]) : get(assets, sprite[1]);
+                if (texture == null) {
+                    continue;
+                }
+                textures.put(sprite[0], texture);
+                region = new TextureRegion(texture);
+            }
+            regions.put(sprite[0], region);
+        }
+
+        for (String[] layer : LAYERS) {
+            Texture texture = get(assets, layer[1]);
+            if (texture != null) {
+                textures.put(layer[0], texture);
+            }
+        }
     }
 
-    public void loadTexture(String key, String path) {
+    // Atlas out of date: load the missing sprite on the spot; it is ours to dispose
+    private Texture loadStandalone(String path) {
         try {
             Texture texture = new Texture(path);
-            textures.put(key, texture);
+            ownTextures.add(texture);
+            return texture;
         } catch (Exception e) {
             System.out.println("Error loading texture: " + path);
             e.printStackTrace();
+            return null;
         }
     }
 
+    private static Texture get(AssetManager assets, String path) {
+        if (!assets.isLoaded(path)) {
+            System.out.println("Error loading texture: " + path);
+            return null;
+        }
+        return assets.get(path, Texture.class);
+    }
+
+    public TextureRegion getRegion(String key) {
+        return regions.get(key);
+    }
+
+    /** Standalone textures only (background layers); sprites are {@link #getRegion(String)}. */
     public Texture getTexture(String key) {
         return textures.get(key);
     }
 
+    public boolean isAtlasLoaded() {
+        return atlas != null;
+    }
+
     public void dispose() {
-        for (Texture texture : textures.values()) {
+        // Everything else belongs to the LoadingManager's AssetManager
+        for (Texture texture : ownTextures) {
             texture.dispose();
         }
+        ownTextures.clear();
+        textures.clear();
+        regions.clear();
+        atlas = null;
     }
-
-    public void loadTextures(TextureManager textureManager) {
-        // Carregar texturas
-        textureManager.loadTexture("bullet", TexturePaths.BULLET);
-        textureManager.loadTexture("spaceship", TexturePaths.SPACESHIP);
-        textureManager.loadTexture("alien", TexturePaths.ALIEN);
-        textureManager.loadTexture("alienDead", TexturePaths.ALIEN_DEAD);
-
-        // New Alien Textures
-        textureManager.loadTexture("alienLinear", TexturePaths.ALIEN_LINEAR);
-        textureManager.loadTexture("alienWave", TexturePaths.ALIEN_WAVE);
-        textureManager.loadTexture("alienSpiral", TexturePaths.ALIEN_SPIRAL);
-        textureManager.loadTexture("alienBoomer", TexturePaths.ALIEN_BOOMER);
-        textureManager.loadTexture("alienBoomerSheet", TexturePaths.ALIEN_BOOMER_SPRITE_SHEET);
-        textureManager.loadTexture("background", TexturePaths.BACKGROUND);
-        textureManager.loadTexture("star", TexturePaths.STAR);
-
-        // Load Parallax Layers
-        textureManager.loadTexture("bg_nebula", TexturePaths.BG_NEBULA);
-        textureManager.loadTexture("bg_stars", TexturePaths.BG_STARS);
-        textureManager.loadTexture("bg_dust", TexturePaths.BG_DUST);
-        textureManager.loadTexture("fixed_bg_nebula", TexturePaths.BG_NEBULA_RED);
-    }
-}
\ No newline at end of file
+}
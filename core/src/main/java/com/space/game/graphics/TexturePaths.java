@@ -17,6 +17,22 @@ public class TexturePaths {
     public static final String ALIEN_BOOMER_SPRITE_SHEET = "images/aliens/alien_boomer_sprite_sheet.png"; // 640x80 (8
                                                                                                           // frames)
 
+    // Packed sprite atlas (generated by ./gradlew lwjgl3:packTextures from SPRITES)
+    public static final String ATLAS = "atlas/sprites.atlas";
+
+    // Sprites that go into the atlas: { region name / TextureManager key, source image }
+    // (ALIEN and ALIEN_DEAD are left out: nothing draws them and their images are not in assets/)
+    public static final String[][] SPRITES = {
+            { "bullet", BULLET },
+            { "spaceship", SPACESHIP },
+            { "alienLinear", ALIEN_LINEAR },
+            { "alienWave", ALIEN_WAVE },
+            { "alienSpiral", ALIEN_SPIRAL },
+            { "alienBoomer", ALIEN_BOOMER },
+            { "alienBoomerSheet", ALIEN_BOOMER_SPRITE_SHEET },
+            { "star", STAR },
+    };
+
     // Parallax Background Layers
     public static final String BG_NEBULA = "images/scenario/NEBULA_BLUE/NEBULA.png";
     public static final String BG_STARS = "images/scenario/NEBULA_BLUE/STAR.png";
@@ -0,0 +1,126 @@
+package com.space.game.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Darkness for dark levels, drawn inside the running batch.
+ *
+ * The cone of light is computed per fragment in shaders/vision.frag from the
+ * ship position, facing and radius, over a single quad covering the view: no
+ * stencil buffer, no batch.end()/begin(), no ShapeRenderer. Lights-out is the
+ * same quad in plain black through the batch's own shader.
+ *
+ * Queued on {@link RenderQueue#LAYER_DARKNESS}, so it covers the aliens and
+ * bullets but not the particles and the ship drawn above it.
+ *
+ * If the shader does not compile the cone is not drawn (the level stays lit)
+ * rather than blacking out the screen.
+ */
+public class VisionMask implements RenderQueue.Drawable {
+    private final ShaderProgram shader;
+    private final Texture pixel;
+    private final Color previousColor = new Color();
+
+    // Parameters of the queued mask, read back when the queue draws it
+    private boolean blackout;
+    private float coneX, coneY, coneAngle, coneHalfAngle, coneRadius;
+    private float viewWidth, viewHeight;
+
+    public VisionMask() {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        pixel = new Texture(pixmap);
+        pixmap.dispose();
+
+        shader = new ShaderProgram(Gdx.files.internal("shaders/vision.vert"),
+                Gdx.files.internal("shaders/vision.frag"));
+        if (!shader.isCompiled()) {
+            Gdx.app.error("VisionMask", "Shader compilation failed, dark levels stay lit:\n" + shader.getLog());
+        }
+    }
+
+    public boolean isSupported() {
+        return shader.isCompiled();
+    }
+
+    /** Queues {@link #renderCone} with these parameters. */
+    public void queueCone(RenderQueue queue, float x, float y, float angle, float halfAngle, float radius,
+            float viewWidth, float viewHeight) {
+        if (!isSupported()) {
+            return;
+        }
+        blackout = false;
+        coneX = x;
+        coneY = y;
+        coneAngle = angle;
+        coneHalfAngle = halfAngle;
+        coneRadius = radius;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        queue.draw(RenderQueue.LAYER_DARKNESS, pixel, this);
+    }
+
+    /** Queues {@link #renderBlackout}. */
+    public void queueBlackout(RenderQueue queue, float viewWidth, float viewHeight) {
+        blackout = true;
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        queue.draw(RenderQueue.LAYER_DARKNESS, pixel, this);
+    }
+
+    @Override
+    public void draw(SpriteBatch batch, RenderQueue queue) {
+        if (blackout) {
+            renderBlackout(batch, viewWidth, viewHeight);
+        } else {
+            renderCone(batch, coneX, coneY, coneAngle, coneHalfAngle, coneRadius, viewWidth, viewHeight);
+        }
+    }
+
+    /**
+     * Darkens the view except for a cone from (x, y).
+     *
+     * @param angle     cone axis in degrees (0 = +X, counter-clockwise)
+     * @param halfAngle half the opening, in degrees
+     * @param radius    reach of the light, in world units
+     */
+    public void renderCone(SpriteBatch batch, float x, float y, float angle, float halfAngle, float radius,
+            float viewWidth, float viewHeight) {
+        if (!isSupported()) {
+            return;
+        }
+        // Swapping the shader flushes what was queued; the quad then goes out with the next flush
+        batch.setShader(shader);
+        shader.setUniformf("u_center", x, y);
+        shader.setUniformf("u_direction", MathUtils.cosDeg(angle), MathUtils.sinDeg(angle));
+        shader.setUniformf("u_cosHalfAngle", MathUtils.cosDeg(halfAngle));
+        shader.setUniformf("u_radius", radius);
+        drawView(batch, viewWidth, viewHeight);
+        batch.setShader(null);
+    }
+
+    /** Blacks out the whole view (lights-out flicker). */
+    public void renderBlackout(SpriteBatch batch, float viewWidth, float viewHeight) {
+        drawView(batch, viewWidth, viewHeight);
+    }
+
+    private void drawView(SpriteBatch batch, float viewWidth, float viewHeight) {
+        previousColor.set(batch.getColor());
+        batch.setColor(Color.BLACK);
+        // The camera never scrolls, so the view is [0, width] x [0, height] in world units
+        batch.draw(pixel, 0, 0, viewWidth, viewHeight);
+        batch.setColor(previousColor);
+    }
+
+    public void dispose() {
+        pixel.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,14 @@
+package com.space.game.graphics.post;
+
+/** Chromatic aberration: red and blue pulled apart towards the screen edges. */
+public class AberrationPass extends PostPass {
+
+    public AberrationPass(float intensity) {
+        super("aberration", "shaders/aberration.frag", intensity);
+    }
+
+    @Override
+    protected void applyUniforms(float texelWidth, float texelHeight) {
+        shader.setUniformf("u_intensity", intensity);
+    }
+}
@@ -0,0 +1,45 @@
+package com.space.game.graphics.post;
+
+/**
+ * Glow around bright pixels. Off by default; {@link #pulse(float)} lights it
+ * up for big explosions and it fades back to zero, where the pass is skipped.
+ */
+public class BloomPass extends PostPass {
+    private float threshold;
+    private float radius;
+    private float fadePerSecond;
+
+    public BloomPass(float threshold, float radius, float fadePerSecond) {
+        super("bloom", "shaders/bloom.frag", 0);
+        this.threshold = threshold;
+        this.radius = radius;
+        this.fadePerSecond = fadePerSecond;
+    }
+
+    /** Raises the glow to at least the given intensity; it then fades out. */
+    public void pulse(float peak) {
+        intensity = Math.max(intensity, peak);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (intensity > 0) {
+            intensity = Math.max(0, intensity - fadePerSecond * delta);
+        }
+    }
+
+    @Override
+    protected void applyUniforms(float texelWidth, float texelHeight) {
+        shader.setUniformf("u_intensity", intensity);
+        shader.setUniformf("u_threshold", threshold);
+        shader.setUniformf("u_step", texelWidth * radius, texelHeight * radius);
+    }
+
+    public void setThreshold(float threshold) {
+        this.threshold = threshold;
+    }
+
+    public void setRadius(float radius) {
+        this.radius = radius;
+    }
+}
@@ -0,0 +1,61 @@
+package com.space.game.graphics.post;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * One full-screen step of the {@link PostProcessor}: a fragment shader run
+ * over the previous step's output. A pass whose intensity is zero (or whose
+ * shader failed to compile) is skipped without costing a draw.
+ */
+public abstract class PostPass {
+    protected final String name;
+    protected final ShaderProgram shader;
+    protected float intensity;
+
+    protected PostPass(String name, String fragmentPath, float intensity) {
+        this.name = name;
+        this.intensity = intensity;
+        shader = new ShaderProgram(Gdx.files.internal("shaders/default.vert"), Gdx.files.internal(fragmentPath));
+        if (!shader.isCompiled()) {
+            Gdx.app.error("PostProcessor", name + " pass disabled, shader compilation failed:\n" + shader.getLog());
+        }
+    }
+
+    public boolean isActive() {
+        return intensity > 0 && shader.isCompiled();
+    }
+
+    /**
+     * Sets this pass's uniforms. Called with the shader bound, once per frame
+     * the pass runs.
+     *
+     * @param texelWidth  1 / width of the texture being read
+     * @param texelHeight 1 / height of the texture being read
+     */
+    protected abstract void applyUniforms(float texelWidth, float texelHeight);
+
+    /** Per-frame hook for passes that animate (e.g. fading bloom). */
+    public void update(float delta) {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public float getIntensity() {
+        return intensity;
+    }
+
+    public void setIntensity(float intensity) {
+        this.intensity = Math.max(0, intensity);
+    }
+
+    ShaderProgram getShader() {
+        return shader;
+    }
+
+    public void dispose() {
+        shader.dispose();
+    }
+}
@@ -0,0 +1,214 @@
+package com.space.game.graphics.post;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.space.game.config.GameConfig;
+
+/**
+ * Renders the scene into an offscreen buffer at a configurable scale and runs
+ * an ordered list of full-screen passes over it, the last one drawing
+ * (upscaled) to the screen.
+ *
+ * Two framebuffers at the scaled size are reused across frames and
+ * ping-ponged between passes; they are only recreated when the window size or
+ * the render scale changes. Passes with zero intensity are skipped, and when
+ * nothing is active at full scale the scene goes straight to the back buffer
+ * with no offscreen copy at all.
+ */
+public class PostProcessor {
+    private final Array<PostPass> passes = new Array<PostPass>();
+    private final BloomPass bloom;
+    private final AberrationPass aberration;
+    private final VignettePass vignette;
+
+    // buffers[0] receives the scene, buffers[1] is the ping-pong target
+    private final FrameBuffer[] buffers = new FrameBuffer[2];
+    private int screenWidth, screenHeight;
+    private int bufferWidth, bufferHeight;
+    private float renderScale = GameConfig.RENDER_SCALE;
+    // Set when the buffers could not be created at the current size; not retried until it changes
+    private boolean buffersUnavailable;
+
+    private final Matrix4 bufferProjection = new Matrix4();
+    private final Matrix4 screenProjection = new Matrix4();
+    private boolean capturing;
+
+    public PostProcessor() {
+        bloom = addPass(new BloomPass(GameConfig.BLOOM_THRESHOLD, GameConfig.BLOOM_RADIUS,
+                GameConfig.BLOOM_FADE_PER_SECOND));
+        aberration = addPass(new AberrationPass(GameConfig.ABERRATION_INTENSITY));
+        vignette = addPass(new VignettePass(GameConfig.VIGNETTE_INTENSITY, GameConfig.VIGNETTE_SPREAD));
+    }
+
+    /** Appends a pass; passes run in the order they were added. */
+    public <T extends PostPass> T addPass(T pass) {
+        passes.add(pass);
+        return pass;
+    }
+
+    public void resize(int width, int height) {
+        screenWidth = width;
+        screenHeight = height;
+        screenProjection.setToOrtho2D(0, 0, width, height);
+    }
+
+    /** Fraction of the window resolution the scene is rendered at, clamped to [MIN_RENDER_SCALE, 1]. */
+    public void setRenderScale(float scale) {
+        renderScale = MathUtils.clamp(scale, GameConfig.MIN_RENDER_SCALE, 1f);
+    }
+
+    public float getRenderScale() {
+        return renderScale;
+    }
+
+    public void update(float delta) {
+        for (int i = 0; i < passes.size; i++) {
+            passes.get(i).update(delta);
+        }
+    }
+
+    private boolean needsCapture() {
+        if (renderScale < 1f) {
+            return true;
+        }
+        for (int i = 0; i < passes.size; i++) {
+            if (passes.get(i).isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts capturing the scene. Call after the viewport has been applied:
+     * when capturing, the GL viewport is switched to the scaled buffer.
+     *
+     * @return false if the scene should simply be drawn to the screen
+     */
+    public boolean begin() {
+        capturing = false;
+        if (screenWidth <= 0 || screenHeight <= 0 || !needsCapture() || !ensureBuffers()) {
+            return false;
+        }
+        buffers[0].begin();
+        capturing = true;
+        return true;
+    }
+
+    /** Runs the active passes over the captured scene and presents it. No-op when not capturing. */
+    public void end(SpriteBatch batch) {
+        if (!capturing) {
+            return;
+        }
+        capturing = false;
+        buffers[0].end();
+
+        int last = -1;
+        for (int i = 0; i < passes.size; i++) {
+            if (passes.get(i).isActive()) {
+                last = i;
+            }
+        }
+
+        // Full-screen copies replace every pixel; blending would only cost fill rate
+        batch.disableBlending();
+        int source = 0;
+        for (int i = 0; i < last; i++) {
+            PostPass pass = passes.get(i);
+            if (!pass.isActive()) {
+                continue;
+            }
+            FrameBuffer target = buffers[1 - source];
+            target.begin();
+            draw(batch, pass, buffers[source].getColorBufferTexture(), bufferProjection, bufferWidth, bufferHeight);
+            target.end();
+            source = 1 - source;
+        }
+        // The last active pass (or a plain copy when only scaling) upscales to the screen
+        draw(batch, last >= 0 ? passes.get(last) : null, buffers[source].getColorBufferTexture(), screenProjection,
+                screenWidth, screenHeight);
+        batch.enableBlending();
+    }
+
+    private void draw(SpriteBatch batch, PostPass pass, Texture texture, Matrix4 projection, int width, int height) {
+        batch.setShader(pass != null ? pass.getShader() : null);
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        if (pass != null) {
+            pass.applyUniforms(1f / texture.getWidth(), 1f / texture.getHeight());
+        }
+        // Flipped on Y because FBO textures are stored bottom-up
+        batch.draw(texture, 0, 0, width, height, 0, 0, texture.getWidth(), texture.getHeight(), false, true);
+        batch.end();
+        batch.setShader(null);
+    }
+
+    private boolean ensureBuffers() {
+        int width = Math.max(1, Math.round(screenWidth * renderScale));
+        int height = Math.max(1, Math.round(screenHeight * renderScale));
+        if (width == bufferWidth && height == bufferHeight && (buffers[0] != null || buffersUnavailable)) {
+            return !buffersUnavailable;
+        }
+        disposeBuffers();
+        buffersUnavailable = true;
+        bufferWidth = width;
+        bufferHeight = height;
+        bufferProjection.setToOrtho2D(0, 0, width, height);
+
+        try {
+            buffers[0] = createBuffer(width, height);
+            buffers[1] = createBuffer(width, height);
+        } catch (Exception e) {
+            Gdx.app.error("FBO", "Failed to create post-processing FBOs", e);
+            disposeBuffers();
+            return false;
+        }
+        buffersUnavailable = false;
+        return true;
+    }
+
+    private static FrameBuffer createBuffer(int width, int height) {
+        FrameBuffer buffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        // Linear so a reduced render scale upscales smoothly
+        buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        return buffer;
+    }
+
+    private void disposeBuffers() {
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] != null) {
+                buffers[i].dispose();
+                buffers[i] = null;
+            }
+        }
+    }
+
+    public BloomPass getBloom() {
+        return bloom;
+    }
+
+    public AberrationPass getAberration() {
+        return aberration;
+    }
+
+    public VignettePass getVignette() {
+        return vignette;
+    }
+
+    public Array<PostPass> getPasses() {
+        return passes;
+    }
+
+    public void dispose() {
+        disposeBuffers();
+        for (PostPass pass : passes) {
+            pass.dispose();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.space.game.graphics.post;
+
+/** Darkens the screen edges. */
+public class VignettePass extends PostPass {
+    private float spread;
+
+    public VignettePass(float intensity, float spread) {
+        super("vignette", "shaders/vignette.frag", intensity);
+        this.spread = spread;
+    }
+
+    @Override
+    protected void applyUniforms(float texelWidth, float texelHeight) {
+        shader.setUniformf("u_intensity", Math.min(1f, intensity));
+        shader.setUniformf("u_spread", spread);
+    }
+
+    /** How far in the dark edge reaches (0 = only the corners). */
+    public void setSpread(float spread) {
+        this.spread = spread;
+    }
+
+    public float getSpread() {
+        return spread;
+    }
+}
@@ -3,21 +3,24 @@ package com.space.game.levels;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.Color;
 import com.space.game.config.LevelConfig;
+import com.space.game.ecs.RenderSystem;
 import com.space.game.entities.Spaceship;
 import com.badlogic.gdx.math.Vector2;
 
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
+import com.space.game.graphics.VisionMask;
 import com.space.game.managers.AlienManager;
 import com.space.game.managers.BulletManager;
 import com.space.game.managers.CollisionManager;
 import com.space.game.managers.GameStateManager;
 import com.space.game.managers.InputManager;
+import com.space.game.managers.ProfilerManager;
+import com.space.game.managers.ProfilerManager.Section;
 import com.space.game.managers.SoundManager;
 import com.space.game.managers.UIManager;
 import com.badlogic.gdx.Gdx;
 import com.space.game.SpaceGame;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.GL20;
 
 public class DynamicLevel implements Level {
     private Spaceship spaceship;
@@ -33,15 +36,21 @@ public class DynamicLevel implements Level {
     private boolean endLevel;
     private boolean isSpaceshipNoMunition;
 
-    private ShapeRenderer shapeRenderer;
+    private VisionMask visionMask;
+    private RenderQueue renderQueue;
+    private RenderSystem renderSystem;
     private com.space.game.managers.ParticleManager particleManager;
+    private ProfilerManager profiler;
 
     public DynamicLevel(LevelConfig config, Spaceship spaceship, BulletManager bulletManager,
             com.space.game.managers.ParticleManager particleManager) {
-        this.shapeRenderer = new ShapeRenderer();
         this.textureManager = SpaceGame.getGame().getTextureManager();
         this.uiManager = SpaceGame.getGame().getUiManager();
         this.gsm = SpaceGame.getGame().getGsm();
+        this.profiler = SpaceGame.getGame().getProfiler();
+        this.visionMask = SpaceGame.getGame().getVisionMask();
+        this.renderQueue = SpaceGame.getGame().getRenderQueue();
+        this.renderSystem = new RenderSystem(SpaceGame.getGame().getMapManager().getWorld());
         this.config = config;
         this.soundManager = SpaceGame.getGame().getSoundManager();
         com.space.game.managers.MusicManager musicManager = SpaceGame.getGame().getMusicManager();
@@ -55,7 +64,8 @@ public class DynamicLevel implements Level {
         inputManager = new InputManager(gsm, spaceship);
         Gdx.input.setInputProcessor(inputManager);
 
-        alienManager = new AlienManager(textureManager, spaceship, config);
+        alienManager = new AlienManager(textureManager, spaceship, config,
+                SpaceGame.getGame().getRandom().gameplay());
         collisionManager = new CollisionManager(bulletManager, alienManager, spaceship, soundManager, musicManager,
                 particleManager);
 
@@ -96,90 +106,38 @@ public class DynamicLevel implements Level {
 
     @Override
     public void render(SpriteBatch batch) {
-        // Apply Ambient Lighting from Theme
-        if (config.getTheme() != null) {
-            batch.setColor(config.getTheme().getAmbientColor());
-        }
+        // Entities queue their sprites; the queue draws them sorted by layer, then texture
+        renderQueue.begin(config.getTheme() != null ? config.getTheme().getAmbientColor() : Color.WHITE);
 
-        alienManager.render(batch);
-        bulletManager.render(batch);
+        alienManager.render(renderQueue);
+        // Plain sprites of the entity world (bullets)
+        renderSystem.render(renderQueue);
 
+        // Darkness covers the background, aliens and bullets; particles and the ship stay visible on top
+        float viewWidth = SpaceGame.getGame().getWorldWidth();
+        float viewHeight = SpaceGame.getGame().getWorldHeight();
         if (isLightsOut) {
-            batch.end();
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-            shapeRenderer.setProjectionMatrix(batch.getProjectionMatrix());
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(0, 0, 0, 1);
-            shapeRenderer.rect(-10000, -10000, 20000, 20000);
-            shapeRenderer.end();
-            batch.begin();
-            // Restore ambient color after shapeRenderer usage if needed,
-            // though batch.begin() resets color usually to white or previous?
-            // SpriteBatch usually retains color. let's re-apply to be safe if we continue
-            // drawing sprites.
-            if (config.getTheme() != null) {
-                batch.setColor(config.getTheme().getAmbientColor());
-            }
+            visionMask.queueBlackout(renderQueue, viewWidth, viewHeight);
         } else if (config.isDarkLevel() && isDarkMaskActive) {
-            batch.end();
-
-            Gdx.gl.glEnable(GL20.GL_STENCIL_TEST);
-            Gdx.gl.glClear(GL20.GL_STENCIL_BUFFER_BIT);
-
-            // Draw Cone to Stencil
-            Gdx.gl.glStencilFunc(GL20.GL_ALWAYS, 1, 0xFF);
-            Gdx.gl.glStencilOp(GL20.GL_KEEP, GL20.GL_KEEP, GL20.GL_REPLACE);
-            Gdx.gl.glStencilMask(0xFF);
-
-            // Disable color writing so we only write to the stencil buffer
-            Gdx.gl.glColorMask(false, false, false, false);
-
-            shapeRenderer.setProjectionMatrix(batch.getProjectionMatrix());
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(1, 1, 1, 1);
-
             Vector2 center = spaceship.getVisualCenter();
-            float shipX = center.x;
-            float shipY = center.y;
             float angle = spaceship.getAngle() + 90;
-
-            shapeRenderer.arc(shipX, shipY, com.space.game.config.ConfigUtils.scale(1200f), angle - 30, 60);
-            shapeRenderer.end();
-
-            // Re-enable color writing
-            Gdx.gl.glColorMask(true, true, true, true);
-
-            // Draw Black Overlay where Stencil != 1
-            Gdx.gl.glStencilFunc(GL20.GL_NOTEQUAL, 1, 0xFF);
-            Gdx.gl.glStencilOp(GL20.GL_KEEP, GL20.GL_KEEP, GL20.GL_KEEP);
-
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(0, 0, 0, 1);
-            shapeRenderer.rect(-10000, -10000, 20000, 20000);
-            shapeRenderer.end();
-
-            Gdx.gl.glDisable(GL20.GL_STENCIL_TEST);
-
-            batch.begin();
-            // Re-apply ambient color
-            if (config.getTheme() != null) {
-                batch.setColor(config.getTheme().getAmbientColor());
-            }
+            visionMask.queueCone(renderQueue, center.x, center.y, angle, 30,
+                    com.space.game.config.ConfigUtils.scale(1200f), viewWidth, viewHeight);
         }
 
         if (particleManager != null) {
-            particleManager.render(batch);
+            particleManager.render(renderQueue);
         }
 
-        spaceship.render(batch);
+        spaceship.render(renderQueue);
 
-        // RESET COLOR TO WHITE FOR UI RENDERING LATER
-        batch.setColor(Color.WHITE);
+        profiler.begin(Section.RENDER_QUEUE);
+        renderQueue.flush(batch);
+        profiler.end(Section.RENDER_QUEUE);
     }
 
     @Override
-    public void update() {
+    public void update(float delta) {
         if (alienManager.getEndLevel() == true) {
             endLevel = true;
             return;
@@ -190,12 +148,16 @@ public class DynamicLevel implements Level {
             isSpaceshipNoMunition = true;
         }
 
-        spaceship.update(Gdx.graphics.getDeltaTime());
-        bulletManager.update();
-        alienManager.update(bulletManager.getBullets());
-        collisionManager.checkBulletCollisions();
+        spaceship.update(delta);
+        bulletManager.update(delta);
+        profiler.begin(Section.ALIEN_UPDATE);
+        alienManager.update(bulletManager.getBullets(), delta);
+        profiler.end(Section.ALIEN_UPDATE);
 
+        profiler.begin(Section.COLLISION);
+        collisionManager.checkBulletCollisions();
         boolean collisionResult = collisionManager.checkSpaceshipCollisions();
+        profiler.end(Section.COLLISION);
 
         if (spaceship.isDead()) {
             // Delay Game Over
@@ -209,19 +171,24 @@ public class DynamicLevel implements Level {
         alienManager.spawnAliens(spaceship);
 
         if (particleManager != null) {
-            particleManager.update(Gdx.graphics.getDeltaTime());
+            profiler.begin(Section.PARTICLE_UPDATE);
+            particleManager.update(delta);
+            profiler.end(Section.PARTICLE_UPDATE);
         }
 
-        inputManager.update(Gdx.graphics.getDeltaTime());
+        inputManager.update(delta);
     }
 
     @Override
-    public void updateTransition() {
-        spaceship.update(Gdx.graphics.getDeltaTime());
-        if (particleManager != null)
-            particleManager.update(Gdx.graphics.getDeltaTime());
-        bulletManager.update();
-        inputManager.update(Gdx.graphics.getDeltaTime());
+    public void updateTransition(float delta) {
+        spaceship.update(delta);
+        if (particleManager != null) {
+            profiler.begin(Section.PARTICLE_UPDATE);
+            particleManager.update(delta);
+            profiler.end(Section.PARTICLE_UPDATE);
+        }
+        bulletManager.update(delta);
+        inputManager.update(delta);
     }
 
     @Override
@@ -238,9 +205,6 @@ public class DynamicLevel implements Level {
         // bulletManager.dispose(); // Managed by MapManager
         alienManager.dispose();
         collisionManager = null;
-        if (shapeRenderer != null) {
-            shapeRenderer.dispose();
-        }
     }
 
     @Override
@@ -252,6 +216,10 @@ public class DynamicLevel implements Level {
         return alienManager;
     }
 
+    public InputManager getInputManager() {
+        return inputManager;
+    }
+
     public LevelConfig getConfig() {
         return config;
     }
@@ -7,9 +7,9 @@ import com.space.game.config.LevelConfig;
 public interface Level {
     void render(SpriteBatch batch);
 
-    void update();
+    void update(float delta);
 
-    void updateTransition();
+    void updateTransition(float delta);
 
     void startWave();
 
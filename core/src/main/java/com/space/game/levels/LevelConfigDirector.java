@@ -1,10 +1,9 @@
 package com.space.game.levels;
 
-import java.util.ArrayList;
+import com.badlogic.gdx.utils.IntArray;
 import com.space.game.entities.Spaceship;
-import java.util.List;
-import java.util.Random;
 
+import com.space.game.GameRandom;
 import com.space.game.SpaceGame;
 import com.space.game.config.LevelConfig;
 import com.space.game.config.LevelConfigBuilder;
@@ -16,13 +15,13 @@ import com.space.game.config.LevelTheme;
  */
 public class LevelConfigDirector {
 
-    private final Random random;
+    private final GameRandom random; // Gameplay stream of the RandomManager
     private float factorSpeedInitial;
     private float speed;
     private boolean initialized = false;
 
-    public LevelConfigDirector() {
-        this.random = new Random();
+    public LevelConfigDirector(GameRandom random) {
+        this.random = random;
         // Removida a inicialização aqui para evitar NullPointerException
         // A inicialização será feita lazy quando necessário
     }
@@ -46,10 +45,8 @@ public class LevelConfigDirector {
         builder.reset();
 
         int enemyCount = 7;
-        List<Integer> movementPatterns = new ArrayList<>();
         // Wave 1: Only linear aliens (Pattern 0)
-        for (int i = 0; i < enemyCount; i++)
-            movementPatterns.add(0);
+        int[] movementPatterns = new int[enemyCount];
 
         return builder
                 .setBasicInfo(1)
@@ -73,7 +70,7 @@ public class LevelConfigDirector {
         // Calcula novos valores baseados no nível anterior
         int newEnemyCount = calculateEnemyCount(previousConfig);
         float newEnemySpeed = calculateEnemySpeed(previousConfig);
-        List<Integer> movementPatterns = generateMovementPatterns(newEnemyCount, levelNumber);
+        int[] movementPatterns = generateMovementPatterns(newEnemyCount, levelNumber);
 
         // Obtém estatísticas atuais do jogador
         PlayerStats stats = getCurrentPlayerStats();
@@ -82,7 +79,7 @@ public class LevelConfigDirector {
                 .setBasicInfo(levelNumber)
                 .setEnemyConfiguration(newEnemyCount, newEnemySpeed)
                 .setMovementPatterns(movementPatterns)
-                .setPlayerResources(stats.ammunitions + 7)
+                .setPlayerResources(stats.ammunitions + resourceBonus(levelNumber))
                 .setPlayerStats(stats.kills, stats.streak, stats.consecutiveKills)
                 .setDarkLevel((levelNumber == 4) || (levelNumber > 10 && levelNumber % 3 == 0 && levelNumber % 2 != 0))
                 .setTheme(determineTheme(levelNumber)) // New Theme Logic
@@ -101,7 +98,7 @@ public class LevelConfigDirector {
         // Use config for challenge speed multiplier
         float challengeSpeed = baseConfig.getEnemySpeed()
                 * com.space.game.config.GameConfig.CHALLENGE_LEVEL_SPEED_MULTIPLIER;
-        List<Integer> challengePatterns = generateChallengeMovementPatterns(challengeEnemyCount, levelNumber);
+        int[] challengePatterns = generateChallengeMovementPatterns(challengeEnemyCount, levelNumber);
 
         PlayerStats stats = getCurrentPlayerStats();
 
@@ -109,7 +106,7 @@ public class LevelConfigDirector {
                 .setBasicInfo(levelNumber)
                 .setEnemyConfiguration(challengeEnemyCount, challengeSpeed)
                 .setMovementPatterns(challengePatterns)
-                .setPlayerResources(stats.ammunitions + 10) // Mais munição para o desafio
+                .setPlayerResources(stats.ammunitions + resourceBonus(levelNumber)) // Mais munição para o desafio
                 .setPlayerStats(stats.kills, stats.streak, stats.consecutiveKills)
                 .setDarkLevel((levelNumber == 4) || (levelNumber > 10 && levelNumber % 3 == 0 && levelNumber % 2 != 0))
                 .setTheme(LevelTheme.NEBULA_BLUE) // Challenge Theme
@@ -127,7 +124,7 @@ public class LevelConfigDirector {
         int bossEnemyCount = 15 + random.nextInt(5); // Muitos inimigos
         // Use config for boss speed multiplier
         float bossSpeed = com.space.game.config.GameConfig.BOSS_LEVEL_SPEED_MULTIPLIER;
-        List<Integer> bossPatterns = generateBossMovementPatterns(bossEnemyCount);
+        int[] bossPatterns = generateBossMovementPatterns(bossEnemyCount);
 
         PlayerStats stats = getCurrentPlayerStats();
 
@@ -135,15 +132,38 @@ public class LevelConfigDirector {
                 .setBasicInfo(levelNumber)
                 .setEnemyConfiguration(bossEnemyCount, bossSpeed)
                 .setMovementPatterns(bossPatterns)
-                .setPlayerResources(stats.ammunitions + 15)
+                .setPlayerResources(stats.ammunitions + resourceBonus(levelNumber))
                 .setPlayerStats(stats.kills, stats.streak, stats.consecutiveKills)
                 .setDarkLevel(levelNumber % 9 == 0)
                 .setTheme(LevelTheme.NEBULA_BLUE) // Boss Theme
                 .build();
     }
 
+    /**
+     * Restamps a config built ahead of time with the player's stats as they
+     * are now, at the moment the level actually starts
+     */
+    public LevelConfig applyCurrentPlayerStats(LevelConfig config) {
+        if (config.getLevelNumber() == 1) {
+            return config; // Fixed starting stats
+        }
+        PlayerStats stats = getCurrentPlayerStats();
+        return config.withPlayerStats(stats.ammunitions + resourceBonus(config.getLevelNumber()), stats.kills,
+                stats.streak, stats.consecutiveKills);
+    }
+
     // Métodos auxiliares para cálculos específicos
 
+    // Extra resources per level type: boss 15, challenge 10, progressive 7 (same order as LevelFactory)
+    private int resourceBonus(int levelNumber) {
+        if (levelNumber % 10 == 0) {
+            return 15;
+        } else if (levelNumber % 7 == 0) {
+            return 10;
+        }
+        return 7;
+    }
+
     private int calculateEnemyCount(LevelConfig previousConfig) {
         int level = previousConfig.getLevelNumber() + 1;
         int baseCount = com.space.game.config.GameConfig.BASE_ENEMY_COUNT +
@@ -187,46 +207,47 @@ public class LevelConfigDirector {
 
     // Geração de padrões de movimento
 
-    private List<Integer> generateMovementPatterns(int enemyCount, int levelNumber) {
-        List<Integer> patterns = new ArrayList<>();
-        List<Integer> weightedPatterns = createWeightedPatterns(enemyCount, levelNumber);
+    private int[] generateMovementPatterns(int enemyCount, int levelNumber) {
+        int[] patterns = new int[enemyCount];
+        IntArray weightedPatterns = createWeightedPatterns(enemyCount, levelNumber);
 
         for (int i = 0; i < enemyCount; i++) {
-            patterns.add(weightedPatterns.get(random.nextInt(weightedPatterns.size())));
+            patterns[i] = weightedPatterns.get(random.nextInt(weightedPatterns.size));
         }
         return patterns;
     }
 
-    private List<Integer> generateChallengeMovementPatterns(int enemyCount, int levelNumber) {
-        List<Integer> patterns = new ArrayList<>();
+    private int[] generateChallengeMovementPatterns(int enemyCount, int levelNumber) {
+        int[] patterns = new int[enemyCount];
         // Para níveis de desafio, usar mais padrões complexos
         // Para níveis de desafio, usar mais padrões complexos
         for (int i = 0; i < enemyCount; i++) {
             if (levelNumber > com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL && random.nextFloat() < 0.05f) { // 5%
                                                                                                                   // Chance
-                patterns.add(3); // Mix in Baby Boomers (Rare)
+                patterns[i] = 3; // Mix in Baby Boomers (Rare)
             } else {
-                patterns.add(random.nextInt(2) + 1); // Padrões 1 e 2
+                patterns[i] = random.nextInt(2) + 1; // Padrões 1 e 2
             }
         }
         return patterns;
     }
 
-    private List<Integer> generateBossMovementPatterns(int enemyCount) {
-        List<Integer> patterns = new ArrayList<>();
+    private int[] generateBossMovementPatterns(int enemyCount) {
+        int[] patterns = new int[enemyCount];
         // Para níveis boss, usar principalmente o padrão mais difícil
         for (int i = 0; i < enemyCount; i++) {
             if (random.nextFloat() < 0.7f) {
-                patterns.add(2); // 70% padrão mais difícil
+                patterns[i] = 2; // 70% padrão mais difícil
             } else {
-                patterns.add(1); // 30% padrão médio
+                patterns[i] = 1; // 30% padrão médio
             }
         }
         return patterns;
     }
 
-    private List<Integer> createWeightedPatterns(int enemyCount, int levelNumber) {
-        List<Integer> weightedPatterns = new ArrayList<>();
+    private IntArray createWeightedPatterns(int enemyCount, int levelNumber) {
+        IntArray weightedPatterns = new IntArray(
+                enemyCount + com.space.game.config.GameConfig.MAX_BABY_BOOMERS_PER_WAVE);
 
         if (levelNumber == 2) {
             // Wave 2: Linear (0) + Wave (1)
@@ -1,34 +1,41 @@
 package com.space.game.levels;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import com.badlogic.gdx.utils.IntMap;
 import com.space.game.config.LevelConfig;
 import com.space.game.entities.Spaceship;
 import com.space.game.config.LevelConfigBuilder;
 import com.space.game.config.StandardLevelConfigBuilder;
 
 public class LevelFactory {
-    private Map<Integer, LevelConfig> levelConfigs;
+    private IntMap<LevelConfig> levelConfigs;
     private LevelConfigDirector director;
     private LevelConfigBuilder builder;
 
-    public LevelFactory() {
-        this.levelConfigs = new HashMap<>();
-        this.director = new LevelConfigDirector();
+    public LevelFactory(com.space.game.GameRandom random) {
+        this.levelConfigs = new IntMap<>();
+        this.director = new LevelConfigDirector(random);
         this.builder = new StandardLevelConfigBuilder();
     }
 
     public Level createLevel(int levelNumber, Spaceship spaceship, com.space.game.managers.BulletManager bulletManager,
             com.space.game.managers.ParticleManager particleManager) {
-        LevelConfig config = levelConfigs.get(levelNumber);
-        if (config == null) {
-            config = generateNewLevelConfig(levelNumber);
-            levelConfigs.put(levelNumber, config);
-        }
+        prepareLevel(levelNumber);
+        // Player stats are taken now, not when the config was generated
+        LevelConfig config = director.applyCurrentPlayerStats(levelConfigs.get(levelNumber));
         return new DynamicLevel(config, spaceship, bulletManager, particleManager);
     }
 
+    /**
+     * Generates and caches the config of a level ahead of time, so the wave
+     * transition into it only has to build the level. Needs the previous
+     * level's config; does nothing if the level is already cached.
+     */
+    public void prepareLevel(int levelNumber) {
+        if (!levelConfigs.containsKey(levelNumber)) {
+            levelConfigs.put(levelNumber, generateNewLevelConfig(levelNumber));
+        }
+    }
+
     private LevelConfig generateNewLevelConfig(int levelNumber) {
         if (levelNumber == 1) {
             // Usa o Director para construir o primeiro nível
@@ -1,18 +1,45 @@
 package com.space.game.managers;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import com.space.game.GameRandom;
+import com.space.game.config.GameConfig;
 import com.space.game.entities.Alien;
-import com.space.game.entities.Spaceship;
 import com.space.game.graphics.TextureManager;
 import com.space.game.entities.enemies.BoomerAlien;
 import com.space.game.entities.enemies.NormalAlien;
-import com.space.game.entities.movements.*;
+import com.space.game.entities.movements.MovementStrategy;
 
+/**
+ * Creates aliens by movement pattern, recycling them through one pool per
+ * type. Owned by the MapManager so the pools outlive levels, like the
+ * bullet pool.
+ */
 public class AlienFactory {
-  public static Alien createAlien(TextureManager textureManager, Vector2 position, float scale, float speed,
-      Spaceship spaceship, int movementPattern) {
-    MovementStrategy strategy;
+  private final Pool<NormalAlien> normalPool = new Pool<NormalAlien>(GameConfig.ALIEN_POOL_SIZE,
+      GameConfig.ALIEN_POOL_SIZE) {
+    @Override
+    protected NormalAlien newObject() {
+      return new NormalAlien();
+    }
+  };
+  private final Pool<BoomerAlien> babyBoomerPool = new Pool<BoomerAlien>(GameConfig.MAX_ACTIVE_BABY_BOOMERS,
+      GameConfig.ALIEN_POOL_SIZE) {
+    @Override
+    protected BoomerAlien newObject() {
+      return new BoomerAlien();
+    }
+  };
+  private final TextureManager textureManager;
 
+  public AlienFactory(TextureManager textureManager) {
+    this.textureManager = textureManager;
+    // Warm the pool so the first waves don't allocate either
+    normalPool.fill(GameConfig.MAX_ACTIVE_ALIENS_BASE);
+  }
+
+  /** The position is copied; callers may pass a scratch vector. */
+  public Alien createAlien(Vector2 position, float scale, float speed, int movementPattern, GameRandom random) {
     // Vary size for "common" aliens (NormalAlien)
     // Target base logic: Default scale multiplier was specific to pattern (1.45 for
     // linear, 1.15 for wave/spiral)
@@ -35,31 +62,47 @@ public class AlienFactory {
       // Range 86 to 94 is roughly +/- 4% from 92 (actually -6% to +2%).
       // Let's do random(0.93f, 1.02f) but favoring 1.0.
       // Triangular distribution: min 0.93, max 1.02, mode 1.0
-      sizeVariation = com.badlogic.gdx.math.MathUtils.randomTriangular(0.93f, 1.02f, 1.0f);
+      sizeVariation = random.triangular(0.93f, 1.02f, 1.0f);
     }
 
     float variedScale = scale * sizeVariation;
 
-    // Determine Strategy and Type
+    // Determine Movement and Type (movement state is started by AlienMovementSystem on the first move)
     switch (movementPattern) {
       case 0: // Linear
-        strategy = new LinearMovement();
-        return new NormalAlien(textureManager, position, variedScale, speed, spaceship, strategy, 0);
+        return normalPool.obtain().init(textureManager, position, variedScale, speed, MovementStrategy.LINEAR, 0,
+            random);
       case 1: // Wave
-        strategy = new WaveMovement();
-        return new NormalAlien(textureManager, position, variedScale, speed, spaceship, strategy, 1);
+        return normalPool.obtain().init(textureManager, position, variedScale, speed, MovementStrategy.WAVE, 1,
+            random);
       case 2: // Spiral
-        strategy = new SpiralMovement(speed);
-        return new NormalAlien(textureManager, position, variedScale, speed, spaceship, strategy, 2);
-      case 3: // Baby Boomer
-        strategy = new LinearMovement(); // They track linearly
-        return new BoomerAlien(textureManager, position, scale, speed, spaceship, strategy, false);
-      case 4: // Boss Boomer
-        strategy = new LinearMovement();
-        return new BoomerAlien(textureManager, position, scale, speed, spaceship, strategy, true);
+        return normalPool.obtain().init(textureManager, position, variedScale, speed, MovementStrategy.SPIRAL, 2,
+            random);
+      case 3: // Baby Boomer (they track linearly)
+        return babyBoomerPool.obtain().init(textureManager, position, scale, speed, MovementStrategy.LINEAR, false);
+      case 4: // Boss Boomer (one per boss level: not pooled, the HUD and boss sequence keep it after removal)
+        return new BoomerAlien().init(textureManager, position, scale, speed, MovementStrategy.LINEAR, true);
+      default:
+        return normalPool.obtain().init(textureManager, position, scale, speed, MovementStrategy.LINEAR, 0, random);
+    }
+  }
+
+  /** Returns a removed alien to its type's pool. */
+  public void free(Alien alien) {
+    switch (alien.getType()) {
+      case NORMAL:
+        normalPool.free((NormalAlien) alien);
+        break;
+      case BABY_BOOMER:
+        babyBoomerPool.free((BoomerAlien) alien);
+        break;
       default:
-        strategy = new LinearMovement();
-        return new NormalAlien(textureManager, position, scale, speed, spaceship, strategy, 0);
+        break;
     }
   }
+
+  public void dispose() {
+    normalPool.clear();
+    babyBoomerPool.clear();
+  }
 }
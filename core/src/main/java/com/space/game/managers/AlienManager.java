@@ -1,18 +1,23 @@
 package com.space.game.managers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.space.game.GameRandom;
 import com.space.game.SpaceGame;
 import com.space.game.config.ConfigUtils;
+import com.space.game.ecs.AlienAdapter;
+import com.space.game.ecs.AlienMovementSystem;
+import com.space.game.ecs.DamageSystem;
+import com.space.game.ecs.EntityWorld;
 import com.space.game.entities.Alien;
 import com.space.game.entities.Bullet;
 import com.space.game.entities.Spaceship;
+import com.space.game.entities.movements.MovementStrategy;
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
 import com.space.game.managers.GameStateManager.State;
 import com.space.game.config.LevelConfig;
@@ -20,6 +25,12 @@ import com.space.game.config.LevelConfig;
 public class AlienManager {
     private float scale_screen = ConfigUtils.calcularFatorDeEscala();
     private List<Alien> aliens;
+    // Each alien is mirrored into the world after it changes; counts read the dense flags
+    private final EntityWorld world;
+    private final DamageSystem damage;
+    private final AlienMovementSystem movement;
+    private final AlienFactory factory;
+    private final GameRandom random; // Gameplay stream: spawn pacing, sides, speeds, alien parameters
     private TextureManager textureManager;
     private float deltaTime;
     private Spaceship spaceship;
@@ -29,6 +40,12 @@ public class AlienManager {
     private boolean isSpaceshipNoMunition;
 
     private LevelConfig config;
+    // The config's patterns are shared; spawning advances a cursor instead of removing from them
+    private final int[] patterns;
+    private int patternCursor;
+    // Spawn scheduler: aliens of the current batch not created yet (see drainSpawnQueue)
+    private int pendingSpawns;
+    private final Vector2 spawnPosition = new Vector2(); // Scratch; the factory copies it
 
     private float bossWarningTimer = 0;
     private boolean bossWarningShown = false;
@@ -48,11 +65,17 @@ public class AlienManager {
     private float spawnTimer = 0;
     private boolean intenseMomentOccurred = false;
 
-    public AlienManager(TextureManager textureManager, Spaceship spaceship, LevelConfig config) {
+    public AlienManager(TextureManager textureManager, Spaceship spaceship, LevelConfig config, GameRandom random) {
         this.config = config;
+        this.patterns = config.getEnemyMovementPatterns();
+        this.random = random;
         this.aliens = new ArrayList<>();
+        this.world = SpaceGame.getGame().getMapManager().getWorld();
+        this.damage = new DamageSystem(world);
+        this.movement = new AlienMovementSystem(world, random);
+        this.factory = SpaceGame.getGame().getMapManager().getAlienFactory();
         this.textureManager = textureManager;
-        this.deltaTime = Gdx.graphics.getDeltaTime();
+        this.deltaTime = SpaceGame.getGame().getClock().getStep(); // Refreshed by every update() tick
         this.spaceship = spaceship;
 
         this.activeAlienCount = 0;
@@ -65,14 +88,15 @@ public class AlienManager {
         // Initialize Pacing
         // Initialize Pacing
         this.currentMoment = SpawnMoment.CALM;
-        this.momentTimer = MathUtils.random(com.space.game.config.GameConfig.DURATION_CALM_MIN,
+        this.momentTimer = random.range(com.space.game.config.GameConfig.DURATION_CALM_MIN,
                 com.space.game.config.GameConfig.DURATION_CALM_MAX); // Start calm
         this.spawnTimer = 1.0f; // Initial small delay
     }
 
     public void addAlien(Vector2 position, float scale, float speed, int movementPattern) {
-        Alien newAlien = AlienFactory.createAlien(textureManager, position, scale, speed, spaceship, movementPattern);
+        Alien newAlien = factory.createAlien(position, scale, speed, movementPattern, random);
         aliens.add(newAlien);
+        AlienAdapter.attach(world, newAlien, movementPattern);
 
         // Track Boss
         if (movementPattern == 4) { // Boss Boomer
@@ -106,18 +130,29 @@ public class AlienManager {
             return;
         }
 
-        activeAlienCount = 0;
-        for (Alien alien : this.getAliens()) {
-            if (!alien.isDead()) {
-                activeAlienCount++;
-            }
-        }
+        activeAlienCount = damage.countAlive(EntityWorld.KIND_ALIEN);
 
         // If we still have aliens to spawn...
-        if (config.getEnemyMovementPatterns().size() > 0) {
+        if (remainingPatterns() > 0) {
             updatePacing(deltaTime);
             updateSpawning(deltaTime, spaceship);
+            drainSpawnQueue(spaceship);
+        }
+    }
+
+    /**
+     * Creates up to SPAWNS_PER_TICK aliens of the queued batch, so an intense
+     * batch is spread over a few ticks instead of landing in one. A count
+     * rather than a time budget keeps spawning identical on every machine
+     * (replays).
+     */
+    private void drainSpawnQueue(Spaceship spaceship) {
+        int count = Math.min(pendingSpawns, com.space.game.config.GameConfig.SPAWNS_PER_TICK);
+        for (int i = 0; i < count; i++) {
+            spawnSingleAlien(spaceship, config.getLevelNumber());
         }
+        pendingSpawns -= count;
+        activeAlienCount = damage.countAlive(EntityWorld.KIND_ALIEN);
     }
 
     private void updatePacing(float delta) {
@@ -128,7 +163,7 @@ public class AlienManager {
             switch (currentMoment) {
                 case CALM:
                     // After Calm, go to Steady (70%) or Intense (30%)
-                    if (MathUtils.randomBoolean(0.3f)) {
+                    if (random.chance(0.3f)) {
                         switchToMoment(SpawnMoment.INTENSE);
                     } else {
                         switchToMoment(SpawnMoment.STEADY);
@@ -136,7 +171,7 @@ public class AlienManager {
                     break;
                 case STEADY:
                     // After Steady, usually go Intense (to ensure excitement) or back to Calm
-                    if (MathUtils.randomBoolean(0.6f)) {
+                    if (random.chance(0.6f)) {
                         switchToMoment(SpawnMoment.INTENSE);
                     } else {
                         switchToMoment(SpawnMoment.CALM);
@@ -144,7 +179,7 @@ public class AlienManager {
                     break;
                 case INTENSE:
                     // After Intense, always cooldown to Calm or Steady
-                    if (MathUtils.randomBoolean(0.7f)) {
+                    if (random.chance(0.7f)) {
                         switchToMoment(SpawnMoment.CALM);
                     } else {
                         switchToMoment(SpawnMoment.STEADY);
@@ -159,15 +194,15 @@ public class AlienManager {
 
         switch (next) {
             case CALM:
-                momentTimer = MathUtils.random(com.space.game.config.GameConfig.DURATION_CALM_MIN,
+                momentTimer = random.range(com.space.game.config.GameConfig.DURATION_CALM_MIN,
                         com.space.game.config.GameConfig.DURATION_CALM_MAX);
                 break;
             case STEADY:
-                momentTimer = MathUtils.random(com.space.game.config.GameConfig.DURATION_STEADY_MIN,
+                momentTimer = random.range(com.space.game.config.GameConfig.DURATION_STEADY_MIN,
                         com.space.game.config.GameConfig.DURATION_STEADY_MAX);
                 break;
             case INTENSE:
-                momentTimer = MathUtils.random(com.space.game.config.GameConfig.DURATION_INTENSE_MIN,
+                momentTimer = random.range(com.space.game.config.GameConfig.DURATION_INTENSE_MIN,
                         com.space.game.config.GameConfig.DURATION_INTENSE_MAX);
                 intenseMomentOccurred = true;
                 break;
@@ -194,50 +229,49 @@ public class AlienManager {
             if (maxActiveBase > com.space.game.config.GameConfig.ABSOLUTE_MAX_ALIENS_ON_SCREEN)
                 maxActiveBase = com.space.game.config.GameConfig.ABSOLUTE_MAX_ALIENS_ON_SCREEN;
 
-            if (activeAlienCount >= maxActiveBase) {
+            // Queued aliens already hold their slots
+            if (activeAlienCount + pendingSpawns >= maxActiveBase) {
                 spawnTimer = 0.5f; // Wait a bit if full
                 return;
             }
 
             switch (currentMoment) {
                 case CALM:
-                    batchSize = MathUtils.random(com.space.game.config.GameConfig.BATCH_CALM_MIN,
+                    batchSize = random.range(com.space.game.config.GameConfig.BATCH_CALM_MIN,
                             com.space.game.config.GameConfig.BATCH_CALM_MAX);
-                    cooldown = MathUtils.random(com.space.game.config.GameConfig.COOLDOWN_CALM_MIN,
+                    cooldown = random.range(com.space.game.config.GameConfig.COOLDOWN_CALM_MIN,
                             com.space.game.config.GameConfig.COOLDOWN_CALM_MAX);
                     break;
                 case STEADY:
-                    batchSize = MathUtils.random(com.space.game.config.GameConfig.BATCH_STEADY_MIN,
+                    batchSize = random.range(com.space.game.config.GameConfig.BATCH_STEADY_MIN,
                             com.space.game.config.GameConfig.BATCH_STEADY_MAX);
-                    cooldown = MathUtils.random(com.space.game.config.GameConfig.COOLDOWN_STEADY_MIN,
+                    cooldown = random.range(com.space.game.config.GameConfig.COOLDOWN_STEADY_MIN,
                             com.space.game.config.GameConfig.COOLDOWN_STEADY_MAX);
                     break;
                 case INTENSE:
-                    batchSize = MathUtils.random(com.space.game.config.GameConfig.BATCH_INTENSE_MIN,
+                    batchSize = random.range(com.space.game.config.GameConfig.BATCH_INTENSE_MIN,
                             com.space.game.config.GameConfig.BATCH_INTENSE_MAX); // Frenetic!
-                    cooldown = MathUtils.random(com.space.game.config.GameConfig.COOLDOWN_INTENSE_MIN,
+                    cooldown = random.range(com.space.game.config.GameConfig.COOLDOWN_INTENSE_MIN,
                             com.space.game.config.GameConfig.COOLDOWN_INTENSE_MAX);
                     break;
             }
 
             // Cap batch by available slots
-            int availableSlots = maxActiveBase - activeAlienCount;
+            int availableSlots = maxActiveBase - activeAlienCount - pendingSpawns;
             batchSize = Math.min(batchSize, availableSlots);
 
             // Cap by remaining enemies in config
-            batchSize = Math.min(batchSize, config.getEnemyMovementPatterns().size());
+            batchSize = Math.min(batchSize, remainingPatterns() - pendingSpawns);
 
-            // Exec Spawning
-            for (int i = 0; i < batchSize; i++) {
-                spawnSingleAlien(spaceship, currentLevel);
-            }
+            // Queue the batch; drainSpawnQueue creates it over the next ticks
+            pendingSpawns += batchSize;
 
             spawnTimer = cooldown;
         }
     }
 
     private void spawnSingleAlien(Spaceship spaceship, int currentLevel) {
-        if (config.getEnemyMovementPatterns().isEmpty())
+        if (remainingPatterns() == 0)
             return;
 
         int spawnSideIndex = determineSpawnSideIndex(currentLevel);
@@ -246,7 +280,7 @@ public class AlienManager {
         float levelSpeedMultiplier = config.getEnemySpeed();
         float alienScale = 0.6f * scale_screen;
 
-        int pattern = config.getEnemyMovementPatterns().get(0);
+        int pattern = patterns[patternCursor];
 
         // Determine specific speed based on type/pattern
         float baseSpeedPercent = 0.05f; // Default
@@ -271,15 +305,19 @@ public class AlienManager {
         float finalSpeed = (baseSpeedPercent * SpaceGame.getGame().getWorldWidth()) * levelSpeedMultiplier;
 
         // Add significant random variation (85% to 135% speed) per alien
-        finalSpeed *= MathUtils.random(0.85f, 1.35f);
+        finalSpeed *= random.range(0.85f, 1.35f);
 
         // Add small random pixel variation
-        finalSpeed += MathUtils.random(-5f, 5f);
+        finalSpeed += random.range(-5f, 5f);
 
         this.addAlien(alienPosition, alienScale, finalSpeed, pattern);
 
-        // Remove from queue
-        config.getEnemyMovementPatterns().remove(0);
+        // Next in queue
+        patternCursor++;
+    }
+
+    private int remainingPatterns() {
+        return patterns != null ? patterns.length - patternCursor : 0;
     }
 
     private void handleBossLevel(Spaceship spaceship) {
@@ -292,15 +330,11 @@ public class AlienManager {
                 com.space.game.SpaceGame.getGame().getMusicManager().playBossMusic();
             }
 
-            activeAlienCount = 0;
-            for (Alien alien : this.getAliens()) {
-                if (!alien.isDead())
-                    activeAlienCount++;
-            }
+            activeAlienCount = damage.countAlive(EntityWorld.KIND_ALIEN);
 
-            if (activeAlienCount <= 6 && config.getEnemyMovementPatterns().size() > 0) {
+            if (activeAlienCount <= 6 && remainingPatterns() > 0) {
                 // Frenetic spawn: Use configured count
-                int spawn_range = MathUtils.random(com.space.game.config.GameConfig.BOSS_MINION_SPAWN_COUNT,
+                int spawn_range = random.range(com.space.game.config.GameConfig.BOSS_MINION_SPAWN_COUNT,
                         com.space.game.config.GameConfig.MAX_ENEMIES_ON_BOSS_SCREEN);
                 spawnNormalAliens(spaceship, spawn_range);
             }
@@ -344,13 +378,13 @@ public class AlienManager {
 
         // Phase 3: Spawn Boss
         if (!bossSpawned) {
-            boolean right = MathUtils.randomBoolean();
+            boolean right = random.nextBoolean();
             // Fix Left Spawn: -200 (extra padding) instead of -100 to ensure out of view
             float x = right ? com.space.game.SpaceGame.getGame().getWorldWidth() + ConfigUtils.scale(200f)
                     : -ConfigUtils.scale(400f); // Increased left offset to prevent pop-in
 
             float y = com.space.game.SpaceGame.getGame().getWorldHeight() / 2f;
-            Vector2 pos = new Vector2(x, y);
+            Vector2 pos = spawnPosition.set(x, y);
 
             // Correctly calculate Boss Speed using percentage
             float bossSpeed = ConfigUtils.scale(com.space.game.config.GameConfig.BOSS_BOOMER_SPEED);
@@ -375,6 +409,7 @@ public class AlienManager {
             if (bossAlien != null) {
                 bossAlien.setMaxHp(totalHP);
                 bossAlien.setHp(totalHP);
+                AlienAdapter.push(world, bossAlien);
             }
 
             bossSpawned = true;
@@ -404,13 +439,13 @@ public class AlienManager {
 
             // Dramatic explosions during death timer
             if (bossDeathTimer > 0) {
-                if (MathUtils.randomBoolean(0.3f)) { // Random small explosions
-                    float rx = bossAlien.getPosition().x + MathUtils.random(bossAlien.getBounds().width);
-                    float ry = bossAlien.getPosition().y + MathUtils.random(bossAlien.getBounds().height);
+                if (random.chance(0.3f)) { // Random small explosions
+                    float rx = bossAlien.getPosition().x + random.range(0, bossAlien.getBounds().width);
+                    float ry = bossAlien.getPosition().y + random.range(0, bossAlien.getBounds().height);
                     // Red/Orange/Yellow explosions
                     if (com.space.game.SpaceGame.getGame().getParticleManager() != null) {
                         com.space.game.SpaceGame.getGame().getParticleManager().createExplosion(rx, ry, 20,
-                                new com.badlogic.gdx.graphics.Color(1f, MathUtils.random(0.5f), 0f, 1f));
+                                com.badlogic.gdx.graphics.Color.toFloatBits(1f, random.range(0, 0.5f), 0f, 1f));
                     }
                 }
                 return; // Wait for death animation
@@ -446,11 +481,8 @@ public class AlienManager {
 
             bossMinionSpawnTimer += deltaTime;
 
-            int activeMinions = 0;
-            for (Alien a : aliens) {
-                if (!a.isDead() && a != bossAlien)
-                    activeMinions++;
-            }
+            // The boss is alive here; everyone else alive is a minion
+            int activeMinions = damage.countAlive(EntityWorld.KIND_ALIEN) - 1;
 
             int maxMinions = com.space.game.config.GameConfig.MAX_ENEMIES_ON_BOSS_SCREEN;
 
@@ -464,12 +496,7 @@ public class AlienManager {
         // Phase 6: Victory - Only after ALL aliens (boss + minions) are eliminated
         if (isBossDying || (bossSpawned && (bossAlien == null || bossAlien.isDead()))) {
             // Count all remaining active aliens
-            int remainingAliens = 0;
-            for (Alien alien : aliens) {
-                if (!alien.isDead()) {
-                    remainingAliens++;
-                }
-            }
+            int remainingAliens = damage.countAlive(EntityWorld.KIND_ALIEN);
 
             // Only end level when ALL aliens are eliminated
             if (remainingAliens == 0) {
@@ -482,11 +509,7 @@ public class AlienManager {
 
     // Helper to reuse spawn logic
     private void spawnNormalAliens(Spaceship spaceship, int limit) {
-        activeAlienCount = 0;
-        for (Alien alien : aliens) {
-            if (!alien.isDead())
-                activeAlienCount++;
-        }
+        activeAlienCount = damage.countAlive(EntityWorld.KIND_ALIEN);
 
         // If limit is -1, it means force spawn one (used by boss logic)
         // If limit > 0, it means spawn only if active count < limit
@@ -506,7 +529,7 @@ public class AlienManager {
                     pos = calculateAlienSpawnPosition(1, spaceship.getPosition());
                 }
             } else {
-                pos = calculateAlienSpawnPosition(MathUtils.random(0, 3), spaceship.getPosition());
+                pos = calculateAlienSpawnPosition(random.range(0, 3), spaceship.getPosition());
             }
 
             // For boss infinite spawning, we might not have patterns in config left.
@@ -521,7 +544,7 @@ public class AlienManager {
             int pattern = 0;
             if (limit > 0) {
                 // Phase 1 -> Randomize
-                pattern = MathUtils.random(0, 2);
+                pattern = random.range(0, 2);
             } else {
                 // Phase 4 -> Linear
                 pattern = 0;
@@ -549,12 +572,12 @@ public class AlienManager {
         // Floor at 30% chance minimum for sides (or whatever balance desires)
         sideChance = Math.max(0.3f, sideChance);
 
-        if (MathUtils.random() < sideChance) {
+        if (random.nextFloat() < sideChance) {
             // Spawn on Sides (Left or Right)
-            return MathUtils.randomBoolean() ? 1 : 3;
+            return random.nextBoolean() ? 1 : 3;
         } else {
             // Spawn Top or Bottom (Harder)
-            return MathUtils.randomBoolean() ? 0 : 2;
+            return random.nextBoolean() ? 0 : 2;
         }
     }
 
@@ -567,59 +590,81 @@ public class AlienManager {
         // Exemplo simples de spawn positions, pode ser ajustado conforme necessário
         switch (index % 4) {
             case 0: // Topo
-                x = MathUtils.random(0, SpaceGame.getGame().getWorldWidth());
+                x = random.range(0, SpaceGame.getGame().getWorldWidth());
                 y = SpaceGame.getGame().getWorldHeight() + 50f;
                 break;
             case 1: // Direita
                 x = SpaceGame.getGame().getWorldWidth() + 50f;
-                y = MathUtils.random(0, SpaceGame.getGame().getWorldHeight());
+                y = random.range(0, SpaceGame.getGame().getWorldHeight());
                 break;
             case 2: // Baixo
-                x = MathUtils.random(0, SpaceGame.getGame().getWorldWidth());
+                x = random.range(0, SpaceGame.getGame().getWorldWidth());
                 y = -50f;
                 break;
             case 3: // Esquerda
                 x = -50f; // Fix: Ensure off-screen spawn but closer
-                y = MathUtils.random(0, SpaceGame.getGame().getWorldHeight());
+                y = random.range(0, SpaceGame.getGame().getWorldHeight());
                 break;
         }
-        return new Vector2(x, y);
+        return spawnPosition.set(x, y);
     }
 
-    public void update(List<Bullet> bullets) {
+    public void update(Array<Bullet> bullets, float delta) {
+        this.deltaTime = delta;
         if (SpaceGame.getGame().getGsm().getState() != State.PLAYING) {
             return;
         }
+        if (isSpaceshipNoMunition && !aliens.isEmpty()) {
+            Alien alien = aliens.get(0);
+            alien.setMovement(MovementStrategy.LINEAR); // Force Linear
+            alien.setSpeed(SpaceGame.getGame().getWorldWidth() / 11);
+            setIsSpaceshipNoMunition(false);
+        }
+
+        // Timers first, then one movement pass per strategy, then bounds and speed
+        movement.begin(spaceship, deltaTime);
+        for (int i = 0; i < aliens.size(); i++) {
+            Alien alien = aliens.get(i);
+            alien.savePreviousPosition();
+            if (alien.beginUpdate(deltaTime)) {
+                movement.add(alien);
+            }
+        }
+        movement.run();
+
         Iterator<Alien> alienIterator = aliens.iterator();
         while (alienIterator.hasNext()) {
             Alien alien = alienIterator.next();
-            if (isSpaceshipNoMunition) {
-                alien.setStrategy(new com.space.game.entities.movements.LinearMovement()); // Force Linear
-                alien.setSpeed(SpaceGame.getGame().getWorldWidth() / 11);
-                setIsSpaceshipNoMunition(false);
-            }
-            alien.update(deltaTime, spaceship);
+            alien.endUpdate(deltaTime);
 
             // Remover o alien se ele atende aos critérios de remoção.
             if (alien.shouldRemove()) {
                 deadAliensCount++;
                 alienIterator.remove();
+                AlienAdapter.detach(world, alien);
                 alien.dispose();
+                factory.free(alien);
+            } else {
+                AlienAdapter.push(world, alien);
             }
         }
+        world.compact();
     }
 
-    public void render(SpriteBatch batch) {
-        for (Alien alien : aliens) {
-            alien.render(batch);
+    public void render(RenderQueue queue) {
+        for (int i = 0; i < aliens.size(); i++) {
+            aliens.get(i).render(queue);
         }
     }
 
     public void dispose() {
         for (Alien alien : aliens) {
+            AlienAdapter.detach(world, alien);
             alien.dispose();
+            factory.free(alien);
         }
         aliens.clear();
+        world.compact();
     }
 
     public Alien getBossAlien() {
@@ -1,8 +1,15 @@
 package com.space.game.managers;
 
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.space.game.Game;
+import com.space.game.GameRandom;
+import com.space.game.config.GameConfig;
+import com.space.game.graphics.StarfieldMesh;
 import com.space.game.graphics.TextureManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
@@ -10,8 +17,18 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
 public class BackgroundManager {
+  /**
+   * How the scrolling layers (nebula, dust) are drawn. WRAP is one quad per
+   * layer with repeating UVs; TILED is one quad per texture tile, the fallback
+   * for textures the GPU can't repeat (NPOT on WebGL 1 / GLES 2). F5 cycles
+   * the modes while the profiler is on, to compare them.
+   */
+  public enum LayerMode {
+    WRAP, TILED
+  }
+
   private Texture nebulaTexture;
-  private Texture starsTexture;
+  private TextureRegion starsRegion;
   private Texture dustTexture;
   private Texture fixedBackgroundTexture;
 
@@ -19,11 +36,19 @@ public class BackgroundManager {
   private float nebulaX, nebulaY;
   private float dustX, dustY;
 
-  // Procedural Stars
+  private LayerMode layerMode = LayerMode.WRAP;
+  // Stars actually drawn (a prefix of the random field); lowered by the dynamic quality controller
+  private int visibleStars = NUM_STARS;
+  // Last frame's layer cost: quads submitted and area covered, in screens (1.0 = every pixel once)
+  private int layerQuads;
+  private float layerCoverage;
+
+  // Procedural Stars: drawn by the GPU from a static mesh when possible, else one sprite each (stars)
+  private StarfieldMesh starfieldMesh;
   private Star[] stars;
 
   // --- CALIBRATION CONSTANTS ---
-  private static final int NUM_STARS = 400; // Increased to 800
+  private static final int NUM_STARS = GameConfig.BACKGROUND_STAR_COUNT;
 
   // Alpha/Opacity Settings
   private static final float DUST_ALPHA = 0.35f;
@@ -31,6 +56,8 @@ public class BackgroundManager {
   private static final float FIXED_BACKGROUND_ALPHA = 0.4f;
   private static final float STAR_ALPHA_MIN = 0.3f;
   private static final float STAR_ALPHA_MAX = 1.0f;
+  // Brightness lost per second after a twinkle (the CPU stars lose 1% per frame at 60 fps)
+  private static final float STAR_FADE_RATE = 0.6f;
 
   // Movement speeds (Pixels per second) - Increased for smoother diagonal drift
   private static final float NEBULA_SPEED = 10f;
@@ -50,41 +77,100 @@ public class BackgroundManager {
   };
 
   private Game game;
+  // Background stream: advanced per rendered frame, so kept apart from gameplay
+  private final GameRandom random;
 
   // Custom features
   private ShootingStar shootingStar;
   private float shootingStarTimer;
 
-  public BackgroundManager(TextureManager textureManager, Game game) {
+  public BackgroundManager(TextureManager textureManager, Game game, GameRandom random) {
     this.game = game;
+    this.random = random;
 
     nebulaTexture = textureManager.getTexture("bg_nebula");
-    starsTexture = textureManager.getTexture("star"); // Use "star" (16x16)
+    starsRegion = textureManager.getRegion("star"); // Use "star" (16x16)
     dustTexture = textureManager.getTexture("bg_dust");
+    enableRepeat(nebulaTexture);
+    enableRepeat(dustTexture);
     fixedBackgroundTexture = textureManager.getTexture("fixed_bg_nebula");
 
     // Initialize Procedural Stars
-    stars = new Star[NUM_STARS];
-    for (int i = 0; i < NUM_STARS; i++) {
-      stars[i] = new Star();
+    if (GameConfig.GPU_STARFIELD && starsRegion != null) {
+      starfieldMesh = new StarfieldMesh(NUM_STARS, STAR_COLORS, starsRegion, random);
+      if (!starfieldMesh.isSupported()) {
+        starfieldMesh.dispose();
+        starfieldMesh = null;
+      }
+    }
+    if (starfieldMesh == null) {
+      stars = new Star[NUM_STARS];
+      for (int i = 0; i < NUM_STARS; i++) {
+        stars[i] = new Star();
+      }
     }
 
     // Initialize Shooting Star
     shootingStar = new ShootingStar();
-    shootingStarTimer = MathUtils.random(1, 5);
+    shootingStarTimer = random.range(1, 5);
   }
 
   // Compatibility method for LevelTheme changing background
   public void setBackgroundTexture(Texture texture) {
     this.nebulaTexture = texture;
+    enableRepeat(texture);
+  }
+
+  // Repeat wrapping needs power-of-two sizes on WebGL 1 and plain GLES 2; desktop GL and GL ES 3 take any size
+  private static void enableRepeat(Texture texture) {
+    if (texture == null) {
+      return;
+    }
+    boolean anySize = Gdx.graphics.isGL30Available() || Gdx.app.getType() == ApplicationType.Desktop;
+    if (anySize || (MathUtils.isPowerOfTwo(texture.getWidth()) && MathUtils.isPowerOfTwo(texture.getHeight()))) {
+      texture.setWrap(TextureWrap.Repeat, TextureWrap.Repeat);
+    }
+  }
+
+  public LayerMode getLayerMode() {
+    return layerMode;
+  }
+
+  public void setLayerMode(LayerMode layerMode) {
+    this.layerMode = layerMode;
+  }
+
+  public void cycleLayerMode() {
+    LayerMode[] modes = LayerMode.values();
+    layerMode = modes[(layerMode.ordinal() + 1) % modes.length];
+  }
+
+  /** Draws only this fraction of the stars; they are randomly placed, so any prefix is an even thinning. */
+  public void setStarFraction(float fraction) {
+    visibleStars = Math.round(NUM_STARS * MathUtils.clamp(fraction, 0f, 1f));
+    if (starfieldMesh != null) {
+      starfieldMesh.setVisibleStars(visibleStars);
+    }
+  }
+
+  public int getVisibleStars() {
+    return visibleStars;
+  }
+
+  public int getLayerQuads() {
+    return layerQuads;
+  }
+
+  public float getLayerCoverage() {
+    return layerCoverage;
   }
 
   public void resize(int width, int height) {
     // Re-distribute stars when screen resizes to prevent clumping in TOP-LEFT
     if (stars != null) {
       for (Star star : stars) {
-        star.x = MathUtils.random(width);
-        star.y = MathUtils.random(height);
+        star.x = random.range(0, width);
+        star.y = random.range(0, height);
       }
     }
   }
@@ -98,8 +184,13 @@ public class BackgroundManager {
     dustY += driftY * DUST_SPEED * delta;
 
     // Update Procedural Stars (Drift + Blinking)
-    for (Star star : stars) {
-      star.update(delta);
+    if (starfieldMesh != null) {
+      starfieldMesh.update(delta, driftX * STARS_SPEED, driftY * STARS_SPEED, game.getWorldWidth(),
+          game.getWorldHeight());
+    } else {
+      for (int i = 0; i < visibleStars; i++) {
+        stars[i].update(delta);
+      }
     }
 
     // Update Shooting Star
@@ -107,7 +198,7 @@ public class BackgroundManager {
       shootingStarTimer -= delta;
       if (shootingStarTimer <= 0) {
         shootingStar.spawn();
-        shootingStarTimer = MathUtils.random(3, 8);
+        shootingStarTimer = random.range(3, 8);
       }
     }
     shootingStar.update(delta);
@@ -116,21 +207,30 @@ public class BackgroundManager {
   public void render(SpriteBatch batch) {
     float width = game.getWorldWidth();
     float height = game.getWorldHeight();
+    layerQuads = 0;
+    layerCoverage = 0;
 
     // 0. FIXED BACKGROUND (Furthest Back - Fixed)
     batch.setColor(1, 1, 1, FIXED_BACKGROUND_ALPHA);
     if (fixedBackgroundTexture != null) {
       batch.draw(fixedBackgroundTexture, 0, 0, width, height);
+      countQuad(0, 0, width, height, width, height);
     }
 
     // 1. NEBULA (Back - Tiled)
     batch.setColor(1, 1, 1, NEBULA_ALPHA);
     if (nebulaTexture != null)
-      drawTiled(batch, nebulaTexture, width, height, nebulaX, nebulaY);
+      drawLayer(batch, nebulaTexture, width, height, nebulaX, nebulaY);
 
     // 2. STARS (Middle - Procedural)
-    if (starsTexture != null) {
-      for (Star star : stars) {
+    if (starfieldMesh != null) {
+      // Same size rule as the CPU stars below, applied in the shader
+      float resScale = Math.max(0.5f, width / 1920f);
+      starfieldMesh.render(batch, width, height, starsRegion.getRegionWidth() * resScale, STAR_ALPHA_MIN,
+          STAR_ALPHA_MAX, STAR_FADE_RATE);
+    } else if (starsRegion != null) {
+      for (int i = 0; i < visibleStars; i++) {
+        Star star = stars[i];
         // Apply blinking + base opacity
         // Brightness factor (0.0 - 1.0) interacts with Alpha range
         float alpha = STAR_ALPHA_MIN + (star.brightness_f * (STAR_ALPHA_MAX - STAR_ALPHA_MIN));
@@ -145,10 +245,10 @@ public class BackgroundManager {
         // Clamp min scale to avoid invisible stars on tiny screens, though unlikely
         resScale = Math.max(0.5f, resScale);
 
-        float baseW = starsTexture.getWidth() / star.size;
-        float baseH = starsTexture.getHeight() / star.size;
+        float baseW = starsRegion.getRegionWidth() / star.size;
+        float baseH = starsRegion.getRegionHeight() / star.size;
 
-        batch.draw(starsTexture, star.x, star.y, baseW * resScale, baseH * resScale);
+        batch.draw(starsRegion, star.x, star.y, baseW * resScale, baseH * resScale);
       }
     }
 
@@ -159,12 +259,38 @@ public class BackgroundManager {
     // 4. DUST (Front - Tiled - Overlay)
     batch.setColor(1, 1, 1, DUST_ALPHA);
     if (dustTexture != null)
-      drawTiled(batch, dustTexture, width, height, dustX, dustY);
+      drawLayer(batch, dustTexture, width, height, dustX, dustY);
 
     // Reset color to white for subsequent renders
     batch.setColor(Color.WHITE);
   }
 
+  private void drawLayer(SpriteBatch batch, Texture tex, float viewW, float viewH, float scrollX, float scrollY) {
+    if (layerMode == LayerMode.WRAP && tex.getUWrap() == TextureWrap.Repeat && tex.getVWrap() == TextureWrap.Repeat) {
+      drawWrapped(batch, tex, viewW, viewH, scrollX, scrollY);
+    } else {
+      drawTiled(batch, tex, viewW, viewH, scrollX, scrollY);
+    }
+  }
+
+  /**
+   * Covers the view with a single quad whose UVs scroll past 0..1 and let the
+   * sampler repeat the texture. Same placement as {@link #drawTiled}.
+   */
+  private void drawWrapped(SpriteBatch batch, Texture tex, float viewW, float viewH, float scrollX, float scrollY) {
+    int texW = tex.getWidth();
+    int texH = tex.getHeight();
+
+    if (texW == 0 || texH == 0)
+      return;
+
+    // Keep UVs small so they stay precise however long the layer has scrolled
+    float u = -(scrollX % texW) / texW;
+    float v = 1 + (scrollY % texH) / texH;
+    batch.draw(tex, 0, 0, viewW, viewH, u, v, u + viewW / texW, v - viewH / texH);
+    countQuad(0, 0, viewW, viewH, viewW, viewH);
+  }
+
   /**
    * Tiles the texture across the specified view dimensions.
    */
@@ -187,11 +313,25 @@ public class BackgroundManager {
     for (float x = offX; x < viewW; x += texW) {
       for (float y = offY; y < viewH; y += texH) {
         batch.draw(tex, x, y, texW, texH);
+        countQuad(x, y, texW, texH, viewW, viewH);
       }
     }
   }
 
+  // Only the on-screen part of a quad costs fill
+  private void countQuad(float x, float y, float w, float h, float viewW, float viewH) {
+    layerQuads++;
+    float visibleW = Math.min(x + w, viewW) - Math.max(x, 0);
+    float visibleH = Math.min(y + h, viewH) - Math.max(y, 0);
+    if (visibleW > 0 && visibleH > 0) {
+      layerCoverage += visibleW * visibleH / (viewW * viewH);
+    }
+  }
+
   public void dispose() {
+    if (starfieldMesh != null) {
+      starfieldMesh.dispose();
+    }
   }
 
   private class Star {
@@ -205,42 +345,29 @@ public class BackgroundManager {
     public Star() {
       reset();
       // Desync blinking
-      duration = MathUtils.random(0, 777);
-      brightness = MathUtils.random(1, 100);
+      duration = random.range(0, 777);
+      brightness = random.range(1, 100);
     }
 
     public void reset() {
       try {
-        x = MathUtils.random(game.getWorldWidth());
-        y = MathUtils.random(game.getWorldHeight());
+        x = random.range(0, game.getWorldWidth());
+        y = random.range(0, game.getWorldHeight());
       } catch (Exception e) {
         x = 0;
         y = 0;
       }
       // Como o render divide pelo size, números MENORES geram estrelas MAIORES.
-      // Random size
-      float r = MathUtils.random();
-      if (r < 0.10f) {
-        // 10% GRANDES (Destaques)
-        // Divisor entre 0.8 e 1.2 -> Gera estrelas entre ~20px e ~13px
-        size = MathUtils.random(0.6f, 0.8f);
-      } else if (r < 0.60f) {
-        // 50% MÉDIAS (O novo padrão)
-        // Divisor entre 1.5 e 2.2 -> Gera estrelas entre ~10px e ~7px
-        size = MathUtils.random(0.8f, 1.2f);
-      } else {
-        // 40% PEQUENAS (Fundo distante - como era antes)
-        // Divisor entre 3.0 e 5.0 -> Gera estrelas entre ~5px e ~3px
-        size = MathUtils.random(1.2f, 1.8f);
-      }
+      // Same distribution as the GPU starfield
+      size = StarfieldMesh.randomSize(random);
 
       // --- ALTERAÇÃO AQUI ---
       // Escolhe uma cor aleatória da paleta
-      int colorIndex = MathUtils.random(0, STAR_COLORS.length - 1);
+      int colorIndex = random.range(0, STAR_COLORS.length - 1);
       this.color = STAR_COLORS[colorIndex];
 
-      duration = MathUtils.random(77, 777);
-      brightness = MathUtils.random(1, 100);
+      duration = random.range(77, 777);
+      brightness = random.range(1, 100);
       brightness_f = brightness / 100f;
     }
 
@@ -251,8 +378,8 @@ public class BackgroundManager {
         brightness--;
       }
       if (duration <= 0) {
-        duration = MathUtils.random(77, 777);
-        brightness = MathUtils.random(1, 100);
+        duration = random.range(77, 777);
+        brightness = random.range(1, 100);
       }
       brightness_f = brightness / 100f;
 
@@ -298,14 +425,14 @@ public class BackgroundManager {
 
     public void spawn() {
       active = true;
-      x = MathUtils.random(game.getWorldWidth() * 0.2f, game.getWorldWidth());
+      x = random.range(game.getWorldWidth() * 0.2f, game.getWorldWidth());
       y = game.getWorldHeight() + 50; // Start slightly above screen
 
-      speedX = -MathUtils.random(500, 900);
-      speedY = -MathUtils.random(300, 700);
-      scale = MathUtils.random(0.5f, 1.0f);
+      speedX = -random.range(500, 900);
+      speedY = -random.range(300, 700);
+      scale = random.range(0.5f, 1.0f);
 
-      maxLifeTime = MathUtils.random(1.5f, 2.5f);
+      maxLifeTime = random.range(1.5f, 2.5f);
       lifeTime = maxLifeTime;
 
       trail.clear();
@@ -346,7 +473,7 @@ public class BackgroundManager {
       if (!active)
         return;
 
-      Texture starTex = game.getTextureManager().getTexture("star");
+      TextureRegion starTex = game.getTextureManager().getRegion("star");
       if (starTex == null)
         return;
 
@@ -370,26 +497,20 @@ public class BackgroundManager {
         batch.setColor(1, 1, 1, trailAlpha);
         batch.draw(starTex,
             point.x, point.y,
-            starTex.getWidth() / 2f, starTex.getHeight() / 2f,
-            starTex.getWidth(), starTex.getHeight(),
+            starTex.getRegionWidth() / 2f, starTex.getRegionHeight() / 2f,
+            starTex.getRegionWidth(), starTex.getRegionHeight(),
             trailScale * 4f, trailScale * 0.5f,
-            rotation,
-            0, 0,
-            starTex.getWidth(), starTex.getHeight(),
-            false, false);
+            rotation);
       }
 
       // Render Head
       batch.setColor(1, 1, 1, baseAlpha);
       batch.draw(starTex,
           x, y,
-          starTex.getWidth() / 2f, starTex.getHeight() / 2f,
-          starTex.getWidth(), starTex.getHeight(),
+          starTex.getRegionWidth() / 2f, starTex.getRegionHeight() / 2f,
+          starTex.getRegionWidth(), starTex.getRegionHeight(),
           scale * 4f, scale * 0.5f,
-          rotation,
-          0, 0,
-          starTex.getWidth(), starTex.getHeight(),
-          false, false);
+          rotation);
 
       // Reset color
       batch.setColor(Color.WHITE);
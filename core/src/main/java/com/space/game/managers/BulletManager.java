@@ -1,81 +1,103 @@
 package com.space.game.managers;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.space.game.ecs.BulletAdapter;
+import com.space.game.ecs.EntityWorld;
+import com.space.game.ecs.MovementSystem;
 import com.space.game.entities.Bullet;
 import com.space.game.graphics.TextureManager;
 import com.space.game.managers.GameStateManager.State;
 import com.space.game.SpaceGame;
 
 public class BulletManager {
-    private List<Bullet> bullets;
+    private static final int MAX_ACTIVE_BULLETS = 15; // Limita o número de balas ativas
+
+    private final Array<Bullet> bullets = new Array<>(false, MAX_ACTIVE_BULLETS);
+    private final Pool<Bullet> bulletPool = new Pool<Bullet>(MAX_ACTIVE_BULLETS, MAX_ACTIVE_BULLETS) {
+        @Override
+        protected Bullet newObject() {
+            return new Bullet();
+        }
+    };
     private TextureManager textureManager;
     private SoundManager soundManager;
+    private final EntityWorld world;
+    private final MovementSystem movement;
 
-    public BulletManager(TextureManager textureManager, SoundManager soundManager) {
-        this.bullets = new ArrayList<>();
+    /** Bullets move and draw as entities of the world; see BulletAdapter. */
+    public BulletManager(TextureManager textureManager, SoundManager soundManager, EntityWorld world) {
         this.textureManager = textureManager;
         this.soundManager = soundManager;
+        this.world = world;
+        this.movement = new MovementSystem(world);
+        // Warm the pool so the first volley doesn't allocate either
+        bulletPool.fill(MAX_ACTIVE_BULLETS);
     }
 
     public void fireBullet(Vector2 position, float angle, float spaceshipWidth, float spaceshipHeight, float scale,
             boolean isCharged) {
-        if (bullets.size() < 15) { // Limita o número de balas ativas
-            Bullet newBullet = new Bullet(textureManager, position, angle, spaceshipWidth, spaceshipHeight, scale,
-                    isCharged);
+        if (bullets.size < MAX_ACTIVE_BULLETS) {
+            Bullet newBullet = bulletPool.obtain().init(textureManager, position, angle, spaceshipWidth,
+                    spaceshipHeight, scale, isCharged);
+            BulletAdapter.attach(world, newBullet);
             bullets.add(newBullet);
             soundManager.playBulletSound();
         }
     }
 
-    public void update() {
+    public void update(float delta) {
         if (SpaceGame.getGame().getGsm().getState() != State.PLAYING) {
             return;
         }
-        Iterator<Bullet> bulletIterator = bullets.iterator();
-        while (bulletIterator.hasNext()) {
-            Bullet bullet = bulletIterator.next();
-            bullet.update();
+        float worldWidth = SpaceGame.getGame().getWorldWidth();
+        float worldHeight = SpaceGame.getGame().getWorldHeight();
+
+        movement.update(delta);
+
+        // Iterate backwards so swap-and-pop removal never skips a bullet
+        for (int i = bullets.size - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
+            BulletAdapter.pull(world, bullet);
             // Remove bullets that are off-screen or have collided
-            if (bullet.getPosition().x < 0 - SpaceGame.getGame().getWorldWidth() / 2 ||
-                    bullet.getPosition().x > SpaceGame.getGame().getWorldWidth() * 1.5f
-                    || bullet.getPosition().y < 0 - SpaceGame.getGame().getWorldHeight() / 2 ||
-                    bullet.getPosition().y > SpaceGame.getGame().getWorldHeight() * 1.5f) {
-                bulletIterator.remove();
-                bullet.dispose();
+            if (bullet.getPosition().x < 0 - worldWidth / 2 ||
+                    bullet.getPosition().x > worldWidth * 1.5f
+                    || bullet.getPosition().y < 0 - worldHeight / 2 ||
+                    bullet.getPosition().y > worldHeight * 1.5f) {
+                removeBullet(i);
                 SpaceGame.getGame().getMapManager().getSpaceship().setStreakCount(1);
                 SpaceGame.getGame().getMapManager().getSpaceship().setConsecutiveKills(0);
             } else if (bullet.shouldRemove()) {
-                bulletIterator.remove();
-                bullet.dispose();
+                removeBullet(i);
             }
         }
+        world.compact();
     }
 
-    public void render(SpriteBatch batch) {
-        for (Bullet bullet : bullets) {
-            bullet.render(batch);
-        }
+    private void removeBullet(int index) {
+        Bullet bullet = bullets.removeIndex(index); // Unordered array: swaps in the last element
+        BulletAdapter.detach(world, bullet);
+        bullet.dispose();
+        bulletPool.free(bullet);
     }
 
-    public List<Bullet> getBullets() {
+    public Array<Bullet> getBullets() {
         return bullets;
     }
 
     public void clear() {
-        for (Bullet bullet : bullets) {
-            bullet.dispose();
+        for (int i = 0; i < bullets.size; i++) {
+            BulletAdapter.detach(world, bullets.get(i));
+            bullets.get(i).dispose();
         }
+        world.compact();
+        bulletPool.freeAll(bullets);
         bullets.clear();
     }
 
     public void dispose() {
-        for (Bullet bullet : bullets) {
-            bullet.dispose();
-        }
-        bullets.clear();
+        clear();
+        bulletPool.clear();
     }
 }
@@ -1,8 +1,17 @@
 package com.space.game.managers;
 
-import java.util.Iterator;
 import java.util.List;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.space.game.config.GameConfig;
+import com.space.game.ecs.AlienAdapter;
+import com.space.game.ecs.CollisionSystem;
+import com.space.game.ecs.DamageSystem;
+import com.space.game.ecs.EntityWorld;
 import com.space.game.entities.Alien;
 import com.space.game.entities.Bullet;
 import com.space.game.entities.Spaceship;
@@ -19,6 +28,30 @@ public class CollisionManager {
 
     private ParticleManager particleManager;
 
+    // Aliens as dense entities: the broadphase, narrowphase and blast queries read the world's
+    // arrays; hits are resolved on the Alien objects and mirrored back by the DamageSystem
+    private final EntityWorld world;
+    private final CollisionSystem collision;
+    private final DamageSystem damage;
+
+    // Broadphase: aliens are bucketed once per frame, bullets only test their own cells
+    private static final float GRID_CELL_SIZE = 128f; // Roughly one alien wide at 1080p
+    private boolean crossCheckEnabled = GameConfig.DEBUG_COLLISION_CROSSCHECK;
+
+    // Swept (continuous) bullet collision - reusable scratch so the per-frame path doesn't allocate
+    private boolean sweptCollisionEnabled = GameConfig.SWEPT_BULLET_COLLISION;
+    private final Rectangle sweptBounds = new Rectangle();
+    private final IntArray hitIndices = new IntArray();
+    private final FloatArray hitTimes = new FloatArray();
+
+    // Area damage - alien grid is only trusted between rebuildAlienGrid() and the end of the frame's checks
+    private static final float RADIUS_QUERY_MARGIN = 150f; // Covers the Boss position-to-bounds trim
+    private final IntArray radiusHits = new IntArray();
+    private final Array<Alien> pendingExplosions = new Array<>();
+    private final Array<Alien> blastVictims = new Array<>();
+
+    private static final float DISINTEGRATE_COLOR = com.badlogic.gdx.graphics.Color.toFloatBits(0f, 1f, 0f, 1f);
+
     public CollisionManager(BulletManager bulletManager, AlienManager alienManager, Spaceship spaceship,
             SoundManager soundManager, com.space.game.managers.MusicManager musicManager,
             ParticleManager particleManager) {
@@ -28,6 +61,9 @@ public class CollisionManager {
         this.spaceship = spaceship;
         this.alienManager = alienManager; // Store it
         this.aliens = alienManager.getAliens();
+        this.world = SpaceGame.getGame().getMapManager().getWorld();
+        this.collision = new CollisionSystem(world);
+        this.damage = new DamageSystem(world);
         this.particleManager = particleManager;
         this.uiManager = SpaceGame.getGame().getUiManager();
     }
@@ -35,231 +71,445 @@ public class CollisionManager {
     private boolean explosionKilledPlayer = false;
 
     public void checkBulletCollisions() {
-        List<Bullet> bullets = bulletManager.getBullets();
-        Iterator<Bullet> bulletIterator = bullets.iterator();
+        collision.invalidate();
+        Array<Bullet> bullets = bulletManager.getBullets();
+        if (bullets.size == 0 || aliens.isEmpty()) {
+            return;
+        }
+
+        rebuildAlienGrid();
 
         int frameTotalScore = 0;
 
-        while (bulletIterator.hasNext()) {
-            Bullet bullet = bulletIterator.next();
-            Iterator<Alien> alienIterator = aliens.iterator();
-            while (alienIterator.hasNext()) {
-                Alien alien = alienIterator.next();
-                if (alien.getBounds().overlaps(bullet.getBounds())) {
-
-                    boolean killed = false;
-
-                    if (bullet.isCharged()) {
-                        // Charged Shot
-                        if (!alien.isDead()) {
-                            // Boomer Logic
-                            if (alien.getType() == Alien.AlienType.BABY_BOOMER
-                                    || alien.getType() == Alien.AlienType.BOSS_BOOMER) {
-
-                                if (alien.getType() == Alien.AlienType.BOSS_BOOMER) {
-                                    // Charged Shot does fixed damage to Boss (Configurable)
-                                    // Does NOT pass through (part of bullet collision logic usually handled by
-                                    // caller,
-                                    // but here we just mark bullet as hit if we want it to stop?
-                                    // Bullet logic usually removes bullet on collision unless piercing.
-                                    // Assuming bullet is removed by default unless specified otherwise.
-                                    // Logic at line 116 marks removal for normal shot.
-                                    // Bullet.isCharged usually pierces. logic needs check.
-
-                                    killed = alien
-                                            .takeDamage(com.space.game.config.GameConfig.CHARGED_SHOT_BOSS_DAMAGE);
-
-                                    // Fix: Apply Knockback to Boss on Charged Shot
-                                    alien.applyKnockback(com.space.game.config.ConfigUtils
-                                            .scale(com.space.game.config.GameConfig.BOSS_CHARGED_KNOCKBACK_FORCE));
-
-                                    bullet.markForRemoval(); // Stop charged shot on boss
-                                    if (!killed) {
-                                        soundManager.playAlienHitSound();
-                                    }
-                                } else {
-                                    // Baby Boomer -> Instant Kill (Disintegrate)
-                                    killed = alien.takeDamage(100);
-                                }
-
-                                if (killed) {
-                                    // Disintegrate (Silent)
-                                    // No explosion, just removal/particle
-                                    if (particleManager != null) {
-                                        // Green for disintegration (Acid/Plasma)
-                                        com.badlogic.gdx.graphics.Color greenColor = new com.badlogic.gdx.graphics.Color(
-                                                0f, 1f, 0f, 1f);
-                                        particleManager.createExplosion(
-                                                alien.getBounds().x + alien.getBounds().width / 2,
-                                                alien.getBounds().y + alien.getBounds().height / 2, 50, greenColor);
-                                    }
-                                }
-                            } else {
-                                // Normal Alien Instant Kill
-                                alien.markForImmediateRemoval();
-                                killed = true;
-                            }
-
-                            if (killed || alien.isDead()) { // Process killed or previously dead
-                                if (killed) { // Only give rewards if we actually killed it
-                                    soundManager.playDeadAlienHitSound();
-                                    float energyGain = (alienManager.getConfig()
-                                            .getLevelNumber() % com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL == 0)
-                                                    ? Spaceship.ENERGY_GAIN_CHARGED_BOSS
-                                                    : Spaceship.ENERGY_GAIN_CHARGED;
-
-                                    // Passive Buff: +0.25% Energy per kill per boss (starts at 0 if 0 bosses)
-                                    // User said: "starts 2.5%, then 2.75%". Wait, base is 5.0f?
-                                    // If base 5.0f on 100 max is 5%.
-                                    // Let's stick to adding the requested bonus.
-                                    if (spaceship.getBossesDefeated() > 0) {
-                                        energyGain += 100
-                                                * (com.space.game.config.GameConfig.PASSIVE_ENERGY_PER_KILL_PERCENT
-                                                        * spaceship.getBossesDefeated());
-                                    }
-
-                                    spaceship.addEnergy(energyGain);
-                                    uiManager.addEnergyFeedback(energyGain);
-
-                                    if (particleManager != null && !(alien.getType() == Alien.AlienType.BABY_BOOMER
-                                            || alien.getType() == Alien.AlienType.BOSS_BOOMER)) {
-                                        // Normal explosion if not handled above
-                                        particleManager.createExplosion(
-                                                alien.getBounds().x + alien.getBounds().width / 2,
-                                                alien.getBounds().y + alien.getBounds().height / 2, 50);
-                                    }
-
-                                    int scoreGain = spaceship.getStreakCount();
-                                    if (spaceship.getStreakCount() == 0)
-                                        scoreGain = 1;
-
-                                    spaceship.incrementKillCount();
-                                    bullet.incrementKillCount();
-                                    int combo = bullet.getKillCount();
-                                    if (combo > 1) {
-                                        int bonus = (combo - 1) * 10;
-                                        scoreGain = bonus + 10;
-                                        spaceship.setKillCount(spaceship.getKillCount() + bonus);
-                                    }
-                                    frameTotalScore += scoreGain;
-                                    spaceship.incrementCosecutiveKills();
-                                } else {
-                                    // Hitting dead/dying alien
-                                    alien.markForImmediateRemoval();
-                                    soundManager.playDeadAlienHitSound();
-                                    spaceship.addEnergy(2.5f);
-                                    uiManager.addEnergyFeedback(2.5f);
-                                }
-                            }
-                        } else {
-                            // Hit dead
-                            alien.markForImmediateRemoval();
-                            soundManager.playDeadAlienHitSound(); // Feedback
-
-                            float energyGain = (alienManager.getConfig()
-                                    .getLevelNumber() % com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL == 0)
-                                            ? Spaceship.ENERGY_GAIN_CHARGED_BOSS
-                                            : Spaceship.ENERGY_GAIN_CHARGED;
-
-                            if (spaceship.getBossesDefeated() > 0) {
-                                energyGain += 100
-                                        * com.space.game.config.GameConfig.PASSIVE_ENERGY_PER_KILL_PERCENT 
-                                        * spaceship.getBossesDefeated();
-                            }
-
-                            spaceship.addEnergy(energyGain);
-                            uiManager.addEnergyFeedback(energyGain);
-
-                            if (particleManager != null) {
-                                particleManager.createExplosion(alien.getBounds().x + alien.getBounds().width / 2,
-                                        alien.getBounds().y + alien.getBounds().height / 2, 50);
-                            }
+        for (int b = 0; b < bullets.size; b++) {
+            Bullet bullet = bullets.get(b);
+            Rectangle queryBounds = sweptCollisionEnabled ? getSweptBounds(bullet) : bullet.getBounds();
+            IntArray candidates = collision.query(queryBounds);
+
+            if (crossCheckEnabled) {
+                crossCheckBroadphase(bullet, candidates);
+            }
+
+            collectHits(bullet, candidates);
+
+            // Hits are ordered by time of impact so piercing shots resolve kills front to back
+            for (int h = 0; h < hitIndices.size; h++) {
+                int alienIndex = hitIndices.get(h);
+                Alien alien = AlienAdapter.get(world, alienIndex);
+                frameTotalScore += resolveBulletHit(bullet, alien);
+                AlienAdapter.push(world, alien);
+
+                // Knockback may have moved the alien into other cells; later bullets must still find it
+                collision.reinsert(alienIndex);
+            }
+        }
+
+        if (frameTotalScore > 0) {
+            uiManager.addScoreFeedback(frameTotalScore);
+        }
+    }
+
+    private void rebuildAlienGrid() {
+        float worldWidth = SpaceGame.getGame().getWorldWidth();
+        float worldHeight = SpaceGame.getGame().getWorldHeight();
+
+        // Same area BulletManager keeps bullets alive in; anything further out lands in the border cells
+        collision.rebuild(EntityWorld.KIND_ALIEN, -worldWidth / 2, -worldHeight / 2, worldWidth * 2, worldHeight * 2,
+                com.space.game.config.ConfigUtils.scale(GRID_CELL_SIZE));
+    }
+
+    /**
+     * Fills hitIndices/hitTimes with the candidates this bullet hits this frame,
+     * sorted by time of impact (ties keep spawn order).
+     */
+    private void collectHits(Bullet bullet, IntArray candidates) {
+        hitIndices.clear();
+        hitTimes.clear();
+
+        for (int c = 0; c < candidates.size; c++) {
+            int alienIndex = candidates.get(c);
+            float t = getHitTime(bullet, alienIndex);
+            if (t < 0) {
+                continue;
+            }
+
+            // Insertion sort: a bullet rarely hits more than a handful of aliens per frame
+            int insertAt = hitTimes.size;
+            while (insertAt > 0 && hitTimes.get(insertAt - 1) > t) {
+                insertAt--;
+            }
+            hitIndices.insert(insertAt, alienIndex);
+            hitTimes.insert(insertAt, t);
+        }
+    }
+
+    /**
+     * @return normalized time of impact in [0, 1] along this frame's movement,
+     *         or -1 if the bullet does not touch the alien
+     */
+    private float getHitTime(Bullet bullet, int alienIndex) {
+        Rectangle b = bullet.getBounds();
+
+        if (!sweptCollisionEnabled) {
+            return collision.overlaps(alienIndex, b) ? 0f : -1f;
+        }
+
+        // Sweep the bullet's corner against the alien box grown by the bullet size (Minkowski sum)
+        float ax = world.getBoundsX(alienIndex);
+        float ay = world.getBoundsY(alienIndex);
+        return sweepSegmentAABB(bullet.getPreviousPosition().x, bullet.getPreviousPosition().y, b.x, b.y,
+                ax - b.width, ay - b.height, ax + world.getBoundsWidth(alienIndex),
+                ay + world.getBoundsHeight(alienIndex));
+    }
+
+    /**
+     * Slab test of the segment (x0, y0) -> (x1, y1) against an open box, matching
+     * Rectangle.overlaps' strict comparisons at t = 1.
+     *
+     * @return entry time in [0, 1], or -1 if the segment misses the box
+     */
+    static float sweepSegmentAABB(float x0, float y0, float x1, float y1,
+            float minX, float minY, float maxX, float maxY) {
+        float tEnter = 0f;
+        float tExit = 1f;
+
+        float dx = x1 - x0;
+        if (dx == 0f) {
+            if (x0 <= minX || x0 >= maxX)
+                return -1f;
+        } else {
+            float t0 = (minX - x0) / dx;
+            float t1 = (maxX - x0) / dx;
+            if (t0 > t1) {
+                float tmp = t0;
+                t0 = t1;
+                t1 = tmp;
+            }
+            tEnter = Math.max(tEnter, t0);
+            tExit = Math.min(tExit, t1);
+            if (tEnter >= tExit)
+                return -1f;
+        }
+
+        float dy = y1 - y0;
+        if (dy == 0f) {
+            if (y0 <= minY || y0 >= maxY)
+                return -1f;
+        } else {
+            float t0 = (minY - y0) / dy;
+            float t1 = (maxY - y0) / dy;
+            if (t0 > t1) {
+                float tmp = t0;
+                t0 = t1;
+                t1 = tmp;
+            }
+            tEnter = Math.max(tEnter, t0);
+            tExit = Math.min(tExit, t1);
+            if (tEnter >= tExit)
+                return -1f;
+        }
+
+        return tEnter;
+    }
+
+    private Rectangle getSweptBounds(Bullet bullet) {
+        Rectangle b = bullet.getBounds();
+        float prevX = bullet.getPreviousPosition().x;
+        float prevY = bullet.getPreviousPosition().y;
+        float minX = Math.min(prevX, b.x);
+        float minY = Math.min(prevY, b.y);
+        return sweptBounds.set(minX, minY, Math.max(prevX, b.x) - minX + b.width,
+                Math.max(prevY, b.y) - minY + b.height);
+    }
+
+    /**
+     * Debug: compares the broadphase hits for this bullet against the brute-force
+     * scan over every alien and logs any difference.
+     */
+    private void crossCheckBroadphase(Bullet bullet, IntArray candidates) {
+        int gridHits = 0;
+        for (int c = 0; c < candidates.size; c++) {
+            if (getHitTime(bullet, candidates.get(c)) >= 0) {
+                gridHits++;
+            }
+        }
+
+        int bruteHits = 0;
+        boolean missing = false;
+        for (int i = 0; i < world.size(); i++) {
+            if (world.isLive(i, EntityWorld.KIND_ALIEN) && getHitTime(bullet, i) >= 0) {
+                bruteHits++;
+                if (!candidates.contains(i)) {
+                    missing = true;
+                }
+            }
+        }
+
+        if (missing || gridHits != bruteHits) {
+            Gdx.app.error("CollisionManager", "Broadphase mismatch: grid=" + gridHits + " brute=" + bruteHits
+                    + " bullet=" + bullet.getBounds());
+        }
+    }
+
+    public void setCrossCheckEnabled(boolean enabled) {
+        this.crossCheckEnabled = enabled;
+    }
+
+    public boolean isCrossCheckEnabled() {
+        return crossCheckEnabled;
+    }
+
+    public void setSweptCollisionEnabled(boolean enabled) {
+        this.sweptCollisionEnabled = enabled;
+    }
+
+    public boolean isSweptCollisionEnabled() {
+        return sweptCollisionEnabled;
+    }
+
+    /**
+     * Applies the effects of a single bullet/alien overlap.
+     *
+     * @return score gained by charged-shot kills, accumulated into one feedback
+     *         message per frame by the caller
+     */
+    private int resolveBulletHit(Bullet bullet, Alien alien) {
+        int scoreGained = 0;
+
+        boolean killed = false;
+
+        if (bullet.isCharged()) {
+            // Charged Shot
+            if (!alien.isDead()) {
+                // Boomer Logic
+                if (alien.getType() == Alien.AlienType.BABY_BOOMER
+                        || alien.getType() == Alien.AlienType.BOSS_BOOMER) {
+
+                    if (alien.getType() == Alien.AlienType.BOSS_BOOMER) {
+                        // Charged Shot does fixed damage to Boss (Configurable)
+                        // Does NOT pass through (part of bullet collision logic usually handled by
+                        // caller,
+                        // but here we just mark bullet as hit if we want it to stop?
+                        // Bullet logic usually removes bullet on collision unless piercing.
+                        // Assuming bullet is removed by default unless specified otherwise.
+                        // Logic at line 116 marks removal for normal shot.
+                        // Bullet.isCharged usually pierces. logic needs check.
+
+                        killed = damage.apply(alien, com.space.game.config.GameConfig.CHARGED_SHOT_BOSS_DAMAGE);
+
+                        // Fix: Apply Knockback to Boss on Charged Shot
+                        damage.knockback(alien, com.space.game.config.ConfigUtils
+                                .scale(com.space.game.config.GameConfig.BOSS_CHARGED_KNOCKBACK_FORCE));
+
+                        bullet.markForRemoval(); // Stop charged shot on boss
+                        if (!killed) {
+                            soundManager.playAlienHitSound();
                         }
                     } else {
-                        // Normal Shot
-                        bullet.markForRemoval();
-                        if (!alien.isDead()) {
-                            // Boomer Logic
-                            if (alien.getType() == Alien.AlienType.BABY_BOOMER
-                                    || alien.getType() == Alien.AlienType.BOSS_BOOMER) {
-
-                                float force = (alien.getType() == Alien.AlienType.BABY_BOOMER)
-                                        ? com.space.game.config.ConfigUtils
-                                                .scale(com.space.game.config.GameConfig.BABY_KNOCKBACK_FORCE)
-                                        : com.space.game.config.ConfigUtils
-                                                .scale(com.space.game.config.GameConfig.BOSS_KNOCKBACK_FORCE);
-
-                                alien.applyKnockback(force);
-                                killed = alien.takeDamage(1);
-                                if (killed) {
-                                    if (alien.getType() == Alien.AlienType.BOSS_BOOMER) {
-                                        // Do nothing. AlienManager handles dramatic death sequence.
-                                        // Still play hit sound? AlienManager plays explosion later.
-                                        soundManager.playAlienHitSound();
-                                    } else {
-                                        explode(alien, false); // Killed by player -> Small explosion
-                                    }
-                                } else {
-                                    // Hit feedback
-                                    soundManager.playAlienHitSound();
-                                }
-                            } else {
-                                // Normal Alien
-                                int scoreGain = spaceship.getStreakCount();
-                                if (spaceship.getStreakCount() == 0)
-                                    scoreGain = 1;
-                                spaceship.incrementKillCount();
-                                spaceship.incrementKillCount();
-                                uiManager.addScoreFeedback(scoreGain);
-
-                                alien.hit();
-                                killed = true;
-                                soundManager.playAlienHitSound();
-                                spaceship.incrementCosecutiveKills();
-                                if (particleManager != null) {
-                                    particleManager.createExplosion(alien.getBounds().x + alien.getBounds().width / 2,
-                                            alien.getBounds().y + alien.getBounds().height / 2, 20);
-                                }
-                            }
-                        } else {
-                            // Hit dead
-                            alien.markForImmediateRemoval();
-                            soundManager.playDeadAlienHitSound(); // Feedback
-
-                            // Energy Reward for Normal Kill
-                            float energyGain = (alienManager.getConfig()
-                                    .getLevelNumber() % com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL == 0)
-                                            ? Spaceship.ENERGY_GAIN_BOSS
-                                            : Spaceship.ENERGY_GAIN_BASE;
-                            if (spaceship.getBossesDefeated() > 0) {
-                                energyGain += 100
-                                        * (com.space.game.config.GameConfig.PASSIVE_ENERGY_PER_KILL_PERCENT
-                                        * spaceship.getBossesDefeated());
-                            }
-
-                            spaceship.addEnergy(energyGain);
-                            uiManager.addEnergyFeedback(energyGain);
-
-                            if (particleManager != null) {
-                                particleManager.createExplosion(alien.getBounds().x + alien.getBounds().width / 2,
-                                        alien.getBounds().y + alien.getBounds().height / 2, 50);
-                            }
+                        // Baby Boomer -> Instant Kill (Disintegrate)
+                        killed = damage.apply(alien, 100);
+                    }
+
+                    if (killed) {
+                        // Disintegrate (Silent)
+                        // No explosion, just removal/particle
+                        if (particleManager != null) {
+                            // Green for disintegration (Acid/Plasma)
+                            particleManager.createExplosion(
+                                    alien.getBounds().x + alien.getBounds().width / 2,
+                                    alien.getBounds().y + alien.getBounds().height / 2, 50, DISINTEGRATE_COLOR);
                         }
                     }
+                } else {
+                    // Normal Alien Instant Kill
+                    alien.markForImmediateRemoval();
+                    killed = true;
+                }
+
+                if (killed || alien.isDead()) { // Process killed or previously dead
+                    if (killed) { // Only give rewards if we actually killed it
+                        soundManager.playDeadAlienHitSound();
+                        float energyGain = (alienManager.getConfig()
+                                .getLevelNumber() % com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL == 0)
+                                        ? Spaceship.ENERGY_GAIN_CHARGED_BOSS
+                                        : Spaceship.ENERGY_GAIN_CHARGED;
+
+                        // Passive Buff: +0.25% Energy per kill per boss (starts at 0 if 0 bosses)
+                        // User said: "starts 2.5%, then 2.75%". Wait, base is 5.0f?
+                        // If base 5.0f on 100 max is 5%.
+                        // Let's stick to adding the requested bonus.
+                        if (spaceship.getBossesDefeated() > 0) {
+                            energyGain += 100
+                                    * (com.space.game.config.GameConfig.PASSIVE_ENERGY_PER_KILL_PERCENT
+                                            * spaceship.getBossesDefeated());
+                        }
+
+                        spaceship.addEnergy(energyGain);
+                        uiManager.addEnergyFeedback(energyGain);
 
-                    if (spaceship.getStreakCount() < 7 && spaceship.getConsecutiveKills() >= 3) {
-                        spaceship.incrementStreakCount();
+                        if (particleManager != null && !(alien.getType() == Alien.AlienType.BABY_BOOMER
+                                || alien.getType() == Alien.AlienType.BOSS_BOOMER)) {
+                            // Normal explosion if not handled above
+                            particleManager.createExplosion(
+                                    alien.getBounds().x + alien.getBounds().width / 2,
+                                    alien.getBounds().y + alien.getBounds().height / 2, 50);
+                        }
+
+                        int scoreGain = spaceship.getStreakCount();
+                        if (spaceship.getStreakCount() == 0)
+                            scoreGain = 1;
+
+                        spaceship.incrementKillCount();
+                        bullet.incrementKillCount();
+                        int combo = bullet.getKillCount();
+                        if (combo > 1) {
+                            int bonus = (combo - 1) * 10;
+                            scoreGain = bonus + 10;
+                            spaceship.setKillCount(spaceship.getKillCount() + bonus);
+                        }
+                        scoreGained += scoreGain;
+                        spaceship.incrementCosecutiveKills();
+                    } else {
+                        // Hitting dead/dying alien
+                        alien.markForImmediateRemoval();
+                        soundManager.playDeadAlienHitSound();
+                        spaceship.addEnergy(2.5f);
+                        uiManager.addEnergyFeedback(2.5f);
                     }
                 }
+            } else {
+                // Hit dead
+                alien.markForImmediateRemoval();
+                soundManager.playDeadAlienHitSound(); // Feedback
+
+                float energyGain = (alienManager.getConfig()
+                        .getLevelNumber() % com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL == 0)
+                                ? Spaceship.ENERGY_GAIN_CHARGED_BOSS
+                                : Spaceship.ENERGY_GAIN_CHARGED;
+
+                if (spaceship.getBossesDefeated() > 0) {
+                    energyGain += 100
+                            * com.space.game.config.GameConfig.PASSIVE_ENERGY_PER_KILL_PERCENT 
+                            * spaceship.getBossesDefeated();
+                }
+
+                spaceship.addEnergy(energyGain);
+                uiManager.addEnergyFeedback(energyGain);
+
+                if (particleManager != null) {
+                    particleManager.createExplosion(alien.getBounds().x + alien.getBounds().width / 2,
+                            alien.getBounds().y + alien.getBounds().height / 2, 50);
+                }
+            }
+        } else {
+            // Normal Shot
+            bullet.markForRemoval();
+            if (!alien.isDead()) {
+                // Boomer Logic
+                if (alien.getType() == Alien.AlienType.BABY_BOOMER
+                        || alien.getType() == Alien.AlienType.BOSS_BOOMER) {
+
+                    float force = (alien.getType() == Alien.AlienType.BABY_BOOMER)
+                            ? com.space.game.config.ConfigUtils
+                                    .scale(com.space.game.config.GameConfig.BABY_KNOCKBACK_FORCE)
+                            : com.space.game.config.ConfigUtils
+                                    .scale(com.space.game.config.GameConfig.BOSS_KNOCKBACK_FORCE);
+
+                    damage.knockback(alien, force);
+                    killed = damage.apply(alien, 1);
+                    if (killed) {
+                        if (alien.getType() == Alien.AlienType.BOSS_BOOMER) {
+                            // Do nothing. AlienManager handles dramatic death sequence.
+                            // Still play hit sound? AlienManager plays explosion later.
+                            soundManager.playAlienHitSound();
+                        } else {
+                            explode(alien, false); // Killed by player -> Small explosion
+                        }
+                    } else {
+                        // Hit feedback
+                        soundManager.playAlienHitSound();
+                    }
+                } else {
+                    // Normal Alien
+                    int scoreGain = spaceship.getStreakCount();
+                    if (spaceship.getStreakCount() == 0)
+                        scoreGain = 1;
+                    spaceship.incrementKillCount();
+                    spaceship.incrementKillCount();
+                    uiManager.addScoreFeedback(scoreGain);
+
+                    damage.apply(alien, 1);
+                    killed = true;
+                    soundManager.playAlienHitSound();
+                    spaceship.incrementCosecutiveKills();
+                    if (particleManager != null) {
+                        particleManager.createExplosion(alien.getBounds().x + alien.getBounds().width / 2,
+                                alien.getBounds().y + alien.getBounds().height / 2, 20);
+                    }
+                }
+            } else {
+                // Hit dead
+                alien.markForImmediateRemoval();
+                soundManager.playDeadAlienHitSound(); // Feedback
+
+                // Energy Reward for Normal Kill
+                float energyGain = (alienManager.getConfig()
+                        .getLevelNumber() % com.space.game.config.GameConfig.BOSS_APPEAR_LEVEL == 0)
+                                ? Spaceship.ENERGY_GAIN_BOSS
+                                : Spaceship.ENERGY_GAIN_BASE;
+                if (spaceship.getBossesDefeated() > 0) {
+                    energyGain += 100
+                            * (com.space.game.config.GameConfig.PASSIVE_ENERGY_PER_KILL_PERCENT
+                            * spaceship.getBossesDefeated());
+                }
+
+                spaceship.addEnergy(energyGain);
+                uiManager.addEnergyFeedback(energyGain);
+
+                if (particleManager != null) {
+                    particleManager.createExplosion(alien.getBounds().x + alien.getBounds().width / 2,
+                            alien.getBounds().y + alien.getBounds().height / 2, 50);
+                }
             }
         }
 
-        if (frameTotalScore > 0) {
-            uiManager.addScoreFeedback(frameTotalScore);
+        if (spaceship.getStreakCount() < 7 && spaceship.getConsecutiveKills() >= 3) {
+            spaceship.incrementStreakCount();
         }
+
+        return scoreGained;
     }
 
     private void explode(Alien boomer, boolean isSelfDestruct) {
+        // Work queue instead of recursion: a blast that kills Baby Boomers can
+        // enqueue their own blasts, all resolved here in a single pass
+        pendingExplosions.clear();
+        pendingExplosions.add(boomer);
+
+        for (int i = 0; i < pendingExplosions.size; i++) {
+            Alien source = pendingExplosions.get(i);
+            detonate(source, i == 0 && isSelfDestruct, blastVictims);
+
+            if (GameConfig.BOOMER_CHAIN_EXPLOSIONS) {
+                for (int v = 0; v < blastVictims.size; v++) {
+                    Alien victim = blastVictims.get(v);
+                    if (victim.getType() == Alien.AlienType.BABY_BOOMER && victim.isDead()
+                            && !pendingExplosions.contains(victim, true)) {
+                        pendingExplosions.add(victim);
+                    }
+                }
+            }
+        }
+        pendingExplosions.clear();
+        blastVictims.clear();
+    }
+
+    /**
+     * A single blast: effects, area damage and the player check.
+     *
+     * @param victims filled with the aliens caught in the blast
+     */
+    private void detonate(Alien boomer, boolean isSelfDestruct, Array<Alien> victims) {
         float x = boomer.getPosition().x + boomer.getBounds().width / 2;
         float y = boomer.getPosition().y + boomer.getBounds().height / 2;
         float radius = 0f;
@@ -279,8 +529,8 @@ public class CollisionManager {
 
         if (particleManager != null) {
             // Fire colors for explosion (Red/Orange/Yellow)
-            com.badlogic.gdx.graphics.Color fireColor = new com.badlogic.gdx.graphics.Color(1f,
-                    com.badlogic.gdx.math.MathUtils.random(0f, 0.6f), 0f, 1f);
+            float fireColor = com.badlogic.gdx.graphics.Color.toFloatBits(1f,
+                    SpaceGame.getGame().getRandom().effects().range(0f, 0.6f), 0f, 1f);
 
             int pCount = 100;
             if (boomer.getType() == Alien.AlienType.BOSS_BOOMER) {
@@ -292,7 +542,7 @@ public class CollisionManager {
                 // Play Sound and Remove Boss Immediately
                 musicManager.stopBossMusic(false); // Stop music for dramatic effect
                 soundManager.playBossExplosionSound();
-                boomer.takeDamage(1000); // Ensure dead state logic triggers (score etc)
+                damage.apply(boomer, 1000); // Ensure dead state logic triggers (score etc)
                 boomer.markForImmediateRemoval(); // Don't leave a corpse
             } else {
                 particleManager.createExplosion(x, y, pCount, fireColor);
@@ -302,26 +552,26 @@ public class CollisionManager {
         }
 
         // Damage Aliens
-        for (Alien a : aliens) {
-            if (!a.isDead() && a != boomer) {
-                float dst = new com.badlogic.gdx.math.Vector2(x, y).dst(new com.badlogic.gdx.math.Vector2(
-                        a.getPosition().x + a.getBounds().width / 2, a.getPosition().y + a.getBounds().height / 2));
-                if (dst < radius) {
-                    a.takeDamage(100);
-                    // If Boss Explosion, disintegrate immediately (no corpses)
-                    if (boomer.getType() == Alien.AlienType.BOSS_BOOMER) {
-                        a.markForImmediateRemoval();
-                    }
-                }
+        queryRadius(x, y, radius, boomer, victims);
+        for (int i = 0; i < victims.size; i++) {
+            Alien a = victims.get(i);
+            if (pendingExplosions.contains(a, true)) {
+                continue; // Already going off in this cascade
+            }
+            damage.apply(a, 100);
+            // If Boss Explosion, disintegrate immediately (no corpses)
+            if (boomer.getType() == Alien.AlienType.BOSS_BOOMER) {
+                a.markForImmediateRemoval();
             }
         }
 
         // Check Player
         float scale = spaceship.getScale();
-        float px = spaceship.getPosition().x + spaceship.getBounds().width * scale / 2;
-        float py = spaceship.getPosition().y + spaceship.getBounds().height * scale / 2;
+        com.badlogic.gdx.math.Rectangle shipBounds = spaceship.getBounds();
+        float px = spaceship.getPosition().x + shipBounds.width * scale / 2;
+        float py = spaceship.getPosition().y + shipBounds.height * scale / 2;
 
-        if (new com.badlogic.gdx.math.Vector2(x, y).dst(new com.badlogic.gdx.math.Vector2(px, py)) < radius) {
+        if (com.badlogic.gdx.math.Vector2.dst2(x, y, px, py) < radius * radius) {
             explosionKilledPlayer = true;
             // Handle Dark Level Vision Reset if killed by Boomer
             if (SpaceGame.getGame().getMapManager().getCurrentLevel() instanceof com.space.game.levels.DynamicLevel) {
@@ -335,7 +585,34 @@ public class CollisionManager {
         }
     }
 
+    /**
+     * Collects the live aliens (except {@code exclude}) whose centre lies strictly
+     * inside the circle, in spawn order. Runs over the world's dense positions
+     * and, when it was built this frame, the alien grid to skip far-away aliens.
+     *
+     * @return {@code out}, cleared and refilled
+     */
+    public Array<Alien> queryRadius(float cx, float cy, float radius, Alien exclude, Array<Alien> out) {
+        out.clear();
+        int excludeIndex = exclude != null ? world.indexOf(exclude.getEntity()) : -1;
+        float margin = com.space.game.config.ConfigUtils.scale(RADIUS_QUERY_MARGIN);
+        collision.queryRadius(EntityWorld.KIND_ALIEN, cx, cy, radius, margin, excludeIndex, radiusHits);
+        for (int i = 0; i < radiusHits.size; i++) {
+            out.add(AlienAdapter.get(world, radiusHits.get(i)));
+        }
+        return out;
+    }
+
     public boolean checkSpaceshipCollisions() {
+        try {
+            return resolveSpaceshipCollisions();
+        } finally {
+            // Last collision pass of the frame; aliens move before the grid is rebuilt
+            collision.invalidate();
+        }
+    }
+
+    private boolean resolveSpaceshipCollisions() {
         if (spaceship.isDead())
             return false; // Already dead handling animation
         if (explosionKilledPlayer) {
@@ -347,14 +624,19 @@ public class CollisionManager {
         float shipCX = spaceship.getPosition().x + spaceship.getBounds().width * spaceship.getScale() / 2;
         float shipCY = spaceship.getPosition().y + spaceship.getBounds().height * spaceship.getScale() / 2;
 
-        Iterator<Alien> alienIterator = aliens.iterator();
-        while (alienIterator.hasNext()) {
-            Alien alien = alienIterator.next();
+        // Linear pass over the dense alien entities; the behaviour calls go to the Alien behind each
+        int bossType = Alien.AlienType.BOSS_BOOMER.ordinal();
+        int normalType = Alien.AlienType.NORMAL.ordinal();
+        for (int i = 0; i < world.size(); i++) {
+            if (!world.isLive(i, EntityWorld.KIND_ALIEN)) {
+                continue;
+            }
+            Alien alien = AlienAdapter.get(world, i);
 
             // Proximity Check for Boss
-            if (alien.getType() == Alien.AlienType.BOSS_BOOMER && !alien.isDead()) {
-                float alienCX = alien.getBounds().x + alien.getBounds().width / 2;
-                float alienCY = alien.getBounds().y + alien.getBounds().height / 2;
+            if (world.getType(i) == bossType && !world.isDead(i)) {
+                float alienCX = world.getBoundsX(i) + world.getBoundsWidth(i) / 2;
+                float alienCY = world.getBoundsY(i) + world.getBoundsHeight(i) / 2;
 
                 float dist = com.badlogic.gdx.math.Vector2.dst(shipCX, shipCY, alienCX, alienCY);
                 // Trigger at Configured Distance
@@ -364,7 +646,7 @@ public class CollisionManager {
                         alien.startDetonation();
                     } else if (alien.isReadyToExplode()) {
                         explode(alien, true); // Self Destruct -> Massive
-                        alien.hit(); // Trigger death logic
+                        damage.apply(alien, 1); // Trigger death logic
                         // If explosion killed player, MARK spaceship as dead but DO NOT return true
                         // immediately
                         if (explosionKilledPlayer) {
@@ -375,12 +657,11 @@ public class CollisionManager {
                 }
             }
 
-            if (spaceship.getBounds().overlaps(alien.getBounds())) {
+            if (collision.overlaps(i, spaceship.getBounds())) {
                 // If Boomer touches player -> Explode (and Kill)
-                if ((alien.getType() == Alien.AlienType.BABY_BOOMER || alien.getType() == Alien.AlienType.BOSS_BOOMER)
-                        && !alien.isDead()) {
+                if (world.getType(i) != normalType && !world.isDead(i)) {
                     explode(alien, true); // Touched Player -> Massive
-                    alien.hit(); // Kill alien too
+                    damage.apply(alien, 1); // Kill alien too
                     spaceship.setDead(true);
                     return false; // Game Over handled by DynamicLevel
                 }
@@ -0,0 +1,233 @@
+package com.space.game.managers;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.space.game.config.GameConfig;
+
+/**
+ * Holds a target frame rate by trading image quality for time.
+ *
+ * Frame times are collected over a rolling window and evaluated a few times a
+ * second. Over budget, the controller steps one quality level down; with
+ * clear headroom for several evaluations in a row, one level up. Levels first
+ * lower the scene render scale (down to MIN_RENDER_SCALE), then the particle
+ * budget and star count.
+ *
+ * Hysteresis: the thresholds for going down and up are far apart, every
+ * change is followed by a cooldown and a fresh window, and a level that had
+ * to be abandoned soon after an upgrade needs twice as long before it is
+ * tried again, so the controller settles instead of oscillating.
+ *
+ * Headroom is judged from CPU work time as well as frame time: with vsync the
+ * frame time never drops below the refresh interval.
+ */
+public class DynamicResolutionManager {
+
+    public enum Decision {
+        /** Within the thresholds (or automatic control is off). */
+        HOLD,
+        /** Over budget: quality stepped down. */
+        DOWNGRADE,
+        /** Headroom: quality stepped up. */
+        UPGRADE,
+        /** A level is forced through {@link #forceLevel(int)}. */
+        FORCED
+    }
+
+    private static final int WINDOW = 60;
+    private static final int EVALUATE_EVERY = 15;
+
+    // Go down above 110% of the budget; go up only with work under 60% and frames on budget
+    private static final float DOWN_THRESHOLD = 1.10f;
+    private static final float UP_WORK_THRESHOLD = 0.60f;
+    private static final float UP_FRAME_THRESHOLD = 1.03f;
+
+    private static final float DOWN_COOLDOWN = 1.0f;
+    private static final float UP_COOLDOWN = 2.0f;
+    private static final int UP_STREAK = 4;
+    private static final int MAX_UP_STREAK = 64;
+    // An upgrade undone within this many seconds counts as a failed attempt
+    private static final float UNSTABLE_WINDOW = 5.0f;
+
+    private static final float SCALE_STEP = 0.1f;
+    private static final int SCALE_LEVELS = Math.round((1f - GameConfig.MIN_RENDER_SCALE) / SCALE_STEP);
+    // Particle budget and star fraction for the levels past the lowest render scale
+    private static final float[] EXTRA_LEVEL_FRACTIONS = { 0.5f, 0.25f };
+    public static final int MAX_LEVEL = SCALE_LEVELS + EXTRA_LEVEL_FRACTIONS.length;
+
+    private boolean enabled = GameConfig.DYNAMIC_RESOLUTION;
+    private float targetFps = GameConfig.TARGET_FPS;
+
+    private final float[] frameSeconds = new float[WINDOW];
+    private final float[] workSeconds = new float[WINDOW];
+    private int cursor;
+    private int samples;
+    private int framesSinceEvaluation;
+
+    private int level;
+    private int forcedLevel = -1;
+    private float cooldown;
+    private int upStreak;
+    private final int[] requiredUpStreak = new int[MAX_LEVEL + 1];
+    private float sinceUpgrade = Float.MAX_VALUE;
+
+    private Decision lastDecision = Decision.HOLD;
+    private float averageFrame;
+    private float averageWork;
+
+    public DynamicResolutionManager() {
+        for (int i = 0; i < requiredUpStreak.length; i++) {
+            requiredUpStreak[i] = UP_STREAK;
+        }
+    }
+
+    /**
+     * Records one frame and, when due, re-evaluates the quality level.
+     *
+     * @param frameDelta real time since the previous frame, in seconds
+     * @param workNanos  time the CPU spent producing this frame
+     * @return true if the level changed and the settings must be re-applied
+     */
+    public boolean update(float frameDelta, long workNanos) {
+        if (forcedLevel >= 0) {
+            lastDecision = Decision.FORCED;
+            return setLevel(forcedLevel);
+        }
+        if (!enabled) {
+            lastDecision = Decision.HOLD;
+            return setLevel(0);
+        }
+
+        cooldown -= frameDelta;
+        if (sinceUpgrade < Float.MAX_VALUE) {
+            sinceUpgrade += frameDelta;
+        }
+
+        frameSeconds[cursor] = frameDelta;
+        workSeconds[cursor] = workNanos / 1000000000f;
+        cursor = (cursor + 1) % WINDOW;
+        samples = Math.min(samples + 1, WINDOW);
+
+        if (++framesSinceEvaluation < EVALUATE_EVERY || samples < WINDOW || cooldown > 0) {
+            return false;
+        }
+        framesSinceEvaluation = 0;
+        return evaluate();
+    }
+
+    private boolean evaluate() {
+        float frameSum = 0;
+        float workSum = 0;
+        for (int i = 0; i < samples; i++) {
+            frameSum += frameSeconds[i];
+            workSum += workSeconds[i];
+        }
+        averageFrame = frameSum / samples;
+        averageWork = workSum / samples;
+        float budget = 1f / targetFps;
+
+        if (averageFrame > budget * DOWN_THRESHOLD && level < MAX_LEVEL) {
+            if (sinceUpgrade < UNSTABLE_WINDOW) {
+                // The level we just left was fine; the one we tried was not. Wait longer next time.
+                requiredUpStreak[level] = Math.min(MAX_UP_STREAK, requiredUpStreak[level] * 2);
+            }
+            sinceUpgrade = Float.MAX_VALUE;
+            upStreak = 0;
+            lastDecision = Decision.DOWNGRADE;
+            changeLevel(level + 1, DOWN_COOLDOWN);
+            return true;
+        }
+
+        if (averageWork < budget * UP_WORK_THRESHOLD && averageFrame <= budget * UP_FRAME_THRESHOLD && level > 0) {
+            if (++upStreak >= requiredUpStreak[level - 1]) {
+                upStreak = 0;
+                sinceUpgrade = 0;
+                lastDecision = Decision.UPGRADE;
+                changeLevel(level - 1, UP_COOLDOWN);
+                return true;
+            }
+        } else {
+            upStreak = 0;
+        }
+        lastDecision = Decision.HOLD;
+        return false;
+    }
+
+    private void changeLevel(int newLevel, float cooldownSeconds) {
+        level = newLevel;
+        cooldown = cooldownSeconds;
+        // Judge the new level on its own frames only
+        samples = 0;
+        cursor = 0;
+        framesSinceEvaluation = 0;
+    }
+
+    private boolean setLevel(int newLevel) {
+        if (newLevel == level) {
+            return false;
+        }
+        changeLevel(newLevel, 0);
+        return true;
+    }
+
+    // --- Settings for the current level ---
+
+    public float getRenderScale() {
+        return 1f - SCALE_STEP * Math.min(level, SCALE_LEVELS);
+    }
+
+    /** Fraction of the particle capacity that may be live. */
+    public float getParticleFraction() {
+        return level > SCALE_LEVELS ? EXTRA_LEVEL_FRACTIONS[level - SCALE_LEVELS - 1] : 1f;
+    }
+
+    /** Fraction of the background stars drawn. */
+    public float getStarFraction() {
+        return getParticleFraction();
+    }
+
+    // --- Debug API ---
+
+    public int getLevel() {
+        return level;
+    }
+
+    /** Pins the quality level (0 = full quality, MAX_LEVEL = lowest); -1 returns to automatic. */
+    public void forceLevel(int forcedLevel) {
+        this.forcedLevel = forcedLevel < 0 ? -1 : MathUtils.clamp(forcedLevel, 0, MAX_LEVEL);
+    }
+
+    public int getForcedLevel() {
+        return forcedLevel;
+    }
+
+    /** Outcome of the most recent evaluation; kept until the next one. */
+    public Decision getLastDecision() {
+        return lastDecision;
+    }
+
+    /** Average frame time of the last evaluated window, in seconds. */
+    public float getAverageFrameSeconds() {
+        return averageFrame;
+    }
+
+    /** Average CPU work per frame of the last evaluated window, in seconds. */
+    public float getAverageWorkSeconds() {
+        return averageWork;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setTargetFps(float targetFps) {
+        this.targetFps = Math.max(1f, targetFps);
+    }
+
+    public float getTargetFps() {
+        return targetFps;
+    }
+}
@@ -38,6 +38,9 @@ public class FeedbackQueue {
   }
 
   public void update(float dt) {
+    if (messages.isEmpty()) {
+      return; // Skip the iterator allocation on the common frame
+    }
     Iterator<Message> it = messages.iterator();
     while (it.hasNext()) {
       Message msg = it.next();
@@ -52,6 +55,10 @@ public class FeedbackQueue {
     messages.clear();
   }
 
+  public boolean isEmpty() {
+    return messages.isEmpty();
+  }
+
   /**
    * Renders the queue.
    * 
@@ -19,10 +19,12 @@ public class GameStateManager {
 
     private Map<State, GameStateInterface> states;
     private GameStateInterface currentState;
+    private LoadingManager loading;
 
     public GameStateManager(Game game) {
+        loading = game.getLoading();
         states = new HashMap<>();
-        states.put(State.INTRO, new IntroState(this, game.getUiManager()));
+        states.put(State.INTRO, new IntroState(this, game.getUiManager(), loading));
         states.put(State.MENU, new MenuState(this, game.getUiManager(), game.getMusicManager()));
         states.put(State.PLAYING, new PlayingState(game, this, game.getUiManager()));
         states.put(State.GAME_OVER,
@@ -48,6 +50,11 @@ public class GameStateManager {
             previousStateEnum = null;
         }
 
+        if (newState == State.PLAYING && !loading.isReady(LoadingManager.Group.GAMEPLAY)) {
+            // Started before the gameplay audio finished streaming: wait for it now
+            loading.finishLoading(LoadingManager.Group.GAMEPLAY);
+        }
+
         currentState = states.get(newState);
         if (currentState != null) {
             currentState.enter();
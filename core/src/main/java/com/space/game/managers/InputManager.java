@@ -26,6 +26,7 @@ public class InputManager extends InputAdapter {
         if (gsm.getState() != State.PLAYING) {
             return false;
         }
+        SpaceGame.getGame().getMapManager().recordInput(true, keycode);
         switch (keycode) {
             // virar caso o jogador pressione a seta pra esquerda
             case Keys.LEFT:
@@ -71,6 +72,7 @@ public class InputManager extends InputAdapter {
     public boolean keyUp(int keycode) {
         // Allow key release events to be processed even if not playing,
         // to prevent "stuck" keys when resuming from pause.
+        SpaceGame.getGame().getMapManager().recordInput(false, keycode);
         switch (keycode) {
             case Keys.LEFT:
                 turningLeft = false;
@@ -0,0 +1,182 @@
+package com.space.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetErrorListener;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Loads the game's textures, sounds and music through an AssetManager, a few
+ * milliseconds per frame, instead of all at once before the first frame.
+ *
+ * Managers queue their files into a {@link Group} and register as a
+ * {@link Listener}; once every file of a group is in, its listeners pick the
+ * assets up. Groups are loaded in order, so what the intro and the menu need
+ * is ready long before the gameplay audio finishes streaming.
+ *
+ * A file that fails to load is logged and skipped (the manager using it sees
+ * null), so one broken asset does not stall the rest.
+ *
+ * The AssetManager owns every asset loaded here; managers must not dispose
+ * them.
+ */
+public class LoadingManager {
+
+    public enum Group {
+        /** Drawn on the very first frame (sprites, background layers); loaded synchronously. */
+        BOOT,
+        /** Needed by the menu (its music). */
+        MENU,
+        /** Needed once a run starts (effects, gameplay music). */
+        GAMEPLAY
+    }
+
+    public interface Listener {
+        /** Called once, on the render thread, when every file of the group is loaded (or failed). */
+        void onAssetsLoaded(Group group, AssetManager assets);
+    }
+
+    private static final Group[] GROUPS = Group.values();
+
+    private final AssetManager assets = new AssetManager();
+    private final Array<Array<AssetDescriptor<?>>> files = new Array<Array<AssetDescriptor<?>>>();
+    private final Array<Array<Listener>> listeners = new Array<Array<Listener>>();
+    private final boolean[] ready = new boolean[GROUPS.length];
+    private final ObjectSet<String> failed = new ObjectSet<String>();
+    private boolean started;
+
+    public LoadingManager() {
+        for (int i = 0; i < GROUPS.length; i++) {
+            files.add(new Array<AssetDescriptor<?>>());
+            listeners.add(new Array<Listener>());
+        }
+        assets.setErrorListener(new AssetErrorListener() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            public void error(AssetDescriptor asset, Throwable throwable) {
+                Gdx.app.error("LoadingManager", "Failed to load " + asset.fileName, throwable);
+                failed.add(asset.fileName);
+            }
+        });
+    }
+
+    /** Queues a file for a group. Must be called before {@link #start()}. */
+    public <T> void load(Group group, String fileName, Class<T> type) {
+        files.get(group.ordinal()).add(new AssetDescriptor<T>(fileName, type));
+    }
+
+    public void addListener(Group group, Listener listener) {
+        listeners.get(group.ordinal()).add(listener);
+    }
+
+    /** Hands the queued files to the AssetManager, group by group, in priority order. */
+    public void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        for (Array<AssetDescriptor<?>> group : files) {
+            for (AssetDescriptor<?> descriptor : group) {
+                assets.load(descriptor);
+            }
+        }
+        checkGroups();
+    }
+
+    /**
+     * Loads for at most about the given time (the current file is always
+     * finished, so a large one can overrun it).
+     *
+     * @return true once everything is loaded
+     */
+    public boolean update(int millis) {
+        if (isFinished()) {
+            return true;
+        }
+        assets.update(millis);
+        checkGroups();
+        return isFinished();
+    }
+
+    /** Blocks until the group (and every group before it) is loaded. */
+    public void finishLoading(Group group) {
+        start();
+        for (int i = 0; i <= group.ordinal(); i++) {
+            // Not finishLoadingAsset: it never returns for a file that failed
+            while (!isComplete(i)) {
+                if (assets.update()) {
+                    break;
+                }
+            }
+        }
+        checkGroups();
+    }
+
+    /** Blocks until everything is loaded. */
+    public void finishLoading() {
+        finishLoading(GROUPS[GROUPS.length - 1]);
+    }
+
+    // Groups complete in order; notify each one's listeners exactly once
+    private void checkGroups() {
+        for (int i = 0; i < GROUPS.length; i++) {
+            if (ready[i]) {
+                continue;
+            }
+            if (!isComplete(i)) {
+                return;
+            }
+            ready[i] = true;
+            for (Listener listener : listeners.get(i)) {
+                listener.onAssetsLoaded(GROUPS[i], assets);
+            }
+        }
+    }
+
+    private boolean isComplete(int group) {
+        for (AssetDescriptor<?> descriptor : files.get(group)) {
+            if (!assets.isLoaded(descriptor.fileName) && !failed.contains(descriptor.fileName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady(Group group) {
+        return ready[group.ordinal()];
+    }
+
+    public boolean isFinished() {
+        return ready[GROUPS.length - 1];
+    }
+
+    /** Overall progress, 0 to 1. */
+    public float getProgress() {
+        return isFinished() ? 1f : assets.getProgress();
+    }
+
+    /** Progress of one group, 0 to 1, by file count. */
+    public float getProgress(Group group) {
+        Array<AssetDescriptor<?>> groupFiles = files.get(group.ordinal());
+        if (ready[group.ordinal()] || groupFiles.size == 0) {
+            return 1f;
+        }
+        int done = 0;
+        for (AssetDescriptor<?> descriptor : groupFiles) {
+            if (assets.isLoaded(descriptor.fileName) || failed.contains(descriptor.fileName)) {
+                done++;
+            }
+        }
+        return done / (float) groupFiles.size;
+    }
+
+    public AssetManager getAssets() {
+        return assets;
+    }
+
+    public void dispose() {
+        assets.dispose();
+    }
+}
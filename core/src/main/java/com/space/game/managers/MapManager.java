@@ -1,6 +1,5 @@
 package com.space.game.managers;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.space.game.entities.Spaceship;
 import com.space.game.levels.Level;
@@ -16,6 +15,9 @@ public class MapManager {
     private BulletManager bulletManager;
     private com.space.game.managers.ParticleManager particleManager;
     private com.space.game.managers.SoundManager soundManager;
+    // Aliens and bullets as dense components; outlives levels like the BulletManager
+    private final com.space.game.ecs.EntityWorld world = new com.space.game.ecs.EntityWorld();
+    private final AlienFactory alienFactory;
 
     private float waveTimer = 0;
     private final float TIME_TO_WAVE = 3; // Tempo em segundos antes da próxima onda
@@ -23,6 +25,10 @@ public class MapManager {
     private boolean warningSoundPlayed = false;
     private boolean fadeWarningOutTriggered = false;
     private boolean fadeTriggered = false;
+    private boolean nextLevelPrepared = false;
+    // Simulation ticks since the run started; stamps recorded input
+    private int runTick;
+    private com.space.game.Replay replay;
 
     public boolean isWaveActive() {
         return waveActive;
@@ -33,11 +39,46 @@ public class MapManager {
     }
 
     public MapManager(Game game) {
-        this.levelFactory = new LevelFactory();
+        this.levelFactory = new LevelFactory(game.getRandom().gameplay());
         // this.game = game;
         this.soundManager = game.getSoundManager();
-        this.bulletManager = new com.space.game.managers.BulletManager(game.getTextureManager(), this.soundManager);
-        this.particleManager = new com.space.game.managers.ParticleManager(game.getTextureManager());
+        this.alienFactory = new AlienFactory(game.getTextureManager());
+        this.bulletManager = new com.space.game.managers.BulletManager(game.getTextureManager(), this.soundManager,
+                world);
+        this.particleManager = new com.space.game.managers.ParticleManager(game.getTextureManager(),
+                game.getRandom().effects());
+    }
+
+    /** Starts a new run from level 1 with the next session seed. */
+    public void startRun() {
+        startRun(SpaceGame.getGame().getRandom().startSession());
+    }
+
+    /** Starts a new run from level 1 with a known session seed (replays). */
+    public void startRun(long seed) {
+        SpaceGame.getGame().getRandom().startSession(seed);
+        runTick = 0;
+        replay = new com.space.game.Replay(seed, SpaceGame.getGame().getClock().getStep());
+        loadLevel(1);
+    }
+
+    /** Called by the InputManager for every key event it acts on. */
+    public void recordInput(boolean down, int keycode) {
+        if (replay != null) {
+            replay.record(runTick, down, keycode);
+        }
+    }
+
+    /** Input of the current (or last) run so far; null before the first run. */
+    public com.space.game.Replay getReplay() {
+        if (replay != null) {
+            replay.setTicks(runTick);
+        }
+        return replay;
+    }
+
+    public int getRunTick() {
+        return runTick;
     }
 
     public void loadLevel(int levelNumber) {
@@ -55,6 +96,7 @@ public class MapManager {
         }
 
         currentLevel = levelFactory.createLevel(levelNumber, spaceship, bulletManager, particleManager);
+        nextLevelPrepared = false;
         waveActive = false;
         waveActive = false;
         warningSoundPlayed = false;
@@ -173,7 +215,8 @@ public class MapManager {
 
     }
 
-    public void update() {
+    public void update(float delta) {
+        runTick++;
         if (currentLevel != null && currentLevel.getEndLevel()) {
             if (spaceship.getBossesDefeated() > 0) {
                 // Fix: Do NOT increase max energy here. It's already done when Boss dies.
@@ -182,9 +225,14 @@ public class MapManager {
             loadLevel(currentLevel.getConfig().getLevelNumber() + 1);
         }
         if (currentLevel != null && waveActive) {
-            currentLevel.update();
+            currentLevel.update(delta);
+            if (!nextLevelPrepared) {
+                // First tick after the wave started: generate the next config now, off the transition
+                levelFactory.prepareLevel(currentLevel.getConfig().getLevelNumber() + 1);
+                nextLevelPrepared = true;
+            }
         } else if (currentLevel != null && !waveActive) {
-            currentLevel.updateTransition();
+            currentLevel.updateTransition(delta);
 
             float currentTimeToWave = TIME_TO_WAVE;
 
@@ -205,7 +253,7 @@ public class MapManager {
                 currentTimeToWave = 8.0f; // 2s (Info) + 2s (Fade) + 4s (Warning)
             }
 
-            waveTimer += Gdx.graphics.getDeltaTime();
+            waveTimer += delta;
             if (waveTimer >= currentTimeToWave) {
                 waveActive = true;
                 waveTimer = 0;
@@ -244,6 +292,7 @@ public class MapManager {
         warningSoundPlayed = false;
         fadeWarningOutTriggered = false;
         fadeTriggered = false;
+        nextLevelPrepared = false;
         waveTimer = 0;
         if (levelFactory != null) {
             levelFactory.reset();
@@ -270,6 +319,7 @@ public class MapManager {
         if (particleManager != null) {
             particleManager.dispose();
         }
+        alienFactory.dispose();
     }
 
     public Spaceship getSpaceship() {
@@ -282,6 +332,18 @@ public class MapManager {
         }
     }
 
+    public com.space.game.ecs.EntityWorld getWorld() {
+        return world;
+    }
+
+    public AlienFactory getAlienFactory() {
+        return alienFactory;
+    }
+
+    public BulletManager getBulletManager() {
+        return bulletManager;
+    }
+
     public ParticleManager getParticleManager() {
         return particleManager;
     }
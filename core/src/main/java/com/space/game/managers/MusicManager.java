@@ -1,25 +1,48 @@
 package com.space.game.managers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
+import com.space.game.managers.LoadingManager.Group;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-public class MusicManager {
+/**
+ * Menu, game over, boss and playlist music. The menu track comes in with the
+ * MENU group of the {@link LoadingManager}, game over and boss music with
+ * GAMEPLAY; the LoadingManager owns those.
+ *
+ * Playlist tracks are only descriptors until needed: the current track is
+ * opened when it starts, the next one once the current has played for
+ * {@link #PREFETCH_AFTER_SECONDS}, and a track is disposed as soon as the
+ * playlist moves past it. At most two tracks hold a decoder at a time.
+ */
+public class MusicManager implements LoadingManager.Listener {
+  private static final String MENU_MUSIC = "musics/menu/Echoes_of_the_Last_Stand.mp3";
+  private static final String GAMEOVER_MUSIC = "musics/gameover/gameover.mp3";
+  private static final String BOSS_MUSIC_1 = "musics/playing/boss/majestic_heraldic_1.m4a";
+  private static final String BOSS_MUSIC_2 = "musics/playing/boss/majestic_heraldic_2.m4a";
+
+  // Music exposes no duration, so "shortly before the end" is approximated by "well into the track"
+  private static final float PREFETCH_AFTER_SECONDS = 5f;
+
   private float volume_music = 0.25f; // Standard volume (max 1.0)
 
   private Music menu_music;
   private Music gameover_music;
 
-  // Inner class to hold Music and its display name
+  // Playlist entry: the file and its display name; music is null until the track is opened
   private class MusicTrack {
+    final String path;
     Music music;
     String displayName;
+    String hudName; // Built once; the HUD asks for it every frame
 
-    public MusicTrack(Music music, String displayName) {
-      this.music = music;
+    public MusicTrack(String path, String displayName) {
+      this.path = path;
       this.displayName = displayName;
+      this.hudName = displayName + " - OK Machine";
     }
   }
 
@@ -51,19 +74,42 @@ public class MusicManager {
   // Manual pause state (when user pauses game)
   private boolean manuallyPaused = false;
 
-  public MusicManager() {
-    // Constructor
+  // Music stream of the RandomManager: playlist order
+  private final com.space.game.GameRandom random;
+
+  public MusicManager(com.space.game.GameRandom random) {
+    this.random = random;
+  }
+
+  public void queueMusics(LoadingManager loading) {
+    loading.load(Group.MENU, MENU_MUSIC, Music.class);
+    loading.load(Group.GAMEPLAY, GAMEOVER_MUSIC, Music.class);
+    loading.load(Group.GAMEPLAY, BOSS_MUSIC_1, Music.class);
+    loading.load(Group.GAMEPLAY, BOSS_MUSIC_2, Music.class);
+
+    loadPlaylist();
+
+    loading.addListener(Group.MENU, this);
+    loading.addListener(Group.GAMEPLAY, this);
   }
 
-  public void loadMusics() {
-    menu_music = Gdx.audio.newMusic(Gdx.files.internal("musics/menu/Echoes_of_the_Last_Stand.mp3"));
-    gameover_music = Gdx.audio.newMusic(Gdx.files.internal("musics/gameover/gameover.mp3"));
+  @Override
+  public void onAssetsLoaded(Group group, AssetManager assets) {
+    if (group == Group.MENU) {
+      menu_music = get(assets, MENU_MUSIC);
+      if (menuMusicRequested) {
+        playMenuMusic();
+      }
+      return;
+    }
 
-    // Load Boss Musics
-    bossMusic1 = Gdx.audio.newMusic(Gdx.files.internal("musics/playing/boss/majestic_heraldic_1.m4a"));
-    bossMusic2 = Gdx.audio.newMusic(Gdx.files.internal("musics/playing/boss/majestic_heraldic_2.m4a"));
+    gameover_music = get(assets, GAMEOVER_MUSIC);
+    bossMusic1 = get(assets, BOSS_MUSIC_1);
+    bossMusic2 = get(assets, BOSS_MUSIC_2);
+  }
 
-    // Load playlist from JSON
+  // Reads data/playlist.json into descriptors; no track is opened here
+  private void loadPlaylist() {
     try {
       com.badlogic.gdx.utils.JsonReader reader = new com.badlogic.gdx.utils.JsonReader();
       com.badlogic.gdx.utils.JsonValue base = reader.parse(Gdx.files.internal("data/playlist.json"));
@@ -71,40 +117,78 @@ public class MusicManager {
       playlist = new ArrayList<>();
       for (com.badlogic.gdx.utils.JsonValue entry = base.child; entry != null; entry = entry.next) {
         String fileNamePath = entry.asString();
-        Gdx.app.log("MusicManager", "Loading music file: " + fileNamePath);
+        playlist.add(new MusicTrack(fileNamePath, formatMusicName(fileNamePath)));
+      }
 
-        Music music = Gdx.audio.newMusic(Gdx.files.internal(fileNamePath));
+      if (playlist.isEmpty()) {
+        Gdx.app.log("MusicManager", "No music files found in playlist.");
+      } else {
+        Gdx.app.log("MusicManager", "Found " + playlist.size() + " music files.");
+      }
 
-        // Format the display name
-        String displayName = formatMusicName(fileNamePath);
+      // Shuffle
+      Collections.shuffle(playlist, random);
+      currentTrackIndex = 0;
 
-        music.setOnCompletionListener(new Music.OnCompletionListener() {
+    } catch (Exception e) {
+      Gdx.app.error("MusicManager", "Error loading playlist json", e);
+    }
+  }
+
+  /** Opens the track's stream if it is not open yet; null if the file cannot be opened. */
+  private Music open(MusicTrack track) {
+    if (track.music == null) {
+      try {
+        Gdx.app.log("MusicManager", "Opening music file: " + track.path);
+        track.music = Gdx.audio.newMusic(Gdx.files.internal(track.path));
+        track.music.setOnCompletionListener(new Music.OnCompletionListener() {
           @Override
           public void onCompletion(Music music) {
             Gdx.app.log("MusicManager", "OnCompletionListener triggered");
-            playNextTrack();
+            // Deferred: playNextTrack disposes this Music, which must not happen inside its own update
+            Gdx.app.postRunnable(new Runnable() {
+              @Override
+              public void run() {
+                playNextTrack();
+              }
+            });
           }
         });
-
-        playlist.add(new MusicTrack(music, displayName));
-      }
-
-      if (playlist.isEmpty()) {
-        Gdx.app.log("MusicManager", "No music files found in playlist.");
-      } else {
-        Gdx.app.log("MusicManager", "Found " + playlist.size() + " music files.");
+      } catch (Exception e) {
+        Gdx.app.error("MusicManager", "Error opening music file: " + track.path, e);
       }
+    }
+    return track.music;
+  }
 
-      // Shuffle
-      Collections.shuffle(playlist);
+  private void release(MusicTrack track) {
+    if (track.music != null) {
+      track.music.setOnCompletionListener(null);
+      track.music.stop();
+      track.music.dispose();
+      track.music = null;
+    }
+  }
 
-      if (!playlist.isEmpty()) {
-        currentTrackIndex = 0;
+  // Disposes every open track except the current one (e.g. after a reshuffle invalidated the prefetch)
+  private void releaseAllButCurrent() {
+    for (int i = 0; i < playlist.size(); i++) {
+      if (i != currentTrackIndex) {
+        release(playlist.get(i));
       }
+    }
+  }
 
-    } catch (Exception e) {
-      Gdx.app.error("MusicManager", "Error loading playlist json", e);
+  /** The current track's stream, or null when there is none or it is not open. */
+  private Music currentMusic() {
+    if (playlist == null || playlist.isEmpty() || currentTrackIndex < 0 || currentTrackIndex >= playlist.size()) {
+      return null;
     }
+    return playlist.get(currentTrackIndex).music;
+  }
+
+  private static Music get(AssetManager assets, String file) {
+    return assets.isLoaded(file) ? assets.get(file, Music.class) : null;
   }
 
   public void initializeVolume() {
@@ -224,10 +308,9 @@ public class MusicManager {
       return;
 
     // Stop current normal music
-    if (playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0 && currentTrackIndex < playlist.size()) {
-      if (playlist.get(currentTrackIndex).music.isPlaying()) {
-        playlist.get(currentTrackIndex).music.stop();
-      }
+    Music currentMusic = currentMusic();
+    if (currentMusic != null && currentMusic.isPlaying()) {
+      currentMusic.stop();
     }
     isMusicActive = false; // Pause normal playlist logic
 
@@ -294,7 +377,7 @@ public class MusicManager {
     }
     if (playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0 && currentTrackIndex < playlist.size()) {
       // Append the artist logic
-      return playlist.get(currentTrackIndex).displayName + " - OK Machine";
+      return playlist.get(currentTrackIndex).hudName;
     }
     return "";
   }
@@ -318,39 +401,8 @@ public class MusicManager {
     if (playlist == null || playlist.isEmpty())
       return;
 
-    // Stop current if playing
-    try {
-      if (currentTrackIndex >= 0 && currentTrackIndex < playlist.size()) {
-        MusicTrack current = playlist.get(currentTrackIndex);
-        if (current.music.isPlaying()) {
-          current.music.stop();
-        }
-      }
-    } catch (Exception e) {
-      Gdx.app.error("MusicManager", "Error stopping current track", e);
-    }
-
-    // Move index
-    currentTrackIndex = (currentTrackIndex + 1) % playlist.size();
-
-    // Play next
-    try {
-      MusicTrack nextTrack = playlist.get(currentTrackIndex);
-      Music nextMusic = nextTrack.music;
-
-      // Allow replay if it's same track or re-looping entire playlist
-      nextMusic.stop(); // Ensure stopped before re-setup
-
-      nextMusic.setPosition(0);
-      nextMusic.setVolume(volume_music);
-      nextMusic.setLooping(false);
-      nextMusic.play();
-      hasCurrentTrackStarted = false; // Reset for new track
-      Gdx.app.log("MusicManager",
-          "Playing next track: " + currentTrackIndex + " (" + nextTrack.displayName + ")");
-    } catch (Exception e) {
-      Gdx.app.error("MusicManager", "Error playing next track", e);
-    }
+    // The finished (or skipped) track is disposed; the next one is already open if it was prefetched
+    moveTo((currentTrackIndex + 1) % playlist.size(), "next");
   }
 
   public void playPreviousTrack() {
@@ -365,18 +417,34 @@ public class MusicManager {
     if (playlist.isEmpty())
       return;
 
-    MusicTrack current = playlist.get(currentTrackIndex);
-    if (current.music.isPlaying()) {
-      current.music.stop();
-    }
+    moveTo((currentTrackIndex - 1 + playlist.size()) % playlist.size(), "previous");
+  }
 
-    currentTrackIndex = (currentTrackIndex - 1 + playlist.size()) % playlist.size();
-    MusicTrack prev = playlist.get(currentTrackIndex);
+  private void moveTo(int index, String label) {
+    currentTrackIndex = index;
+    releaseAllButCurrent();
 
-    prev.music.setPosition(0);
-    prev.music.play();
-    prev.music.setVolume(volume_music);
-    hasCurrentTrackStarted = false;
+    // Play
+    try {
+      MusicTrack track = playlist.get(currentTrackIndex);
+      Music music = open(track);
+      if (music == null) {
+        return;
+      }
+
+      // Allow replay if it's same track or re-looping entire playlist
+      music.stop(); // Ensure stopped before re-setup
+
+      music.setPosition(0);
+      music.setVolume(volume_music);
+      music.setLooping(false);
+      music.play();
+      hasCurrentTrackStarted = false; // Reset for new track
+      Gdx.app.log("MusicManager",
+          "Playing " + label + " track: " + currentTrackIndex + " (" + track.displayName + ")");
+    } catch (Exception e) {
+      Gdx.app.error("MusicManager", "Error playing " + label + " track", e);
+    }
   }
 
   public void playMusic() {
@@ -385,20 +453,25 @@ public class MusicManager {
     if (playlist.isEmpty())
       return;
 
-    MusicTrack current = playlist.get(currentTrackIndex);
-    if (current.music.isPlaying()) {
-      current.music.stop();
+    Music currentMusic = currentMusic();
+    if (currentMusic != null && currentMusic.isPlaying()) {
+      currentMusic.stop();
     }
     // shuffle the playlist
-    Collections.shuffle(playlist);
+    Collections.shuffle(playlist, random);
     // reset music to start
     currentTrackIndex = 0;
+    // Whatever was open (old current, prefetched next) is not where the shuffle put it
+    releaseAllButCurrent();
 
-    current = playlist.get(currentTrackIndex);
-    current.music.setPosition(0);
-    current.music.setLooping(false);
-    current.music.setVolume(volume_music);
-    current.music.play();
+    currentMusic = open(playlist.get(currentTrackIndex));
+    if (currentMusic == null) {
+      return;
+    }
+    currentMusic.setPosition(0);
+    currentMusic.setLooping(false);
+    currentMusic.setVolume(volume_music);
+    currentMusic.play();
     isMusicActive = true;
     hasCurrentTrackStarted = false;
     Gdx.app.log("MusicManager", "Starting normal playlist check. Track: " + currentTrackIndex);
@@ -414,9 +487,9 @@ public class MusicManager {
       stopBossMusic(false); // Do not resume playlist
     }
 
-    if (!playlist.isEmpty() && currentTrackIndex < playlist.size()
-        && playlist.get(currentTrackIndex).music.isPlaying()) {
-      playlist.get(currentTrackIndex).music.stop();
+    Music currentMusic = currentMusic();
+    if (currentMusic != null && currentMusic.isPlaying()) {
+      currentMusic.stop();
     }
   }
 
@@ -436,9 +509,9 @@ public class MusicManager {
       if (bossMusic2 != null && bossMusic2.isPlaying())
         bossMusic2.pause();
     } else {
-      if (playlist != null && !playlist.isEmpty() && currentTrackIndex < playlist.size()
-          && playlist.get(currentTrackIndex).music.isPlaying()) {
-        playlist.get(currentTrackIndex).music.pause();
+      Music currentMusic = currentMusic();
+      if (currentMusic != null && currentMusic.isPlaying()) {
+        currentMusic.pause();
       }
     }
   }
@@ -464,8 +537,8 @@ public class MusicManager {
     } else {
       isMusicActive = true;
       if (!playlist.isEmpty()) {
-        Music current = playlist.get(currentTrackIndex).music;
-        if (!current.isPlaying()) {
+        Music current = open(playlist.get(currentTrackIndex));
+        if (current != null && !current.isPlaying()) {
           current.setVolume(volume_music); // Ensure volume is up to date
           current.play();
         }
@@ -494,8 +567,8 @@ public class MusicManager {
     if (bossMusic2 != null)
       bossMusic2.setVolume(this.volume_music);
 
-    if (playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0 && currentTrackIndex < playlist.size()) {
-      Music current = playlist.get(currentTrackIndex).music;
+    Music current = currentMusic();
+    if (current != null) {
       current.setVolume(this.volume_music);
     }
   }
@@ -504,7 +577,11 @@ public class MusicManager {
     return this.volume_music;
   }
 
+  // Set when the menu asks for its music before the file has loaded
+  private boolean menuMusicRequested = false;
+
   public void playMenuMusic() {
+    menuMusicRequested = menu_music == null;
     if (menu_music != null && !menu_music.isPlaying()) {
       menu_music.setLooping(true);
       menu_music.setVolume(volume_music);
@@ -526,9 +603,9 @@ public class MusicManager {
     }
   }
 
-  public void update() {
+  public void update(float delta) {
     if (isFading) {
-      updateFade(Gdx.graphics.getDeltaTime());
+      updateFade(delta);
     }
 
     // Handle boss music explosion pause (No-op now, but keeping clean)
@@ -545,15 +622,17 @@ public class MusicManager {
       }
     }
 
-    if (isMusicActive && playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0
-        && currentTrackIndex < playlist.size()) {
-      Music current = playlist.get(currentTrackIndex).music;
-
+    Music current = isMusicActive ? currentMusic() : null;
+    if (current != null) {
       if (current.isPlaying()) {
         if (!hasCurrentTrackStarted) {
           hasCurrentTrackStarted = true;
           Gdx.app.log("MusicManager", "Track started playing: " + currentTrackIndex);
         }
+        // Open the next track ahead of time so the switch does not stall on the decoder
+        if (current.getPosition() > PREFETCH_AFTER_SECONDS && playlist.size() > 1) {
+          open(playlist.get((currentTrackIndex + 1) % playlist.size()));
+        }
       } else if (hasCurrentTrackStarted && !isFading) { // Don't skip track if simply faded out/paused logic
         // It WAS playing, and now it's NOT. Thus it finished.
         // Reset flag and play next.
@@ -577,8 +656,8 @@ public class MusicManager {
         bossMusic1.setVolume(newVolume);
       if (bossMusicPhase == 2 && bossMusic2 != null)
         bossMusic2.setVolume(newVolume);
-    } else if (playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0) {
-      playlist.get(currentTrackIndex).music.setVolume(newVolume);
+    } else if (currentMusic() != null) {
+      currentMusic().setVolume(newVolume);
     }
 
     if (progress >= 1.0f) {
@@ -608,8 +687,8 @@ public class MusicManager {
         initialFadeVolume = bossMusic2.getVolume();
       else
         initialFadeVolume = volume_music;
-    } else if (playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0) {
-      initialFadeVolume = playlist.get(currentTrackIndex).music.getVolume();
+    } else if (currentMusic() != null) {
+      initialFadeVolume = currentMusic().getVolume();
     } else {
       initialFadeVolume = volume_music;
     }
@@ -654,8 +733,8 @@ public class MusicManager {
         bossMusic1.setVolume(initialFadeVolume);
       if (bossMusicPhase == 2 && bossMusic2 != null)
         bossMusic2.setVolume(initialFadeVolume);
-    } else if (playlist != null && !playlist.isEmpty() && currentTrackIndex >= 0) {
-      playlist.get(currentTrackIndex).music.setVolume(initialFadeVolume);
+    } else if (currentMusic() != null) {
+      currentMusic().setVolume(initialFadeVolume);
     }
   }
 
@@ -687,28 +766,18 @@ public class MusicManager {
       }
       return false; // Boss music active but not emitting sound (paused/stopped logic)
     }
-    if (playlist == null || playlist.isEmpty() || currentTrackIndex < 0)
-      return false;
-    return playlist.get(currentTrackIndex).music.isPlaying();
+    Music current = currentMusic();
+    return current != null && current.isPlaying();
   }
 
   public void dispose() {
-    if (menu_music != null)
-      menu_music.dispose();
-    if (gameover_music != null)
-      gameover_music.dispose();
-    if (bossMusic1 != null)
-      bossMusic1.dispose();
-    if (bossMusic2 != null)
-      bossMusic2.dispose();
-
-    if (playlist == null)
-      return;
-    else if (playlist.isEmpty())
-      return;
-    else {
+    // Menu, game over and boss music belong to the LoadingManager; playlist tracks are ours
+    stopMusic();
+    stopMenuMusic();
+    stopGameOverMusic();
+    if (playlist != null) {
       for (MusicTrack track : playlist) {
-        track.music.dispose();
+        release(track);
       }
     }
   }
@@ -3,174 +3,313 @@ package com.space.game.managers;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.space.game.GameRandom;
+import com.space.game.SpaceGame;
+import com.space.game.graphics.RenderQueue;
 import com.space.game.graphics.TextureManager;
 
-public class ParticleManager {
-
-  public static class Particle implements Pool.Poolable {
-    public float x, y;
-    public float vx, vy;
-    public float life, maxLife;
-    public Color color = new Color();
-    public float size;
-    public float scaleSpeed = 0; // Speed at which size changes
-
-    @Override
-    public void reset() {
-      x = 0;
-      y = 0;
-      vx = 0;
-      vy = 0;
-      life = 0;
-      maxLife = 0;
-      color.set(Color.WHITE);
-      size = 1f;
-      scaleSpeed = 0;
-    }
+/**
+ * Packed (structure-of-arrays) particle store.
+ * Every particle attribute lives in its own float array indexed by slot; live
+ * particles always occupy slots [0, count) and dead ones are removed by moving
+ * the last live particle into their slot. Rendering writes SpriteBatch vertices
+ * directly instead of going through setColor/draw per particle; the whole
+ * store is one command in the level's RenderQueue.
+ */
+public class ParticleManager implements RenderQueue.Drawable {
+
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  /** What to do when a spawn request finds the store full. */
+  public enum OverflowPolicy {
+    /** Ignore the new particle (cheapest, older effects finish untouched). */
+    DROP_NEW,
+    /** Overwrite existing slots round-robin so new effects always show up. */
+    OVERWRITE
   }
 
-  private final Array<Particle> particles = new Array<>();
-  private final Pool<Particle> particlePool = new Pool<Particle>() {
-    @Override
-    protected Particle newObject() {
-      return new Particle();
-    }
-  };
+  // Charge particles: Cyan/Blue electric color
+  private static final float CHARGE_COLOR = Color.toFloatBits(0.2f, 0.8f, 1f, 1f);
+
+  // SpriteBatch vertex layout: x, y, packed color, u, v
+  private static final int VERTEX_SIZE = 5;
+  private static final int SPRITE_SIZE = VERTEX_SIZE * 4;
+  private static final int SPRITES_PER_CHUNK = 256;
+
+  private final int capacity;
+  // Live particle limit, at most capacity; lowered by the dynamic quality controller under load
+  private int budget;
+  private OverflowPolicy overflowPolicy = OverflowPolicy.OVERWRITE;
+  private int overflowCursor = 0;
+  private int count = 0;
+
+  private final float[] x, y;
+  private final float[] vx, vy;
+  private final float[] life, invMaxLife;
+  private final float[] size, scaleSpeed;
+  private final float[] color; // Packed ABGR (Color.toFloatBits)
 
-  private Texture particleTexture;
+  private final float[] vertices = new float[SPRITE_SIZE * SPRITES_PER_CHUNK];
 
-  public ParticleManager(TextureManager textureManager) {
-    this.particleTexture = textureManager.getTexture("star");
+  private TextureRegion particleRegion;
+  // Effects stream: the budget changes how many particles live, never what gameplay draws
+  private final GameRandom random;
+
+  public ParticleManager(TextureManager textureManager, GameRandom random) {
+    this(textureManager, random, DEFAULT_CAPACITY);
+  }
+
+  public ParticleManager(TextureManager textureManager, GameRandom random, int capacity) {
+    this.random = random;
+    this.particleRegion = textureManager.getRegion("star");
     // Fallback if "star" isn't found, though it should be
-    if (this.particleTexture == null) {
+    if (this.particleRegion == null) {
       // Error handling or fallback logic could go here
     }
+
+    this.capacity = capacity;
+    this.budget = capacity;
+    x = new float[capacity];
+    y = new float[capacity];
+    vx = new float[capacity];
+    vy = new float[capacity];
+    life = new float[capacity];
+    invMaxLife = new float[capacity];
+    size = new float[capacity];
+    scaleSpeed = new float[capacity];
+    color = new float[capacity];
   }
 
   public void addParticle(float x, float y, float vx, float vy, float life, Color color, float size, float scaleSpeed) {
-    Particle p = particlePool.obtain();
-    p.x = x;
-    p.y = y;
-    p.vx = vx;
-    p.vy = vy;
-    p.life = life;
-    p.maxLife = life;
-    p.color.set(color);
-    p.size = size;
-    p.scaleSpeed = scaleSpeed;
-    particles.add(p);
+    addParticle(x, y, vx, vy, life, color.toFloatBits(), size, scaleSpeed);
+  }
+
+  public void addParticle(float px, float py, float pvx, float pvy, float plife, float packedColor, float psize,
+      float pscaleSpeed) {
+    if (plife <= 0)
+      return;
+
+    int i;
+    if (count < budget) {
+      i = count++;
+    } else if (overflowPolicy == OverflowPolicy.OVERWRITE) {
+      i = overflowCursor % budget;
+      overflowCursor = i + 1;
+    } else {
+      return;
+    }
+
+    x[i] = px;
+    y[i] = py;
+    vx[i] = pvx;
+    vy[i] = pvy;
+    life[i] = plife;
+    invMaxLife[i] = 1f / plife;
+    color[i] = packedColor;
+    size[i] = psize;
+    scaleSpeed[i] = pscaleSpeed;
   }
 
   public void clear() {
-    particlePool.freeAll(particles);
-    particles.clear();
+    count = 0;
+    overflowCursor = 0;
+  }
+
+  /**
+   * Caps live particles below the capacity. Particles already above a lowered
+   * budget are left to expire; new ones follow the overflow policy.
+   */
+  public void setBudget(int budget) {
+    this.budget = MathUtils.clamp(budget, 1, capacity);
+  }
+
+  public int getBudget() {
+    return budget;
   }
 
-  // Convenience for explosion
   // Convenience for explosion
   public void createExplosion(float x, float y, int count) {
-    createExplosion(x, y, count, new Color(0f, MathUtils.random(0.5f, 1.0f), 0f, 1f));
+    createExplosion(x, y, count, Color.toFloatBits(0f, random.range(0.5f, 1.0f), 0f, 1f));
   }
 
   public void createExplosion(float x, float y, int count, Color color) {
+    createExplosion(x, y, count, color.toFloatBits());
+  }
+
+  public void createExplosion(float x, float y, int count, float packedColor) {
     for (int i = 0; i < count; i++) {
-      float speed = MathUtils.random(15f, 150f);
-      float angle = MathUtils.random(0f, 360f);
+      float speed = random.range(15f, 150f);
+      float angle = random.range(0f, 360f);
       float vx = MathUtils.cosDeg(angle) * speed;
       float vy = MathUtils.sinDeg(angle) * speed;
 
       // Variation on alpha/size but keep color base
-      float duration = MathUtils.random(0.5f, 1.0f);
-      float size = MathUtils.random(0.8f, 1.5f);
+      float duration = random.range(0.5f, 1.0f);
+      float size = random.range(0.8f, 1.5f);
 
-      addParticle(x, y, vx, vy, duration, color, size, -1.0f);
+      addParticle(x, y, vx, vy, duration, packedColor, size, -1.0f);
     }
   }
 
   public void createChargeParticle(float x, float y) {
     // Spawn only 1 particle per call to reduce density
     for (int i = 0; i < 1; i++) {
-      float angle = MathUtils.random(0, 360);
-      float speed = MathUtils.random(5f, 20f);
+      float angle = random.range(0, 360);
+      float speed = random.range(5f, 20f);
       float vx = MathUtils.cosDeg(angle) * speed;
       float vy = MathUtils.sinDeg(angle) * speed;
 
-      // Cyan/Blue electric color
-      Color c = new Color(0.2f, 0.8f, 1f, 1f);
-
       // Increased size: 0.8f to 1.5f (was 0.2 to 0.5)
-      addParticle(x, y, vx, vy, MathUtils.random(0.3f, 0.6f), c, MathUtils.random(0.8f, 1.5f), -0.5f);
+      addParticle(x, y, vx, vy, random.range(0.3f, 0.6f), CHARGE_COLOR, random.range(0.8f, 1.5f), -0.5f);
     }
   }
 
   public void createMassiveExplosion(float x, float y, Color color) {
+    // Let the flash bloom for a moment (the pass is skipped again once it fades out)
+    SpaceGame.getGame().getPostProcessor().getBloom()
+        .pulse(com.space.game.config.GameConfig.BLOOM_EXPLOSION_INTENSITY);
+
+    float packedColor = color.toFloatBits();
     int count = 150;
     for (int i = 0; i < count; i++) {
-      float speed = MathUtils.random(100f, 600f);
-      float angle = MathUtils.random(0f, 360f);
+      float speed = random.range(100f, 600f);
+      float angle = random.range(0f, 360f);
       float vx = MathUtils.cosDeg(angle) * speed;
       float vy = MathUtils.sinDeg(angle) * speed;
-      float duration = MathUtils.random(1.0f, 2.5f);
-      float size = MathUtils.random(2.0f, 6.0f);
-      addParticle(x, y, vx, vy, duration, color, size, -2.0f);
+      float duration = random.range(1.0f, 2.5f);
+      float size = random.range(2.0f, 6.0f);
+      addParticle(x, y, vx, vy, duration, packedColor, size, -2.0f);
     }
   }
 
   public void update(float dt) {
-    for (int i = particles.size - 1; i >= 0; i--) {
-      Particle p = particles.get(i);
-      p.life -= dt;
-      if (p.life <= 0) {
-        particles.removeIndex(i);
-        particlePool.free(p);
-      } else {
-        p.x += p.vx * dt;
-        p.y += p.vy * dt;
-        p.size += p.scaleSpeed * dt;
-        if (p.size < 0)
-          p.size = 0;
+    int i = 0;
+    while (i < count) {
+      float l = life[i] - dt;
+      if (l <= 0) {
+        // Swap-and-pop; re-check slot i since it now holds the former last particle
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        life[i] = life[last];
+        invMaxLife[i] = invMaxLife[last];
+        size[i] = size[last];
+        scaleSpeed[i] = scaleSpeed[last];
+        color[i] = color[last];
+        continue;
       }
+      life[i] = l;
+      x[i] += vx[i] * dt;
+      y[i] += vy[i] * dt;
+      float s = size[i] + scaleSpeed[i] * dt;
+      size[i] = s < 0 ? 0 : s;
+      i++;
+    }
+    if (overflowCursor >= count) {
+      overflowCursor = 0;
     }
   }
 
-  public void render(SpriteBatch batch) {
-    if (particleTexture == null)
+  /** Queues all particles as a single command on the particle layer. */
+  public void render(RenderQueue queue) {
+    if (particleRegion == null || count == 0)
       return;
+    queue.draw(RenderQueue.LAYER_PARTICLES, particleRegion.getTexture(), this);
+  }
+
+  @Override
+  public void draw(SpriteBatch batch, RenderQueue queue) {
+    ProfilerManager profiler = SpaceGame.getGame().getProfiler();
+    profiler.begin(ProfilerManager.Section.PARTICLE_RENDER);
+    // The queue's tint is the theme's ambient color; multiply it into every particle
+    Color tint = queue.getTint();
+    float tintR = tint.r, tintG = tint.g, tintB = tint.b, tintA = tint.a;
+
+    // Simulation runs in fixed ticks; draw one tick behind, interpolated by the clock alpha
+    float lag = SpaceGame.getGame().getClock().getStep() * (SpaceGame.getGame().getClock().getAlpha() - 1f);
+
+    float halfW = particleRegion.getRegionWidth() / 2f;
+    float halfH = particleRegion.getRegionHeight() / 2f;
+    // Region UVs: the star may be a sub-rectangle of the sprite atlas page
+    float u = particleRegion.getU(), v = particleRegion.getV();
+    float u2 = particleRegion.getU2(), v2 = particleRegion.getV2();
+    Texture texture = particleRegion.getTexture();
+
+    int n = 0;
+    for (int i = 0; i < count; i++) {
+      int abgr = NumberUtils.floatToIntColor(color[i]);
+      float r = (abgr & 0xff) / 255f;
+      float g = ((abgr >>> 8) & 0xff) / 255f;
+      float b = ((abgr >>> 16) & 0xff) / 255f;
+      float a = ((abgr >>> 24) & 0xff) / 255f;
+      float alpha = life[i] * invMaxLife[i];
+      float c = Color.toFloatBits(r * tintR, g * tintG, b * tintB, a * alpha * tintA);
+
+      float w = halfW * size[i];
+      float h = halfH * size[i];
+      float px = x[i] + vx[i] * lag;
+      float py = y[i] + vy[i] * lag;
+      float x1 = px - w, y1 = py - h;
+      float x2 = px + w, y2 = py + h;
+
+      // Bottom-left, top-left, top-right, bottom-right (same order as SpriteBatch.draw)
+      vertices[n++] = x1;
+      vertices[n++] = y1;
+      vertices[n++] = c;
+      vertices[n++] = u;
+      vertices[n++] = v2;
+
+      vertices[n++] = x1;
+      vertices[n++] = y2;
+      vertices[n++] = c;
+      vertices[n++] = u;
+      vertices[n++] = v;
 
-    float oldR = batch.getColor().r;
-    float oldG = batch.getColor().g;
-    float oldB = batch.getColor().b;
-    float oldA = batch.getColor().a;
-
-    int srcWidth = particleTexture.getWidth();
-    int srcHeight = particleTexture.getHeight();
-    float originX = srcWidth / 2f;
-    float originY = srcHeight / 2f;
-
-    // Use the saved old values as the theme color
-    for (Particle p : particles) {
-      float alpha = p.life / p.maxLife;
-      // Multiply particle color with theme color
-      batch.setColor(p.color.r * oldR, p.color.g * oldG, p.color.b * oldB,
-          p.color.a * alpha * oldA);
-
-      batch.draw(particleTexture,
-          p.x - originX, p.y - originY,
-          originX, originY,
-          srcWidth, srcHeight,
-          p.size, p.size,
-          0,
-          0, 0, srcWidth, srcHeight,
-          false, false);
+      vertices[n++] = x2;
+      vertices[n++] = y2;
+      vertices[n++] = c;
+      vertices[n++] = u2;
+      vertices[n++] = v;
+
+      vertices[n++] = x2;
+      vertices[n++] = y1;
+      vertices[n++] = c;
+      vertices[n++] = u2;
+      vertices[n++] = v2;
+
+      if (n == vertices.length) {
+        batch.draw(texture, vertices, 0, n);
+        n = 0;
+      }
     }
-    // Restore theme color
-    batch.setColor(oldR, oldG, oldB, oldA);
+    if (n > 0) {
+      batch.draw(texture, vertices, 0, n);
+    }
+    profiler.end(ProfilerManager.Section.PARTICLE_RENDER);
+  }
+
+  public int getParticleCount() {
+    return count;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
   }
 
   public void dispose() {
-    // Texture is owned by TextureManager, don't dispose it here.
+    // Region is owned by TextureManager, don't dispose it here.
   }
 }
@@ -0,0 +1,272 @@
+package com.space.game.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.Arrays;
+
+/**
+ * Per-frame CPU timings for the main subsystems plus the GLProfiler counters.
+ *
+ * Callers wrap work in {@link #begin(Section)} / {@link #end(Section)}; a
+ * section may be entered several times per frame (one gameplay update per
+ * fixed tick) and its time is summed. {@link #endFrame()} closes the frame
+ * and pushes the totals into a rolling window, from which p50/p99 are taken.
+ * While disabled every call returns immediately and nothing is recorded.
+ *
+ * Everything is preallocated: profiling a frame does not allocate.
+ */
+public class ProfilerManager {
+
+    public enum Section {
+        FRAME("frame", 0),
+        BACKGROUND_UPDATE("background update", 1),
+        BACKGROUND_RENDER("background render", 1),
+        STATE_UPDATE("state update", 1),
+        ALIEN_UPDATE("aliens", 2),
+        COLLISION("collisions", 2),
+        PARTICLE_UPDATE("particles update", 2),
+        RENDER_QUEUE("render queue", 2),
+        PARTICLE_RENDER("particles render", 3),
+        POST_PROCESS("post-process", 1),
+        UI("ui", 1);
+
+        public final String label;
+        /** Nesting level, only used to indent the overlay. */
+        public final int depth;
+
+        Section(String label, int depth) {
+            this.label = label;
+            this.depth = depth;
+        }
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+
+    /** Default frames in the rolling window (about two seconds at 120 fps). */
+    public static final int DEFAULT_WINDOW = 240;
+
+    // Percentiles are recomputed every this many frames, not every frame
+    private static final int STATS_INTERVAL = 30;
+
+    private final GLProfiler glProfiler;
+    private boolean enabled;
+
+    private final long[] startNanos = new long[SECTIONS.length];
+    private final long[] frameNanos = new long[SECTIONS.length];
+    private int window;
+    private long[][] windowNanos;
+    private int[] windowDrawCalls;
+    private int[] windowTextureBindings;
+    private long[] sortScratch;
+    private int cursor;
+    private int filled;
+    private long frames;
+
+    private final long[] p50Nanos = new long[SECTIONS.length];
+    private final long[] p99Nanos = new long[SECTIONS.length];
+    private int framesSinceStats;
+
+    private int lastDrawCalls;
+    private int lastTextureBindings;
+
+    // Heap drops between frames, as a portable stand-in for GC counters (GWT has none)
+    private long lastHeapBytes;
+    private int heapDrops;
+
+    public ProfilerManager() {
+        glProfiler = new GLProfiler(Gdx.graphics);
+        setWindowSize(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Number of frames the percentiles cover. The headless harness widens it
+     * to the whole run; clears what was recorded so far.
+     */
+    public void setWindowSize(int frames) {
+        window = Math.max(1, frames);
+        windowNanos = new long[SECTIONS.length][window];
+        windowDrawCalls = new int[window];
+        windowTextureBindings = new int[window];
+        sortScratch = new long[window];
+        reset();
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (enabled == this.enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        if (enabled) {
+            reset();
+            glProfiler.reset();
+            glProfiler.enable();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void reset() {
+        Arrays.fill(frameNanos, 0);
+        for (long[] samples : windowNanos) {
+            Arrays.fill(samples, 0);
+        }
+        Arrays.fill(p50Nanos, 0);
+        Arrays.fill(p99Nanos, 0);
+        cursor = 0;
+        filled = 0;
+        frames = 0;
+        framesSinceStats = 0;
+        lastDrawCalls = 0;
+        lastTextureBindings = 0;
+        lastHeapBytes = 0;
+        heapDrops = 0;
+    }
+
+    public void begin(Section section) {
+        if (enabled) {
+            startNanos[section.ordinal()] = TimeUtils.nanoTime();
+        }
+    }
+
+    public void end(Section section) {
+        if (enabled) {
+            int i = section.ordinal();
+            frameNanos[i] += TimeUtils.nanoTime() - startNanos[i];
+        }
+    }
+
+    /** Closes the current frame: records section totals and GL counters, then clears them. */
+    public void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < SECTIONS.length; i++) {
+            windowNanos[i][cursor] = frameNanos[i];
+            frameNanos[i] = 0;
+        }
+        lastDrawCalls = glProfiler.getDrawCalls();
+        lastTextureBindings = glProfiler.getTextureBindings();
+        windowDrawCalls[cursor] = lastDrawCalls;
+        windowTextureBindings[cursor] = lastTextureBindings;
+        glProfiler.reset();
+
+        long heap = Gdx.app.getJavaHeap();
+        if (heap < lastHeapBytes) {
+            heapDrops++;
+        }
+        lastHeapBytes = heap;
+
+        cursor = (cursor + 1) % window;
+        filled = Math.min(filled + 1, window);
+        frames++;
+        framesSinceStats++;
+    }
+
+    // Sorting is only done when someone reads the percentiles, and at most every STATS_INTERVAL frames
+    private void refreshStats() {
+        if (framesSinceStats >= STATS_INTERVAL) {
+            updateStats();
+        }
+    }
+
+    private void updateStats() {
+        framesSinceStats = 0;
+        if (filled == 0) {
+            return;
+        }
+        for (int i = 0; i < SECTIONS.length; i++) {
+            System.arraycopy(windowNanos[i], 0, sortScratch, 0, filled);
+            Arrays.sort(sortScratch, 0, filled);
+            p50Nanos[i] = sortScratch[percentileIndex(0.50f)];
+            p99Nanos[i] = sortScratch[percentileIndex(0.99f)];
+        }
+    }
+
+    private int percentileIndex(float percentile) {
+        int index = (int) Math.ceil(percentile * filled) - 1;
+        return Math.max(0, Math.min(filled - 1, index));
+    }
+
+    public long getP50Nanos(Section section) {
+        refreshStats();
+        return p50Nanos[section.ordinal()];
+    }
+
+    public long getP99Nanos(Section section) {
+        refreshStats();
+        return p99Nanos[section.ordinal()];
+    }
+
+    /** Draw calls of the last complete frame (0 while disabled). */
+    public int getDrawCalls() {
+        return lastDrawCalls;
+    }
+
+    /** Texture binds of the last complete frame (0 while disabled). */
+    public int getTextureBindings() {
+        return lastTextureBindings;
+    }
+
+    public int getHeapDrops() {
+        return heapDrops;
+    }
+
+    public long getHeapBytes() {
+        return lastHeapBytes;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * The rolling window, oldest frame first: one row per frame with every
+     * section in microseconds, then draw calls and texture binds.
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("frame");
+        for (Section section : SECTIONS) {
+            sb.append(',').append(section.name().toLowerCase()).append("_us");
+        }
+        sb.append(",draw_calls,texture_binds\n");
+
+        int first = (cursor - filled + window) % window;
+        for (int f = 0; f < filled; f++) {
+            int slot = (first + f) % window;
+            sb.append(frames - filled + f);
+            for (int i = 0; i < SECTIONS.length; i++) {
+                sb.append(',').append(windowNanos[i][slot] / 1000);
+            }
+            sb.append(',').append(windowDrawCalls[slot]).append(',').append(windowTextureBindings[slot]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Percentiles of the current window per section (microseconds), for comparing builds. */
+    public String toJson() {
+        updateStats();
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"frames\": ").append(frames).append(",\n");
+        sb.append("  \"window\": ").append(filled).append(",\n");
+        sb.append("  \"sections\": {\n");
+        for (int i = 0; i < SECTIONS.length; i++) {
+            sb.append("    \"").append(SECTIONS[i].name().toLowerCase()).append("\": { \"p50Micros\": ")
+                    .append(p50Nanos[i] / 1000).append(", \"p99Micros\": ").append(p99Nanos[i] / 1000).append(" }")
+                    .append(i < SECTIONS.length - 1 ? ",\n" : "\n");
+        }
+        sb.append("  },\n");
+        sb.append("  \"drawCalls\": ").append(lastDrawCalls).append(",\n");
+        sb.append("  \"textureBinds\": ").append(lastTextureBindings).append(",\n");
+        sb.append("  \"heapBytes\": ").append(lastHeapBytes).append(",\n");
+        sb.append("  \"heapDrops\": ").append(heapDrops).append("\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.space.game.managers;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.space.game.GameRandom;
+
+/**
+ * Seeded randomness for a play session (one run from level 1 to game over).
+ *
+ * Every run gets a session seed, and every consumer draws from a stream
+ * derived from it. The streams are independent so one consumer drawing more
+ * or fewer numbers never shifts what the others get:
+ * - gameplay: level configs, spawning, alien parameters. Drawn only from
+ *   simulation ticks, so seed + recorded input replay a run exactly.
+ * - effects: particles. The particle budget follows the frame rate, so
+ *   keeping particles out of gameplay keeps replays exact on any machine.
+ * - background: stars and shooting stars, advanced per rendered frame.
+ * - music: playlist order.
+ *
+ * Render-only flicker (hit flashes, blinking) keeps using MathUtils.random;
+ * it runs per frame and never feeds back into the simulation.
+ */
+public class RandomManager {
+    // Odd 64-bit constant (golden ratio) to spread stream seeds apart
+    private static final long STREAM_SALT = 0x9E3779B97F4A7C15L;
+
+    private final RandomXS128 sessionSeeds;
+    private final GameRandom gameplay = new GameRandom(1);
+    private final GameRandom effects = new GameRandom(2);
+    private final GameRandom background = new GameRandom(3);
+    private final GameRandom music = new GameRandom(4);
+    private long sessionSeed;
+
+    public RandomManager() {
+        sessionSeeds = new RandomXS128(TimeUtils.millis() ^ TimeUtils.nanoTime());
+        startSession();
+    }
+
+    /** Makes the sequence of session seeds (and so every run) reproducible; used by the headless harness. */
+    public void setMasterSeed(long seed) {
+        sessionSeeds.setSeed(seed);
+    }
+
+    /** Reseeds every stream with the next session seed. */
+    public long startSession() {
+        startSession(sessionSeeds.nextLong());
+        return sessionSeed;
+    }
+
+    /** Reseeds every stream from a known session seed (replays). */
+    public void startSession(long seed) {
+        sessionSeed = seed;
+        gameplay.setSeed(seed);
+        effects.setSeed(seed + STREAM_SALT);
+        background.setSeed(seed + 2 * STREAM_SALT);
+        music.setSeed(seed + 3 * STREAM_SALT);
+    }
+
+    public long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    public GameRandom gameplay() {
+        return gameplay;
+    }
+
+    public GameRandom effects() {
+        return effects;
+    }
+
+    public GameRandom background() {
+        return background;
+    }
+
+    public GameRandom music() {
+        return music;
+    }
+}
@@ -1,14 +1,70 @@
 package com.space.game.managers;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Sound;
+import com.space.game.config.GameConfig;
+import com.space.game.managers.LoadingManager.Group;
+
+/**
+ * Sound effects. The files stream in with the GAMEPLAY group of the
+ * {@link LoadingManager}, which owns them; every play method is a no-op until
+ * its sound has arrived.
+ *
+ * Shots, hits and the boss explosion go through a small mixer: the play
+ * methods only record a request, and {@link #update(float)} plays each
+ * requested sound once per frame, louder when it was requested several times.
+ * Each sound has a cap on its concurrent voices and a priority; when a cap or
+ * {@link GameConfig#SOUND_MAX_VOICES} is reached, the oldest voice of equal or
+ * lower priority is stopped to make room, otherwise the request is dropped.
+ * A charged shot through a swarm is one louder hit instead of twenty.
+ *
+ * The charging loop and the warnings are not mixed: they are single, stoppable
+ * voices managed by id.
+ */
+public class SoundManager implements LoadingManager.Listener {
+    private static final String BULLET = "sounds/Spaceshipshot.wav";
+    private static final String HIT_ALIEN = "sounds/hitAlien.wav";
+    private static final String HIT_DEAD_ALIEN = "sounds/hitDeadAlien.wav";
+    private static final String BOSS_EXPLOSION = "sounds/boss_explosion.wav";
+    private static final String CHARGING = "sounds/energyGun.wav";
+    private static final String BOSS_WARNING = "sounds/boss_warning.wav";
+    private static final String DARK_LEVEL_WARNING = "sounds/warning.wav";
+    private static final String[] FILES = { BULLET, HIT_ALIEN, HIT_DEAD_ALIEN, BOSS_EXPLOSION, CHARGING,
+            BOSS_WARNING, DARK_LEVEL_WARNING };
+
+    // Mixed effects
+    private static final int FX_BULLET = 0;
+    private static final int FX_HIT_ALIEN = 1;
+    private static final int FX_HIT_DEAD_ALIEN = 2;
+    private static final int FX_BOSS_EXPLOSION = 3;
+    private static final int FX_COUNT = 4;
+    // Per effect: priority (higher may steal lower), concurrent voice cap, and length in
+    // seconds (Sound cannot report when a voice ends, so voices expire by the file length)
+    private static final int[] FX_PRIORITY = { 2, 1, 1, 3 };
+    private static final int[] FX_MAX_VOICES = { 4, 4, 3, 2 };
+    private static final float[] FX_SECONDS = { 1.0f, 1.77f, 1.0f, 6.08f };
+    // Highest priority first, so it gets the first pick of the voices
+    private static final int[] FX_FLUSH_ORDER = { FX_BOSS_EXPLOSION, FX_BULLET, FX_HIT_ALIEN, FX_HIT_DEAD_ALIEN };
 
-public class SoundManager {
     private float volume_sound = 0.5f; // Volume padrão é 1.0 (máximo)
-    private Sound bulletSound;
-    private Sound hitAlienSound;
-    private Sound hitDeadAlienSound;
-    private Sound bossExplosionSound;
+    private final Sound[] fxSounds = new Sound[FX_COUNT];
+
+    // Requests of the current frame, per effect
+    private final int[] pendingCount = new int[FX_COUNT];
+    private final float[] pendingVolume = new float[FX_COUNT];
+
+    // Voices: effect (-1 = free), backend id, start and expected end on the mixer clock
+    private final int[] voiceFx = new int[GameConfig.SOUND_MAX_VOICES];
+    private final long[] voiceId = new long[GameConfig.SOUND_MAX_VOICES];
+    private final float[] voiceStart = new float[GameConfig.SOUND_MAX_VOICES];
+    private final float[] voiceEnd = new float[GameConfig.SOUND_MAX_VOICES];
+    private float mixerTime;
+
+    // Totals since start, for the profiler overlay
+    private int mergedRequests;
+    private int stolenVoices;
+    private int droppedRequests;
 
     // Warning Sounds
     private Sound bossWarningSound;
@@ -27,15 +83,30 @@ public class SoundManager {
     private float warningTargetVolume = 0;
     private boolean isWarningFading = false;
 
-    public void loadSounds() {
-        bulletSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Spaceshipshot.wav"));
-        hitAlienSound = Gdx.audio.newSound(Gdx.files.internal("sounds/hitAlien.wav"));
-        hitDeadAlienSound = Gdx.audio.newSound(Gdx.files.internal("sounds/hitDeadAlien.wav"));
-        bossExplosionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/boss_explosion.wav"));
+    public SoundManager() {
+        java.util.Arrays.fill(voiceFx, -1);
+    }
+
+    public void queueSounds(LoadingManager loading) {
+        for (String file : FILES) {
+            loading.load(Group.GAMEPLAY, file, Sound.class);
+        }
+        loading.addListener(Group.GAMEPLAY, this);
+    }
 
-        loadChargingSound();
-        bossWarningSound = Gdx.audio.newSound(Gdx.files.internal("sounds/boss_warning.wav"));
-        darkLevelWarningSound = Gdx.audio.newSound(Gdx.files.internal("sounds/warning.wav"));
+    @Override
+    public void onAssetsLoaded(Group group, AssetManager assets) {
+        fxSounds[FX_BULLET] = get(assets, BULLET);
+        fxSounds[FX_HIT_ALIEN] = get(assets, HIT_ALIEN);
+        fxSounds[FX_HIT_DEAD_ALIEN] = get(assets, HIT_DEAD_ALIEN);
+        fxSounds[FX_BOSS_EXPLOSION] = get(assets, BOSS_EXPLOSION);
+        chargingSound = get(assets, CHARGING);
+        bossWarningSound = get(assets, BOSS_WARNING);
+        darkLevelWarningSound = get(assets, DARK_LEVEL_WARNING);
+    }
+
+    private static Sound get(AssetManager assets, String file) {
+        return assets.isLoaded(file) ? assets.get(file, Sound.class) : null;
     }
 
     public void initializeVolume() {
@@ -55,8 +126,127 @@ public class SoundManager {
         }
     }
 
-    public void update() {
-        updateWarningFade(Gdx.graphics.getDeltaTime());
+    /** Plays this frame's mixed requests (call once per frame, after the game logic) and runs the fades. */
+    public void update(float delta) {
+        flushMixer(delta);
+        updateWarningFade(delta);
+    }
+
+    // Same-frame requests collapse into one voice; the extra ones only make it louder
+    private void request(int fx) {
+        if (fxSounds[fx] == null || volume_sound <= 0) {
+            return;
+        }
+        if (pendingCount[fx] == 0) {
+            pendingVolume[fx] = volume_sound;
+        } else {
+            pendingVolume[fx] = Math.min(1f, pendingVolume[fx] + volume_sound * GameConfig.SOUND_DEDUP_GAIN);
+        }
+        pendingCount[fx]++;
+    }
+
+    private void flushMixer(float delta) {
+        mixerTime += delta;
+        for (int fx : FX_FLUSH_ORDER) {
+            int count = pendingCount[fx];
+            if (count == 0) {
+                continue;
+            }
+            pendingCount[fx] = 0;
+            mergedRequests += count - 1;
+
+            int voice = findVoice(fx);
+            if (voice < 0) {
+                droppedRequests++;
+                continue;
+            }
+            long id = fxSounds[fx].play(pendingVolume[fx]);
+            if (id == -1) {
+                continue; // Backend out of sources; nothing to track
+            }
+            voiceFx[voice] = fx;
+            voiceId[voice] = id;
+            voiceStart[voice] = mixerTime;
+            voiceEnd[voice] = mixerTime + FX_SECONDS[fx];
+        }
+    }
+
+    /**
+     * A voice slot for the effect: a free one, else the oldest of its own once
+     * at its cap, else the oldest of the lowest priority not above it. Stolen
+     * voices are stopped. -1 when everything playing outranks the effect.
+     */
+    private int findVoice(int fx) {
+        int free = -1;
+        int own = 0;
+        int oldestOwn = -1;
+        int victim = -1;
+        for (int v = 0; v < voiceFx.length; v++) {
+            if (voiceFx[v] >= 0 && voiceEnd[v] <= mixerTime) {
+                voiceFx[v] = -1; // Finished on its own
+            }
+            int playing = voiceFx[v];
+            if (playing < 0) {
+                if (free < 0) {
+                    free = v;
+                }
+                continue;
+            }
+            if (playing == fx) {
+                own++;
+                if (oldestOwn < 0 || voiceStart[v] < voiceStart[oldestOwn]) {
+                    oldestOwn = v;
+                }
+            }
+            if (FX_PRIORITY[playing] <= FX_PRIORITY[fx] && (victim < 0
+                    || FX_PRIORITY[playing] < FX_PRIORITY[voiceFx[victim]]
+                    || (FX_PRIORITY[playing] == FX_PRIORITY[voiceFx[victim]] && voiceStart[v] < voiceStart[victim]))) {
+                victim = v;
+            }
+        }
+        if (own >= FX_MAX_VOICES[fx]) {
+            stopVoice(oldestOwn);
+            return oldestOwn;
+        }
+        if (free >= 0) {
+            return free;
+        }
+        if (victim >= 0) {
+            stopVoice(victim);
+        }
+        return victim;
+    }
+
+    private void stopVoice(int voice) {
+        fxSounds[voiceFx[voice]].stop(voiceId[voice]);
+        voiceFx[voice] = -1;
+        stolenVoices++;
+    }
+
+    /** Mixed voices still playing. */
+    public int getActiveVoices() {
+        int active = 0;
+        for (int v = 0; v < voiceFx.length; v++) {
+            if (voiceFx[v] >= 0 && voiceEnd[v] > mixerTime) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /** Requests folded into another one of the same frame, since start. */
+    public int getMergedRequests() {
+        return mergedRequests;
+    }
+
+    /** Voices cut short to make room for another, since start. */
+    public int getStolenVoices() {
+        return stolenVoices;
+    }
+
+    /** Requests dropped because every voice outranked them, since start. */
+    public int getDroppedRequests() {
+        return droppedRequests;
     }
 
     public void playBossWarningSound() {
@@ -140,32 +330,26 @@ public class SoundManager {
         return this.volume_sound;
     }
 
+    // Mixed: played by the next update()
     public void playBulletSound() {
-        bulletSound.play(volume_sound);
+        request(FX_BULLET);
     }
 
     public void playAlienHitSound() {
-        hitAlienSound.play(volume_sound);
+        request(FX_HIT_ALIEN);
     }
 
     public void playDeadAlienHitSound() {
-        hitDeadAlienSound.play(volume_sound);
+        request(FX_HIT_DEAD_ALIEN);
     }
 
     public void playBossExplosionSound() {
-        if (bossExplosionSound != null) {
-            bossExplosionSound.play(volume_sound);
-        }
-    }
-
-    public void loadChargingSound() {
-        chargingSound = Gdx.audio.newSound(Gdx.files.internal("sounds/energyGun.wav"));
+        request(FX_BOSS_EXPLOSION);
     }
 
     public void playChargingSound() {
         if (chargingSound == null) {
-            // Should have been loaded, but load just in case
-            loadChargingSound();
+            return;
         }
         // Stop any previous instances to ensure we don't layer them
         chargingSound.stop();
@@ -180,16 +364,14 @@ public class SoundManager {
     }
 
     public void dispose() {
-        bulletSound.dispose();
-        hitAlienSound.dispose();
-        hitDeadAlienSound.dispose();
-        if (bossExplosionSound != null)
-            bossExplosionSound.dispose();
-        if (bossWarningSound != null)
-            bossWarningSound.dispose();
-        if (darkLevelWarningSound != null)
-            darkLevelWarningSound.dispose();
-        if (chargingSound != null)
-            chargingSound.dispose();
+        // The sounds belong to the LoadingManager; just silence what is playing
+        stopChargingSound();
+        stopDarkLevelWarningSound();
+        for (int v = 0; v < voiceFx.length; v++) {
+            if (voiceFx[v] >= 0) {
+                fxSounds[voiceFx[v]].stop(voiceId[v]);
+                voiceFx[v] = -1;
+            }
+        }
     }
 }
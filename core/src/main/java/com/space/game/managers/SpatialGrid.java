@@ -0,0 +1,135 @@
+package com.space.game.managers;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Uniform grid broadphase used by the CollisionSystem.
+ * Entries are stored by index (e.g. dense index in the EntityWorld) so the grid
+ * itself never holds entity references and can be rebuilt every frame without
+ * allocating.
+ *
+ * Coordinates outside the covered area are clamped into the border cells, so
+ * anything off-screen still ends up in the grid (just in a more crowded cell).
+ */
+public class SpatialGrid {
+    private float originX, originY;
+    private float cellSize;
+    private int cols, rows;
+    private IntArray[] cells = new IntArray[0];
+
+    // Only the cells touched since the last clear() need to be emptied
+    private final IntArray dirtyCells = new IntArray();
+
+    // Query de-duplication: an id is accepted once per query stamp
+    private int[] idStamps = new int[64];
+    private int queryStamp = 0;
+    private final IntArray queryResult = new IntArray();
+
+    /**
+     * (Re)defines the covered area. Cheap to call every frame: storage is
+     * only reallocated when the cell count actually grows.
+     */
+    public void setBounds(float minX, float minY, float width, float height, float cellSize) {
+        this.originX = minX;
+        this.originY = minY;
+        this.cellSize = Math.max(1f, cellSize);
+        int newCols = Math.max(1, (int) Math.ceil(width / this.cellSize));
+        int newRows = Math.max(1, (int) Math.ceil(height / this.cellSize));
+
+        if (newCols != cols || newRows != rows) {
+            clear();
+            cols = newCols;
+            rows = newRows;
+            if (cells.length < cols * rows) {
+                IntArray[] grown = new IntArray[cols * rows];
+                System.arraycopy(cells, 0, grown, 0, cells.length);
+                for (int i = cells.length; i < grown.length; i++) {
+                    grown[i] = new IntArray(false, 8);
+                }
+                cells = grown;
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < dirtyCells.size; i++) {
+            cells[dirtyCells.get(i)].clear();
+        }
+        dirtyCells.clear();
+    }
+
+    public void insert(int id, Rectangle bounds) {
+        insert(id, bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /** Same as {@link #insert(int, Rectangle)}, for callers keeping bounds in plain arrays. */
+    public void insert(int id, float x, float y, float width, float height) {
+        int minCol = cellX(x);
+        int maxCol = cellX(x + width);
+        int minRow = cellY(y);
+        int maxRow = cellY(y + height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int index = row * cols + col;
+                IntArray cell = cells[index];
+                if (cell.size == 0) {
+                    dirtyCells.add(index);
+                }
+                cell.add(id);
+            }
+        }
+    }
+
+    /**
+     * Collects every id stored in the cells overlapped by the given bounds.
+     * The result is sorted ascending and free of duplicates, so callers
+     * iterating it see entries in the same order as the source list.
+     * The returned array is reused by the next query.
+     */
+    public IntArray query(Rectangle bounds) {
+        queryResult.clear();
+        queryStamp++;
+        if (queryStamp == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(idStamps, 0);
+            queryStamp = 1;
+        }
+
+        int minCol = cellX(bounds.x);
+        int maxCol = cellX(bounds.x + bounds.width);
+        int minRow = cellY(bounds.y);
+        int maxRow = cellY(bounds.y + bounds.height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                IntArray cell = cells[row * cols + col];
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.get(i);
+                    if (id >= idStamps.length) {
+                        int[] grown = new int[Math.max(id + 1, idStamps.length * 2)];
+                        System.arraycopy(idStamps, 0, grown, 0, idStamps.length);
+                        idStamps = grown;
+                    }
+                    if (idStamps[id] != queryStamp) {
+                        idStamps[id] = queryStamp;
+                        queryResult.add(id);
+                    }
+                }
+            }
+        }
+
+        queryResult.sort();
+        return queryResult;
+    }
+
+    private int cellX(float x) {
+        int col = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int cellY(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+}
@@ -9,7 +9,9 @@ import com.space.game.entities.Spaceship;
 import com.badlogic.gdx.Gdx;
 import java.util.List;
 import com.space.game.ui.HudRenderer;
+import com.space.game.ui.HudText;
 import com.space.game.ui.MenuRenderer;
+import com.space.game.ui.ProfilerOverlay;
 import com.space.game.Game;
 
 public class UIManager {
@@ -41,6 +43,14 @@ public class UIManager {
 
     private HudRenderer hudRenderer;
     private MenuRenderer menuRenderer;
+    private ProfilerOverlay profilerOverlay;
+
+    // Boss overlays, laid out once per text/scale instead of every frame
+    private HudText bossWarningTitle;
+    private HudText bossWarningSubtitle;
+    private HudText bossDefeatedTitle;
+    private HudText bossRewardLabel;
+    private HudText loadingLabel;
 
     public UIManager(Game game, SpriteBatch batch) {
         this.game = game;
@@ -54,6 +64,13 @@ public class UIManager {
 
         this.hudRenderer = new HudRenderer(game, batch, font30);
         this.menuRenderer = new MenuRenderer(game, batch, font30, font100, font150);
+        this.profilerOverlay = new ProfilerOverlay(game, batch, font30);
+
+        this.bossWarningTitle = new HudText(font100);
+        this.bossWarningSubtitle = new HudText(font30);
+        this.bossDefeatedTitle = new HudText(font100);
+        this.bossRewardLabel = new HudText(font30);
+        this.loadingLabel = new HudText(font30);
     }
 
     private void initializeFonts() {
@@ -91,6 +108,10 @@ public class UIManager {
         }
     }
 
+    public void displayProfiler(ProfilerManager profiler) {
+        profilerOverlay.render(profiler, getScaleFactor() * 0.6f);
+    }
+
     public void update(float dt) {
         scoreQueue.update(dt);
         energyQueue.update(dt);
@@ -190,7 +211,7 @@ public class UIManager {
 
     private void drawHud(Spaceship spaceship, float xOffset) {
         // Update Feedback Queues
-        update(Gdx.graphics.getDeltaTime());
+        update(game.getClock().getFrameDelta());
 
         // Use HudRenderer
         hudRenderer.render(spaceship, xOffset, hordas, scoreQueue, energyQueue);
@@ -199,64 +220,40 @@ public class UIManager {
 
         // Boss Warning Overlay (Still here for now or move to MessageRenderer)
         if (bossWarningTimer > 0) {
-            bossWarningTimer -= Gdx.graphics.getDeltaTime();
+            bossWarningTimer -= game.getClock().getFrameDelta();
             float alpha = (float) Math.abs(Math.sin(bossWarningTimer * 5)); // Blink
 
-            font100.getData().setScale(scale);
-            font30.getData().setScale(scale);
-
-            String warningTitle = "WARNING";
-            GlyphLayout warnLayout = new GlyphLayout(font100, warningTitle);
-            float warnX = game.getWorldWidth() / 2 - warnLayout.width / 2;
+            bossWarningTitle.setText("WARNING", scale).setColor(1, 0, 0, alpha);
+            float warnX = game.getWorldWidth() / 2 - bossWarningTitle.getWidth() / 2;
 
             // Adjusted to match Dark Level Warning Height
             // float warnY = game.getWorldHeight() / 1.5f; // Old
-            float warnY = game.getWorldHeight() / 1.1f + warnLayout.height; // New
-
-            font100.setColor(1, 0, 0, alpha);
-            font100.draw(batch, warningTitle, warnX, warnY);
-
-            String subText = "MASSIVE SIGNAL DETECTED";
-            GlyphLayout subLayout = new GlyphLayout(font30, subText);
-            float subX = game.getWorldWidth() / 2 - subLayout.width / 2;
-            float subY = warnY - warnLayout.height - (20 * scale);
+            float warnY = game.getWorldHeight() / 1.1f + bossWarningTitle.getHeight(); // New
+            bossWarningTitle.draw(batch, warnX, warnY);
 
-            font30.setColor(1, 0, 0, alpha);
-            font30.draw(batch, subText, subX, subY);
-
-            font100.setColor(Color.WHITE); // Reset
-            font30.setColor(Color.WHITE);
+            bossWarningSubtitle.setText("MASSIVE SIGNAL DETECTED", scale).setColor(1, 0, 0, alpha);
+            float subX = game.getWorldWidth() / 2 - bossWarningSubtitle.getWidth() / 2;
+            float subY = warnY - bossWarningTitle.getHeight() - (20 * scale);
+            bossWarningSubtitle.draw(batch, subX, subY);
         }
 
         // Boss Defeated Overlay
         if (bossDefeatedTimer > 0) {
-            bossDefeatedTimer -= Gdx.graphics.getDeltaTime();
+            bossDefeatedTimer -= game.getClock().getFrameDelta();
             float alpha = Math.min(1.0f, bossDefeatedTimer); // Fade out last second? Or just solid.
 
-            font100.getData().setScale(scale * 0.8f);
-            font30.getData().setScale(scale);
-
-            String title = "TARGET DESTROYED";
-            GlyphLayout layout = new GlyphLayout(font100, title);
-            float x = game.getWorldWidth() / 2 - layout.width / 2;
+            bossDefeatedTitle.setText("TARGET DESTROYED", scale * 0.8f).setColor(1, 0.5f, 0, alpha); // Orange/Gold
+            float x = game.getWorldWidth() / 2 - bossDefeatedTitle.getWidth() / 2;
             // Move to Top (Same as Warning position roughly)
-            float y = game.getWorldHeight() / 1.1f + layout.height;
-
-            font100.setColor(1, 0.5f, 0, alpha); // Orange/Gold
-            font100.draw(batch, title, x, y);
+            float y = game.getWorldHeight() / 1.1f + bossDefeatedTitle.getHeight();
+            bossDefeatedTitle.draw(batch, x, y);
 
             if (bossRewardText != null && !bossRewardText.isEmpty()) {
-                font30.getData().setScale(scale);
-                GlyphLayout rewardLayout = new GlyphLayout(font30, bossRewardText);
-                float rx = game.getWorldWidth() / 2 - rewardLayout.width / 2;
-                float ry = y - layout.height - (30 * scale);
-
-                font30.setColor(1, 0.84f, 0, alpha); // Gold color
-                font30.draw(batch, bossRewardText, rx, ry);
-                font30.setColor(Color.WHITE);
+                bossRewardLabel.setText(bossRewardText, scale).setColor(1, 0.84f, 0, alpha); // Gold color
+                float rx = game.getWorldWidth() / 2 - bossRewardLabel.getWidth() / 2;
+                float ry = y - bossDefeatedTitle.getHeight() - (30 * scale);
+                bossRewardLabel.draw(batch, rx, ry);
             }
-
-            font100.setColor(Color.WHITE);
         }
     }
 
@@ -744,8 +741,18 @@ public class UIManager {
         font150.dispose();
     }
 
-    public void displayIntro() {
+    /**
+     * Intro screen: loading progress until the menu's assets are in, then the
+     * blinking prompt.
+     */
+    public void displayIntro(float progress, boolean ready) {
         float scale = getScaleFactor();
+        if (!ready) {
+            loadingLabel.setNumber("Loading ", (long) (progress * 100), "%", scale);
+            loadingLabel.draw(batch, game.getWorldWidth() / 2 - loadingLabel.getWidth() / 2,
+                    game.getWorldHeight() / 2 + loadingLabel.getHeight() / 2);
+            return;
+        }
         font30.getData().setScale(scale);
 
         String pressKeyText = "Press any key to start";
@@ -86,7 +86,7 @@ public class GameOverState implements GameStateInterface {
             updateInputUI();
         } else {
             // uiManager.displayGameOverInfo is moved to renderUI
-            gameoverTimer += Gdx.graphics.getDeltaTime();
+            gameoverTimer += com.space.game.SpaceGame.getGame().getClock().getFrameDelta();
             if (gameoverTimer >= TIME_TO_GAMEOVER) {
                 gameoverTimer = TIME_TO_GAMEOVER;
             }
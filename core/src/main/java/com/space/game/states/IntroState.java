@@ -5,16 +5,19 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.space.game.managers.GameStateManager;
 import com.space.game.managers.GameStateManager.State;
+import com.space.game.managers.LoadingManager;
 import com.space.game.managers.UIManager;
 
 public class IntroState implements GameStateInterface {
 
   private GameStateManager gsm;
   private UIManager uiManager;
+  private LoadingManager loading;
 
-  public IntroState(GameStateManager gsm, UIManager uiManager) {
+  public IntroState(GameStateManager gsm, UIManager uiManager, LoadingManager loading) {
     this.gsm = gsm;
     this.uiManager = uiManager;
+    this.loading = loading;
   }
 
   @Override
@@ -26,6 +29,11 @@ public class IntroState implements GameStateInterface {
   public void update(SpriteBatch batch) {
     // uiManager.displayIntro(); // Moved to renderUI
 
+    // Assets stream in from Game.render; the menu needs its own group first
+    if (!loading.isReady(LoadingManager.Group.MENU)) {
+      return;
+    }
+
     if (Gdx.input.isKeyJustPressed(Input.Keys.ANY_KEY) || Gdx.input.justTouched()) {
       gsm.setState(State.MENU);
     }
@@ -38,7 +46,7 @@ public class IntroState implements GameStateInterface {
 
   @Override
   public void renderUI(SpriteBatch batch) {
-    uiManager.displayIntro();
+    uiManager.displayIntro(loading.getProgress(), loading.isReady(LoadingManager.Group.MENU));
   }
 
   @Override
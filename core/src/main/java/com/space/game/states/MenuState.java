@@ -43,7 +43,7 @@ public class MenuState implements GameStateInterface {
 
     @Override
     public void update(SpriteBatch batch) {
-        stateTimer += Gdx.graphics.getDeltaTime();
+        stateTimer += com.space.game.SpaceGame.getGame().getClock().getFrameDelta();
 
         if (isPlaying) {
             // Display moved to renderUI
@@ -145,7 +145,7 @@ public class PausedState implements GameStateInterface {
 
                 musicManager.playMusic();
                 mapManager.reset();
-                mapManager.loadLevel(1);
+                mapManager.startRun();
                 gsm.setState(State.PLAYING);
                 break;
             case 2: // Settings
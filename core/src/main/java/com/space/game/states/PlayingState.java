@@ -6,23 +6,31 @@ import com.space.game.managers.GameStateManager.State;
 import com.space.game.managers.MapManager;
 import com.space.game.managers.UIManager;
 import com.space.game.Game;
+import com.space.game.GameClock;
 
 public class PlayingState implements GameStateInterface {
 
     private UIManager uiManager;
     private MapManager mapManager;
+    private GameStateManager gsm;
+    private GameClock clock;
 
     public PlayingState(Game game, GameStateManager gsm, UIManager uiManager) {
         this.uiManager = uiManager;
         this.mapManager = game.getMapManager();
+        this.gsm = gsm;
+        this.clock = game.getClock();
 
     }
 
     @Override
     public void enter() {
+        // Don't simulate the time spent in menus/pause
+        clock.reset();
+
         if (this.mapManager.getSpaceship() == null) {
             System.out.println("Loading level 1");
-            this.mapManager.loadLevel(1);
+            this.mapManager.startRun();
             uiManager.resetFeedback();
             com.space.game.SpaceGame.getGame().getMusicManager().playMusic();
         }
@@ -30,7 +38,11 @@ public class PlayingState implements GameStateInterface {
 
     @Override
     public void update(SpriteBatch batch) {
-        mapManager.update();
+        // Fixed-step simulation; stop early if a tick ends the run (game over) or pauses it
+        int steps = clock.advance();
+        for (int i = 0; i < steps && gsm.getState() == State.PLAYING; i++) {
+            mapManager.update(clock.getStep());
+        }
         mapManager.render(batch);
     }
 
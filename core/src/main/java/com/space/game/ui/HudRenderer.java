@@ -2,7 +2,6 @@ package com.space.game.ui;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.space.game.Game;
 import com.space.game.entities.Spaceship;
@@ -14,17 +13,30 @@ public class HudRenderer {
   private BitmapFont font30;
   private Color cian_color = new Color(0.0f, 1.0f, 1.0f, 1.0f);
 
+  // Cached labels: glyphs are rebuilt only when the value shown (or the scale) changes
+  private final HudText energyText;
+  private final HudText waveText;
+  private final HudText musicText;
+  private final HudText scoreText;
+  private final HudText streakText;
+  private final HudText bossText;
+
   public HudRenderer(Game game, SpriteBatch batch, BitmapFont font30) {
     this.game = game;
     this.batch = batch;
     this.font30 = font30;
+
+    energyText = new HudText(font30);
+    waveText = new HudText(font30).setColor(cian_color);
+    musicText = new HudText(font30).setColor(cian_color);
+    scoreText = new HudText(font30).setColor(cian_color);
+    streakText = new HudText(font30).setColor(cian_color);
+    bossText = new HudText(font30).setColor(Color.RED);
   }
 
   public void render(Spaceship spaceship, float xOffset, int hordas, FeedbackQueue scoreQueue,
       FeedbackQueue energyQueue) {
     float scale = getScaleFactor();
-    font30.getData().setScale(scale);
-    font30.setColor(cian_color);
 
     // Energy (Bottom Left)
     renderEnergy(spaceship, xOffset, scale, energyQueue);
@@ -53,85 +65,68 @@ public class HudRenderer {
       if (alienManager != null) {
         com.space.game.entities.Alien boss = alienManager.getBossAlien();
         if (boss != null && !boss.isDead() && boss.getHp() > 0) {
-          String bossText = "BOSS HP: " + boss.getHp() + " / " + boss.getMaxHp();
-          GlyphLayout layout = new GlyphLayout(font30, bossText);
-          float x = game.getWorldWidth() / 2 - layout.width / 2;
+          bossText.setPair("BOSS HP: ", boss.getHp(), " / ", boss.getMaxHp(), scale);
+          float x = game.getWorldWidth() / 2 - bossText.getWidth() / 2;
           float y = game.getWorldHeight() - (80 * scale); // Below top margin
-
-          font30.setColor(Color.RED);
-          font30.draw(batch, bossText, x, y);
-          font30.setColor(cian_color); // Reset
+          bossText.draw(batch, x, y);
         }
       }
     }
   }
 
   private void renderEnergy(Spaceship spaceship, float xOffset, float scale, FeedbackQueue energyQueue) {
-    if (spaceship.getEnergy() <= 10.0f) {
-      font30.setColor(Color.RED);
-    } else {
-      font30.setColor(cian_color);
-    }
-    String energyText = formatEnergy(spaceship.getEnergy());
-    GlyphLayout energyLayout = new GlyphLayout(font30, energyText);
+    energyText.setColor(spaceship.getEnergy() <= 10.0f ? Color.RED : cian_color);
+    energyText.setHundredths("ENERGY: ", (int) (spaceship.getEnergy() * 100), "%", scale);
     float energy_x = xOffset + (game.getWorldWidth() / 21);
-    float energy_y = energyLayout.height / 2 + energyLayout.height;
-    font30.draw(batch, energyText, energy_x, energy_y);
+    float energy_y = energyText.getHeight() / 2 + energyText.getHeight();
+    energyText.draw(batch, energy_x, energy_y);
 
     // Feedback
-    font30.getData().setScale(scale * 0.85f);
-    energyQueue.render(batch, font30, energy_x, energy_y + (50 * scale), true);
-    font30.getData().setScale(scale);
-    font30.setColor(cian_color);
+    renderFeedback(energyQueue, energy_x, energy_y + (50 * scale), true, scale);
   }
 
   private void renderWave(int hordas, float scale) {
-    String hordasText = "WAVE: " + hordas;
-    GlyphLayout hordasLayout = new GlyphLayout(font30, hordasText);
-    float hordas_x = (21 - 1) * (game.getWorldWidth() / 21) - hordasLayout.width;
-    float hordas_y = hordasLayout.height / 2 + hordasLayout.height;
-    font30.draw(batch, hordasText, hordas_x, hordas_y);
+    waveText.setNumber("WAVE: ", hordas, scale);
+    float hordas_x = (21 - 1) * (game.getWorldWidth() / 21) - waveText.getWidth();
+    float hordas_y = waveText.getHeight() / 2 + waveText.getHeight();
+    waveText.draw(batch, hordas_x, hordas_y);
   }
 
   private void renderMusicInfo(float scale) {
-    String musicText = game.getMusicManager().getCurrentTrackName();
-    if (musicText != null && !musicText.isEmpty()) {
-      GlyphLayout musicLayout = new GlyphLayout(font30, musicText);
-      float music_x = game.getWorldWidth() / 2 - musicLayout.width / 2;
-      float music_y = musicLayout.height / 2 + musicLayout.height;
-      font30.setColor(cian_color);
-      font30.draw(batch, musicText, music_x, music_y);
+    musicText.setText(game.getMusicManager().getCurrentTrackName(), scale);
+    if (!musicText.isEmpty()) {
+      float music_x = game.getWorldWidth() / 2 - musicText.getWidth() / 2;
+      float music_y = musicText.getHeight() / 2 + musicText.getHeight();
+      musicText.draw(batch, music_x, music_y);
     }
   }
 
   private void renderScore(Spaceship spaceship, float xOffset, float scale, FeedbackQueue scoreQueue) {
-    String killsText = "SCORE: " + (spaceship.getKillCount());
-    GlyphLayout killsLayout = new GlyphLayout(font30, killsText);
+    scoreText.setNumber("SCORE: ", spaceship.getKillCount(), scale);
     float kills_x = xOffset + (game.getWorldWidth() / 21);
-    float kills_y = game.getWorldHeight() - killsLayout.height;
-    font30.draw(batch, killsText, kills_x, kills_y);
+    float kills_y = game.getWorldHeight() - scoreText.getHeight();
+    scoreText.draw(batch, kills_x, kills_y);
 
     // Feedback
-    font30.getData().setScale(scale * 0.85f);
-    scoreQueue.render(batch, font30, kills_x, kills_y - (50 * scale), false);
-    font30.getData().setScale(scale);
-    font30.setColor(cian_color);
+    renderFeedback(scoreQueue, kills_x, kills_y - (50 * scale), false, scale);
   }
 
   private void renderStreak(Spaceship spaceship, float scale) {
-    String streakText = "STREAK: x" + spaceship.getStreakCount();
-    GlyphLayout streakLayout = new GlyphLayout(font30, streakText);
-    float streak_x = (21 - 1) * (game.getWorldWidth() / 21) - streakLayout.width;
-    float streak_y = game.getWorldHeight() - streakLayout.height;
-    font30.draw(batch, streakText, streak_x, streak_y);
+    streakText.setNumber("STREAK: x", spaceship.getStreakCount(), scale);
+    float streak_x = (21 - 1) * (game.getWorldWidth() / 21) - streakText.getWidth();
+    float streak_y = game.getWorldHeight() - streakText.getHeight();
+    streakText.draw(batch, streak_x, streak_y);
   }
 
-  private String formatEnergy(float energy) {
-    int val = (int) (energy * 100);
-    int intPart = val / 100;
-    int decPart = val % 100;
-    String decStr = decPart < 10 ? "0" + decPart : "" + decPart;
-    return "ENERGY: " + intPart + "." + decStr + "%";
+  // Feedback messages are short-lived, so they still draw through the font itself
+  private void renderFeedback(FeedbackQueue queue, float x, float y, boolean upwards, float scale) {
+    if (queue.isEmpty()) {
+      return;
+    }
+    font30.getData().setScale(scale * 0.85f);
+    queue.render(batch, font30, x, y, upwards);
+    font30.getData().setScale(scale);
+    font30.setColor(cian_color);
   }
 
   private float getScaleFactor() {
@@ -0,0 +1,141 @@
+package com.space.game.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * A HUD label laid out once into its own BitmapFontCache.
+ *
+ * The glyphs are only rebuilt when the label's key (usually the number it
+ * shows) or the scale changes; every other frame just moves, tints and draws
+ * the cached vertices, so drawing a label allocates nothing.
+ *
+ * Numbers are written into a reused StringBuilder, never through String
+ * concatenation.
+ */
+public class HudText {
+  private final BitmapFont font;
+  private final BitmapFontCache cache;
+  private final StringBuilder text = new StringBuilder(32);
+
+  private boolean laidOut;
+  private long key;
+  private float scale;
+  private String staticText; // set while showing setText content, null for numbers
+  private float width;
+  private float height;
+  private final Color color = new Color(Color.WHITE);
+
+  public HudText(BitmapFont font) {
+    this.font = font;
+    this.cache = font.newFontCache();
+  }
+
+  /** "PREFIX123", re-laid out only when value or scale changes. */
+  public HudText setNumber(String prefix, long value, float scale) {
+    return setNumber(prefix, value, "", scale);
+  }
+
+  /** "PREFIX123SUFFIX". */
+  public HudText setNumber(String prefix, long value, String suffix, float scale) {
+    if (isStale(value, scale)) {
+      text.setLength(0);
+      text.append(prefix).append(value).append(suffix);
+      layout(value, scale, null);
+    }
+    return this;
+  }
+
+  /** "PREFIX12.34SUFFIX" from a value in hundredths. */
+  public HudText setHundredths(String prefix, long hundredths, String suffix, float scale) {
+    if (isStale(hundredths, scale)) {
+      text.setLength(0);
+      text.append(prefix).append(hundredths / 100).append('.');
+      long fraction = Math.abs(hundredths % 100);
+      if (fraction < 10) {
+        text.append('0');
+      }
+      text.append(fraction).append(suffix);
+      layout(hundredths, scale, null);
+    }
+    return this;
+  }
+
+  /** "PREFIXaSEPARATORb", e.g. a current / maximum pair. */
+  public HudText setPair(String prefix, int a, String separator, int b, float scale) {
+    long pair = ((long) a << 32) | (b & 0xffffffffL);
+    if (isStale(pair, scale)) {
+      text.setLength(0);
+      text.append(prefix).append(a).append(separator).append(b);
+      layout(pair, scale, null);
+    }
+    return this;
+  }
+
+  /** Text that rarely changes (titles, track names); compared by content, not laid out again. */
+  public HudText setText(String value, float scale) {
+    String current = value != null ? value : "";
+    boolean same = current == staticText || current.equals(staticText);
+    if (!same || !laidOut || scale != this.scale) {
+      text.setLength(0);
+      text.append(current);
+      layout(0, scale, current);
+    }
+    return this;
+  }
+
+  private boolean isStale(long key, float scale) {
+    return !laidOut || staticText != null || key != this.key || scale != this.scale;
+  }
+
+  private void layout(long key, float scale, String staticText) {
+    // The cache bakes the font scale into its vertices; restore it for whoever draws with the font next
+    float previousX = font.getData().scaleX;
+    float previousY = font.getData().scaleY;
+    font.getData().setScale(scale);
+    cache.setColor(color);
+    GlyphLayout layout = cache.setText(text, 0, 0);
+    width = layout.width;
+    height = layout.height;
+    font.getData().setScale(previousX, previousY);
+
+    this.key = key;
+    this.scale = scale;
+    this.staticText = staticText;
+    laidOut = true;
+  }
+
+  public HudText setColor(Color color) {
+    return setColor(color.r, color.g, color.b, color.a);
+  }
+
+  /** Recolors the cached glyphs in place (only when the color actually changes). */
+  public HudText setColor(float r, float g, float b, float a) {
+    if (color.r != r || color.g != g || color.b != b || color.a != a) {
+      color.set(r, g, b, a);
+      cache.setColor(color);
+      cache.setColors(color);
+    }
+    return this;
+  }
+
+  public void draw(SpriteBatch batch, float x, float y) {
+    cache.setPosition(x, y);
+    cache.draw(batch);
+  }
+
+  public float getWidth() {
+    return width;
+  }
+
+  public float getHeight() {
+    return height;
+  }
+
+  public boolean isEmpty() {
+    return text.length() == 0;
+  }
+}
@@ -0,0 +1,110 @@
+package com.space.game.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.space.game.Game;
+import com.space.game.managers.ProfilerManager;
+import com.space.game.managers.ProfilerManager.Section;
+
+/**
+ * Debug overlay (F3): rolling p50/p99 per subsystem in milliseconds, draw
+ * calls, texture binds, sound voices and heap. Text is built in a reused StringBuilder.
+ */
+public class ProfilerOverlay {
+  private static final Section[] SECTIONS = Section.values();
+
+  private Game game;
+  private SpriteBatch batch;
+  private BitmapFont font;
+  private final StringBuilder text = new StringBuilder(64);
+
+  public ProfilerOverlay(Game game, SpriteBatch batch, BitmapFont font) {
+    this.game = game;
+    this.batch = batch;
+    this.font = font;
+  }
+
+  public void render(ProfilerManager profiler, float scale) {
+    font.getData().setScale(scale);
+    font.setColor(Color.WHITE);
+    float lineHeight = font.getLineHeight();
+    float x = 10 * scale;
+    float y = game.getWorldHeight() - 10 * scale;
+    float p50X = x + 260 * scale;
+    float p99X = x + 380 * scale;
+
+    font.draw(batch, "SECTION", x, y);
+    font.draw(batch, "P50 MS", p50X, y);
+    font.draw(batch, "P99 MS", p99X, y);
+    for (Section section : SECTIONS) {
+      y -= lineHeight;
+      font.draw(batch, section.label, x + section.depth * 20 * scale, y);
+      text.setLength(0);
+      appendTwoDecimals(profiler.getP50Nanos(section));
+      font.draw(batch, text, p50X, y);
+      text.setLength(0);
+      appendTwoDecimals(profiler.getP99Nanos(section));
+      font.draw(batch, text, p99X, y);
+    }
+
+    y -= lineHeight;
+    text.setLength(0);
+    text.append("DRAW CALLS ").append(profiler.getDrawCalls());
+    text.append("  TEXTURE BINDS ").append(profiler.getTextureBindings());
+    text.append("  SORT SAVED ").append(game.getRenderQueue().getDrawCallsSaved());
+    font.draw(batch, text, x, y);
+
+    // Background layers: strategy, quads and fill in screens (F5 switches strategy)
+    com.space.game.managers.BackgroundManager background = game.getBackground();
+    y -= lineHeight;
+    text.setLength(0);
+    text.append("BG ").append(background.getLayerMode().name());
+    text.append("  QUADS ").append(background.getLayerQuads());
+    text.append("  FILL ");
+    appendTwoDecimals((long) (background.getLayerCoverage() * 1000000L));
+    text.append('x');
+    font.draw(batch, text, x, y);
+
+    // Dynamic resolution: current level, render scale and what the controller last decided
+    com.space.game.managers.DynamicResolutionManager resolution = game.getResolution();
+    y -= lineHeight;
+    text.setLength(0);
+    text.append("RES L").append(resolution.getLevel());
+    text.append("  SCALE ").append(Math.round(resolution.getRenderScale() * 100)).append('%');
+    text.append("  FRAME ");
+    appendTwoDecimals((long) (resolution.getAverageFrameSeconds() * 1000000000L));
+    text.append("  WORK ");
+    appendTwoDecimals((long) (resolution.getAverageWorkSeconds() * 1000000000L));
+    text.append("  ").append(resolution.getLastDecision().name());
+    font.draw(batch, text, x, y);
+
+    // Sound mixer: voices playing, and requests merged, stolen or dropped since start
+    com.space.game.managers.SoundManager sound = game.getSoundManager();
+    y -= lineHeight;
+    text.setLength(0);
+    text.append("AUDIO VOICES ").append(sound.getActiveVoices()).append('/')
+        .append(com.space.game.config.GameConfig.SOUND_MAX_VOICES);
+    text.append("  MERGED ").append(sound.getMergedRequests());
+    text.append("  STOLEN ").append(sound.getStolenVoices());
+    text.append("  DROPPED ").append(sound.getDroppedRequests());
+    font.draw(batch, text, x, y);
+
+    y -= lineHeight;
+    text.setLength(0);
+    text.append("HEAP ").append(profiler.getHeapBytes() / (1024 * 1024)).append(" MB");
+    text.append("  GC ").append(profiler.getHeapDrops());
+    font.draw(batch, text, x, y);
+  }
+
+  // Value given in millionths (ns for ms), printed with two decimals; String.format is not on GWT
+  private void appendTwoDecimals(long millionths) {
+    long hundredths = millionths / 10000;
+    text.append(hundredths / 100).append('.');
+    long fraction = hundredths % 100;
+    if (fraction < 10) {
+      text.append('0');
+    }
+    text.append(fraction);
+  }
+}
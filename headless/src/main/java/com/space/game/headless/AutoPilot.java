@@ -0,0 +1,107 @@
+package com.space.game.headless;
+
+import java.util.List;
+
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.space.game.entities.Alien;
+import com.space.game.entities.Spaceship;
+import com.space.game.levels.DynamicLevel;
+import com.space.game.managers.InputManager;
+
+/**
+ * Plays the game through the level's InputManager, exactly like a player on
+ * the keyboard would: turn towards the closest alien, tap fire once lined up.
+ * Good enough to clear early waves and keep the collision and spawn code
+ * busy; it is not meant to be clever.
+ */
+class AutoPilot {
+    // Stop turning when within this many degrees of the target
+    private static final float AIM_TOLERANCE = 2f;
+    // Fire when within this many degrees of the target
+    private static final float FIRE_TOLERANCE = 6f;
+    // Seconds between shots (normal shots are a tap: press + release)
+    private static final float FIRE_INTERVAL = 0.18f;
+
+    private InputManager input;
+    private int heldTurnKey = -1;
+    private float fireCooldown;
+    // Ship centre for this tick; a field so the harness adds no garbage of its own to the run
+    private final Vector2 center = new Vector2();
+
+    public void update(DynamicLevel level, float delta) {
+        if (level.getInputManager() != input) {
+            // New level, new InputManager: nothing is held on it yet
+            input = level.getInputManager();
+            heldTurnKey = -1;
+            fireCooldown = 0;
+        }
+
+        Spaceship spaceship = level.getSpaceship();
+        if (spaceship == null || spaceship.isDead()) {
+            holdTurnKey(-1);
+            return;
+        }
+
+        center.set(spaceship.getVisualCenter());
+        Alien target = findClosest(level.getAlienManager().getAliens(), center);
+        if (target == null) {
+            holdTurnKey(-1);
+            return;
+        }
+
+        Rectangle bounds = target.getBounds();
+        float dx = bounds.x + bounds.width / 2f - center.x;
+        float dy = bounds.y + bounds.height / 2f - center.y;
+        // Ship angle 0 points up
+        float desired = MathUtils.atan2(dy, dx) * MathUtils.radiansToDegrees - 90f;
+        float diff = ((desired - spaceship.getAngle()) % 360f + 540f) % 360f - 180f;
+
+        if (diff > AIM_TOLERANCE) {
+            holdTurnKey(Keys.LEFT);
+        } else if (diff < -AIM_TOLERANCE) {
+            holdTurnKey(Keys.RIGHT);
+        } else {
+            holdTurnKey(-1);
+        }
+
+        fireCooldown -= delta;
+        if (fireCooldown <= 0 && Math.abs(diff) <= FIRE_TOLERANCE) {
+            input.keyDown(Keys.SPACE);
+            input.keyUp(Keys.SPACE);
+            fireCooldown = FIRE_INTERVAL;
+        }
+    }
+
+    private void holdTurnKey(int key) {
+        if (key == heldTurnKey) {
+            return;
+        }
+        if (heldTurnKey != -1) {
+            input.keyUp(heldTurnKey);
+        }
+        if (key != -1) {
+            input.keyDown(key);
+        }
+        heldTurnKey = key;
+    }
+
+    private static Alien findClosest(List<Alien> aliens, Vector2 from) {
+        Alien closest = null;
+        float closestDist2 = Float.MAX_VALUE;
+        for (int i = 0; i < aliens.size(); i++) {
+            Alien alien = aliens.get(i);
+            if (alien.isDead()) {
+                continue;
+            }
+            float dist2 = from.dst2(alien.getPosition());
+            if (dist2 < closestDist2) {
+                closestDist2 = dist2;
+                closest = alien;
+            }
+        }
+        return closest;
+    }
+}
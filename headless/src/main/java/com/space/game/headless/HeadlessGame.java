@@ -0,0 +1,57 @@
+package com.space.game.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.space.game.GameClock;
+import com.space.game.SpaceGame;
+
+/**
+ * Boots the real SpaceGame without a window or GPU. Shared by the simulation
+ * harness and the JMH benchmarks.
+ */
+public final class HeadlessGame {
+
+    private HeadlessGame() {
+    }
+
+    /**
+     * Creates the game on the current thread. The headless backend must already
+     * be running (Gdx.app, Gdx.files and Gdx.audio set); the GL context and the
+     * display are replaced by stubs of the given size.
+     *
+     * @return the application listener; SpaceGame.getGame() is valid afterwards
+     */
+    public static SpaceGame boot(int width, int height) {
+        GL20 gl = HeadlessStubs.createGL20();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        Gdx.graphics = HeadlessStubs.createGraphics(Gdx.graphics, gl, width, height, GameClock.DEFAULT_STEP);
+
+        SpaceGame app = new SpaceGame();
+        app.create();
+        app.resize(width, height);
+        // Runs must not depend on how far streaming got: load everything up front
+        SpaceGame.getGame().getLoading().finishLoading();
+        // The game logs at DEBUG; keep the console (and the timings) quiet
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        return app;
+    }
+
+    /**
+     * Same as {@link #boot(int, int)} for callers that are not running inside
+     * an application (benchmarks): starts an idle headless backend first.
+     */
+    public static synchronized SpaceGame bootStandalone(int width, int height) {
+        if (Gdx.app == null) {
+            HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+            configuration.updatesPerSecond = 1;
+            new HeadlessApplication(new ApplicationAdapter() {
+            }, configuration);
+        }
+        return boot(width, height);
+    }
+}
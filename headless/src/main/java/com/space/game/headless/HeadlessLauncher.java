@@ -0,0 +1,82 @@
+package com.space.game.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches the gameplay simulation without a window or GPU.
+ *
+ * Usage: HeadlessLauncher [--levels N] [--seed S] [--warmup-ticks N]
+ * [--max-ticks N] [--size WxH] [--json FILE] [--min-tps N] [--profile FILE]
+ * [--record FILE] [--replay FILE]
+ *
+ * Prints a summary to stdout; --json also writes it in machine-readable form
+ * and --min-tps makes the process exit with status 1 when the measured tick
+ * rate falls below the given floor (for CI). --profile turns on the in-game
+ * profiler for the measured ticks and writes its per-subsystem percentiles
+ * (JSON) and per-tick timings (CSV); it adds a little overhead to the run.
+ * --record writes the input of the first run (to game over or the end of
+ * the simulation) as a replay; --replay plays one back instead of the
+ * AutoPilot, ending when the replay does. Replays saved by F4 in the game
+ * reproduce a player's run exactly.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        SimulationRunner.Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: HeadlessLauncher [--levels N] [--seed S] [--warmup-ticks N] [--max-ticks N]"
+                    + " [--size WxH] [--json FILE] [--min-tps N] [--profile FILE] [--record FILE] [--replay FILE]");
+            System.exit(2);
+            return;
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The runner drives its own loop inside create(); the backend loop only has to shut down
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new SimulationRunner(options), configuration);
+    }
+
+    private static SimulationRunner.Options parse(String[] args) {
+        SimulationRunner.Options options = new SimulationRunner.Options();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            String value = args[++i];
+            try {
+                if (arg.equals("--levels")) {
+                    options.levels = Integer.parseInt(value);
+                } else if (arg.equals("--seed")) {
+                    options.seed = Long.parseLong(value);
+                } else if (arg.equals("--warmup-ticks")) {
+                    options.warmupTicks = Integer.parseInt(value);
+                } else if (arg.equals("--max-ticks")) {
+                    options.maxTicks = Integer.parseInt(value);
+                } else if (arg.equals("--size")) {
+                    String[] size = value.toLowerCase().split("x");
+                    options.width = Integer.parseInt(size[0]);
+                    options.height = Integer.parseInt(size[1]);
+                } else if (arg.equals("--json")) {
+                    options.jsonPath = value;
+                } else if (arg.equals("--min-tps")) {
+                    options.minTicksPerSecond = Double.parseDouble(value);
+                } else if (arg.equals("--profile")) {
+                    options.profilePath = value;
+                } else if (arg.equals("--record")) {
+                    options.recordPath = value;
+                } else if (arg.equals("--replay")) {
+                    options.replayPath = value;
+                } else {
+                    throw new IllegalArgumentException("Unknown option " + arg);
+                }
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Bad value for " + arg + ": " + value);
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,130 @@
+package com.space.game.headless;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * No-op stand-ins for the GL context and window so the unmodified Game can be
+ * constructed by the headless backend.
+ *
+ * The headless backend leaves Gdx.gl null and reports a 0x0 window; the game
+ * however builds a SpriteBatch, shaders, ShapeRenderers and an FBO up front and
+ * sizes the world from the display. The stub GL accepts every call and reports
+ * success for shader compilation, program linking and framebuffer completeness;
+ * everything else returns zero.
+ */
+final class HeadlessStubs {
+
+    private HeadlessStubs() {
+    }
+
+    static GL20 createGL20() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class },
+                new InvocationHandler() {
+                    private int nextHandle = 1;
+
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+                            int pname = (Integer) args[1];
+                            boolean ok = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                            ((IntBuffer) args[2]).put(0, ok ? 1 : 0);
+                            return null;
+                        }
+                        if (name.equals("glCheckFramebufferStatus")) {
+                            return GL20.GL_FRAMEBUFFER_COMPLETE;
+                        }
+                        if (name.startsWith("glCreate") || name.startsWith("glGen")) {
+                            if (method.getReturnType() == int.class) {
+                                return nextHandle++;
+                            }
+                        }
+                        if (name.equals("toString")) {
+                            return "HeadlessGL20";
+                        }
+                        if (name.equals("hashCode")) {
+                            return System.identityHashCode(proxy);
+                        }
+                        if (name.equals("equals")) {
+                            return proxy == args[0];
+                        }
+                        return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    /**
+     * Wraps the backend's Graphics so the game sees a fixed-size display and
+     * the stub GL; everything else is forwarded.
+     */
+    static Graphics createGraphics(final Graphics delegate, final GL20 gl, final int width, final int height,
+            final float deltaTime) {
+        final Graphics.DisplayMode displayMode = new Graphics.DisplayMode(width, height, 60, 32) {
+        };
+        return (Graphics) Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class<?>[] { Graphics.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        String name = method.getName();
+                        if (args == null || args.length == 0) {
+                            if (name.equals("getWidth") || name.equals("getBackBufferWidth")) {
+                                return width;
+                            }
+                            if (name.equals("getHeight") || name.equals("getBackBufferHeight")) {
+                                return height;
+                            }
+                            if (name.equals("getDisplayMode")) {
+                                return displayMode;
+                            }
+                            if (name.equals("getDeltaTime")) {
+                                return deltaTime;
+                            }
+                            if (name.equals("getGL20")) {
+                                return gl;
+                            }
+                            if (name.equals("getGL30") || name.equals("getGL31") || name.equals("getGL32")) {
+                                return null;
+                            }
+                            if (name.equals("isGL30Available") || name.equals("isGL31Available")
+                                    || name.equals("isGL32Available")) {
+                                return false;
+                            }
+                        }
+                        try {
+                            return method.invoke(delegate, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == String.class) {
+            return "";
+        }
+        return null;
+    }
+}
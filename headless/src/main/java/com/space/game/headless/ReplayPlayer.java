@@ -0,0 +1,41 @@
+package com.space.game.headless;
+
+import com.space.game.Replay;
+import com.space.game.managers.GameStateManager;
+import com.space.game.managers.GameStateManager.State;
+import com.space.game.managers.InputManager;
+
+/**
+ * Plays a recorded run through the level's InputManager: before every tick,
+ * the events recorded at that tick are sent exactly as the keyboard sent
+ * them. Pauses (P) are resumed on the spot, since paused time was never
+ * simulated in the recorded run either.
+ */
+class ReplayPlayer {
+    private final Replay replay;
+    private int next;
+
+    ReplayPlayer(Replay replay) {
+        this.replay = replay;
+    }
+
+    /** Delivers every event recorded before the given run tick that has not been sent yet. */
+    void deliver(int tick, InputManager input, GameStateManager gsm) {
+        while (next < replay.getEventCount() && replay.getEventTick(next) <= tick) {
+            int keycode = replay.getKeycode(next);
+            if (replay.isPressed(next)) {
+                input.keyDown(keycode);
+            } else {
+                input.keyUp(keycode);
+            }
+            if (gsm.getState() == State.PAUSED) {
+                gsm.setState(State.PLAYING);
+            }
+            next++;
+        }
+    }
+
+    Replay getReplay() {
+        return replay;
+    }
+}
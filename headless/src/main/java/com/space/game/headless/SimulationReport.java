@@ -0,0 +1,143 @@
+package com.space.game.headless;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Results of one headless run. Tick timings are kept per tick so the report
+ * can show the tail (p99/max) and not just the average.
+ */
+class SimulationReport {
+    long seed;
+    int targetLevels;
+    float step;
+
+    long ticks;
+    long wallNanos;
+    int levelsCleared;
+    int highestLevel;
+    int deaths;
+
+    long allocatedBytes = -1; // -1 when the JVM can't measure per-thread allocation
+    long gcCount;
+    long gcMillis;
+
+    long alienSamples, bulletSamples, particleSamples;
+    int peakAliens, peakBullets, peakParticles;
+
+    private long[] tickNanos;
+
+    SimulationReport(int expectedTicks) {
+        // Sized up front so recording a tick never allocates during the measured run
+        tickNanos = new long[Math.max(1, expectedTicks)];
+    }
+
+    void recordTick(long nanos, int aliens, int bullets, int particles) {
+        if (ticks == tickNanos.length) {
+            tickNanos = Arrays.copyOf(tickNanos, tickNanos.length * 2);
+        }
+        tickNanos[(int) ticks] = nanos;
+        ticks++;
+
+        alienSamples += aliens;
+        bulletSamples += bullets;
+        particleSamples += particles;
+        peakAliens = Math.max(peakAliens, aliens);
+        peakBullets = Math.max(peakBullets, bullets);
+        peakParticles = Math.max(peakParticles, particles);
+    }
+
+    double ticksPerSecond() {
+        return wallNanos > 0 ? ticks * 1e9 / wallNanos : 0;
+    }
+
+    /** Simulated time over wall time: how many times faster than real time the game logic runs. */
+    double realtimeFactor() {
+        return wallNanos > 0 ? ticks * step * 1e9 / wallNanos : 0;
+    }
+
+    double tickMicros(double percentile) {
+        if (ticks == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(tickNanos, (int) ticks);
+        Arrays.sort(sorted);
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+
+    double bytesPerTick() {
+        return allocatedBytes >= 0 && ticks > 0 ? (double) allocatedBytes / ticks : -1;
+    }
+
+    double megabytesPerSecond() {
+        return allocatedBytes >= 0 && wallNanos > 0 ? allocatedBytes / (1024.0 * 1024.0) * 1e9 / wallNanos : -1;
+    }
+
+    private double average(long samples) {
+        return ticks > 0 ? (double) samples / ticks : 0;
+    }
+
+    String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Headless simulation ===\n");
+        sb.append(String.format(Locale.ROOT, "seed %d, step %.5fs, target %d level(s)%n", seed, step, targetLevels));
+        sb.append(String.format(Locale.ROOT, "levels cleared %d (highest reached %d), deaths %d%n",
+                levelsCleared, highestLevel, deaths));
+        sb.append(String.format(Locale.ROOT, "ticks %d in %.2fs -> %.0f ticks/s (%.1fx real time)%n",
+                ticks, wallNanos / 1e9, ticksPerSecond(), realtimeFactor()));
+        sb.append(String.format(Locale.ROOT, "tick time us: p50 %.1f, p99 %.1f, max %.1f%n",
+                tickMicros(0.50), tickMicros(0.99), tickMicros(1.0)));
+        sb.append(String.format(Locale.ROOT, "entities avg/peak: aliens %.1f/%d, bullets %.1f/%d, particles %.1f/%d%n",
+                average(alienSamples), peakAliens, average(bulletSamples), peakBullets,
+                average(particleSamples), peakParticles));
+        if (allocatedBytes >= 0) {
+            sb.append(String.format(Locale.ROOT, "allocation: %.1f bytes/tick, %.2f MB/s%n",
+                    bytesPerTick(), megabytesPerSecond()));
+        } else {
+            sb.append("allocation: not available on this JVM\n");
+        }
+        sb.append(String.format(Locale.ROOT, "gc: %d collection(s), %d ms%n", gcCount, gcMillis));
+        return sb.toString();
+    }
+
+    String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        field(sb, "seed", seed);
+        field(sb, "step", step);
+        field(sb, "targetLevels", targetLevels);
+        field(sb, "levelsCleared", levelsCleared);
+        field(sb, "highestLevel", highestLevel);
+        field(sb, "deaths", deaths);
+        field(sb, "ticks", ticks);
+        field(sb, "wallSeconds", wallNanos / 1e9);
+        field(sb, "ticksPerSecond", ticksPerSecond());
+        field(sb, "realtimeFactor", realtimeFactor());
+        field(sb, "tickMicrosP50", tickMicros(0.50));
+        field(sb, "tickMicrosP99", tickMicros(0.99));
+        field(sb, "tickMicrosMax", tickMicros(1.0));
+        field(sb, "avgAliens", average(alienSamples));
+        field(sb, "peakAliens", peakAliens);
+        field(sb, "avgBullets", average(bulletSamples));
+        field(sb, "peakBullets", peakBullets);
+        field(sb, "avgParticles", average(particleSamples));
+        field(sb, "peakParticles", peakParticles);
+        field(sb, "allocatedBytes", allocatedBytes);
+        field(sb, "bytesPerTick", bytesPerTick());
+        field(sb, "allocMegabytesPerSecond", megabytesPerSecond());
+        field(sb, "gcCount", gcCount);
+        sb.append("  \"gcMillis\": ").append(gcMillis).append("\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static void field(StringBuilder sb, String name, long value) {
+        sb.append("  \"").append(name).append("\": ").append(value).append(",\n");
+    }
+
+    private static void field(StringBuilder sb, String name, double value) {
+        sb.append("  \"").append(name).append("\": ").append(String.format(Locale.ROOT, "%.3f", value))
+                .append(",\n");
+    }
+}
@@ -0,0 +1,242 @@
+package com.space.game.headless;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.space.game.Game;
+import com.space.game.Replay;
+import com.space.game.SpaceGame;
+import com.space.game.levels.DynamicLevel;
+import com.space.game.levels.Level;
+import com.space.game.managers.GameStateManager;
+import com.space.game.managers.GameStateManager.State;
+import com.space.game.managers.MapManager;
+import com.space.game.managers.ProfilerManager;
+import com.space.game.managers.ProfilerManager.Section;
+
+/**
+ * Boots the real game on the headless backend and drives MapManager with
+ * fixed ticks as fast as possible, with the AutoPilot on the controls, or a
+ * recorded replay when one is given (the run then ends with the replay).
+ * Rendering is skipped entirely; the measurement covers the gameplay loop
+ * only (levels, aliens, bullets, collisions, particles).
+ */
+class SimulationRunner extends ApplicationAdapter {
+
+    static class Options {
+        int levels = 5;
+        long seed = 1;
+        int warmupTicks = 2000;
+        int maxTicks = 120 * 60 * 30; // 30 simulated minutes at the default step
+        int width = 1920;
+        int height = 1080;
+        double minTicksPerSecond = 0;
+        String jsonPath;
+        String profilePath;
+        String replayPath;
+        String recordPath;
+    }
+
+    private final Options options;
+    private SimulationReport report;
+    private int exitCode;
+
+    SimulationRunner(Options options) {
+        this.options = options;
+    }
+
+    @Override
+    public void create() {
+        MathUtils.random.setSeed(options.seed);
+        SpaceGame app = HeadlessGame.boot(options.width, options.height);
+        SpaceGame.getGame().getRandom().setMasterSeed(options.seed);
+
+        try {
+            report = simulate(SpaceGame.getGame());
+        } finally {
+            app.dispose();
+        }
+
+        System.out.print(report.toText());
+        if (options.jsonPath != null) {
+            Gdx.files.absolute(options.jsonPath).writeString(report.toJson(), false);
+        }
+        if (options.profilePath != null) {
+            writeProfile(SpaceGame.getGame().getProfiler(), options.profilePath);
+        }
+        if (options.replayPath == null && report.levelsCleared < options.levels) {
+            System.err.println("Stopped at the tick limit before clearing " + options.levels + " level(s)");
+        }
+        if (options.minTicksPerSecond > 0 && report.ticksPerSecond() < options.minTicksPerSecond) {
+            System.err.println("Regression: " + (long) report.ticksPerSecond() + " ticks/s is below the floor of "
+                    + (long) options.minTicksPerSecond);
+            exitCode = 1;
+        }
+        Gdx.app.exit();
+    }
+
+    private SimulationReport simulate(Game game) {
+        GameStateManager gsm = game.getGsm();
+        MapManager mapManager = game.getMapManager();
+        float step = game.getClock().getStep();
+        AutoPilot pilot = new AutoPilot();
+        ReplayPlayer player = options.replayPath != null
+                ? new ReplayPlayer(Replay.load(Gdx.files.absolute(options.replayPath)))
+                : null;
+        if (player != null && player.getReplay().getStep() != step) {
+            throw new IllegalArgumentException("Replay was recorded at a step of " + player.getReplay().getStep()
+                    + "s, the game runs at " + step + "s");
+        }
+        boolean recorded = false;
+        ProfilerManager profiler = game.getProfiler();
+        if (options.profilePath != null) {
+            // One profiler frame per tick, kept for the whole measured run
+            profiler.setWindowSize(options.maxTicks);
+        }
+
+        SimulationReport result = new SimulationReport(options.maxTicks);
+        result.seed = options.seed;
+        result.targetLevels = options.levels;
+        result.step = step;
+
+        gsm.setState(State.PLAYING);
+        if (player != null) {
+            // Restart on the recorded seed
+            mapManager.reset();
+            mapManager.startRun(player.getReplay().getSeed());
+            System.out.println("Replaying " + player.getReplay().getTicks() + " ticks, "
+                    + player.getReplay().getEventCount() + " input events, seed " + player.getReplay().getSeed());
+        }
+        int levelNumber = mapManager.getCurrentLevel().getConfig().getLevelNumber();
+        result.highestLevel = levelNumber;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads
+                : null;
+        long threadId = Thread.currentThread().getId();
+        long startBytes = 0;
+        long startGcCount = 0;
+        long startGcMillis = 0;
+        long startNanos = 0;
+
+        int warmup = Math.min(options.warmupTicks, options.maxTicks);
+        int tickLimit = warmup + options.maxTicks;
+        if (player != null) {
+            warmup = Math.min(options.warmupTicks, player.getReplay().getTicks());
+            tickLimit = player.getReplay().getTicks();
+        }
+        for (int tick = 0; tick < tickLimit && (player != null || result.levelsCleared < options.levels); tick++) {
+            boolean measured = tick >= warmup;
+            if (tick == warmup) {
+                startGcCount = gcCount();
+                startGcMillis = gcMillis();
+                if (allocations != null) {
+                    startBytes = allocations.getThreadAllocatedBytes(threadId);
+                }
+                startNanos = System.nanoTime();
+                profiler.setEnabled(options.profilePath != null);
+            }
+
+            long tickStart = System.nanoTime();
+            Level level = mapManager.getCurrentLevel();
+            if (player != null) {
+                if (level instanceof DynamicLevel) {
+                    player.deliver(mapManager.getRunTick(), ((DynamicLevel) level).getInputManager(), gsm);
+                }
+            } else if (level instanceof DynamicLevel) {
+                pilot.update((DynamicLevel) level, step);
+            }
+            profiler.begin(Section.FRAME);
+            mapManager.update(step);
+            profiler.end(Section.FRAME);
+            long tickNanos = System.nanoTime() - tickStart;
+            profiler.endFrame();
+
+            level = mapManager.getCurrentLevel();
+            if (measured) {
+                int aliens = level instanceof DynamicLevel
+                        ? ((DynamicLevel) level).getAlienManager().getAliens().size()
+                        : 0;
+                result.recordTick(tickNanos, aliens, mapManager.getBulletManager().getBullets().size,
+                        mapManager.getParticleManager().getParticleCount());
+            }
+
+            int current = level.getConfig().getLevelNumber();
+            if (current > levelNumber) {
+                result.levelsCleared += current - levelNumber;
+            }
+            levelNumber = current;
+            result.highestLevel = Math.max(result.highestLevel, current);
+
+            if (gsm.getState() == State.GAME_OVER) {
+                result.deaths++;
+                if (options.recordPath != null && !recorded) {
+                    writeReplay(mapManager.getReplay(), options.recordPath);
+                    recorded = true;
+                }
+                if (player != null) {
+                    // The recorded run ended here too
+                    break;
+                }
+                // Start a fresh run from level 1 and keep going
+                mapManager.reset();
+                gsm.setState(State.PLAYING);
+                levelNumber = mapManager.getCurrentLevel().getConfig().getLevelNumber();
+            }
+        }
+
+        if (options.recordPath != null && !recorded) {
+            writeReplay(mapManager.getReplay(), options.recordPath);
+        }
+
+        // Nothing was measured if the target was reached during warm-up
+        result.wallNanos = result.ticks > 0 ? System.nanoTime() - startNanos : 0;
+        if (allocations != null) {
+            result.allocatedBytes = allocations.getThreadAllocatedBytes(threadId) - startBytes;
+        }
+        result.gcCount = gcCount() - startGcCount;
+        result.gcMillis = gcMillis() - startGcMillis;
+        return result;
+    }
+
+    private static void writeReplay(Replay replay, String path) {
+        replay.save(Gdx.files.absolute(path));
+        System.out.println("Replay written to " + path + " (" + replay.getTicks() + " ticks, "
+                + replay.getEventCount() + " input events)");
+    }
+
+    /** Percentiles go to the given path; the per-tick rows to the same name with a .csv extension. */
+    private static void writeProfile(ProfilerManager profiler, String path) {
+        Gdx.files.absolute(path).writeString(profiler.toJson(), false);
+        int dot = path.lastIndexOf('.');
+        String csvPath = (dot > path.lastIndexOf('/') ? path.substring(0, dot) : path) + ".csv";
+        Gdx.files.absolute(csvPath).writeString(profiler.toCsv(), false);
+        System.out.println("Profile written to " + path + " and " + csvPath);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    @Override
+    public void dispose() {
+        System.exit(exitCode);
+    }
+}
@@ -13,7 +13,6 @@ public class GwtLauncher extends GwtApplication {
         GwtApplicationConfiguration cfg = new GwtApplicationConfiguration(true);
         cfg.padVertical = 0;
         cfg.padHorizontal = 0;
-        cfg.stencil = true;
         return cfg;
         // If you want a fixed size application, comment out the above resizable
         // section,
@@ -0,0 +1,50 @@
+package com.space.game.lwjgl3;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.space.game.graphics.TexturePaths;
+
+/**
+ * Build-time step: packs every sprite listed in {@link TexturePaths#SPRITES}
+ * into the atlas at {@link TexturePaths#ATLAS}. Regions are named after their
+ * TextureManager key so lookups need no path mapping.
+ *
+ * Runs as part of the lwjgl3 and html builds (./gradlew lwjgl3:packTextures
+ * on its own); commit the refreshed atlas after adding or changing a sprite.
+ */
+public class SpritePacker {
+    public static void main(String[] args) throws IOException {
+        File assets = new File(args.length > 0 ? args[0] : ".");
+        File atlas = new File(assets, TexturePaths.ATLAS);
+
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        // Keep the original sprite sizes: the game lays sprites out from region width/height
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        // Padding + duplicated edges so scaled/rotated sprites never sample a neighbour
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+
+        TexturePacker packer = new TexturePacker(settings);
+        for (String[] sprite : TexturePaths.SPRITES) {
+            File source = new File(assets, sprite[1]);
+            BufferedImage image = ImageIO.read(source);
+            if (image == null) {
+                throw new IOException("Could not read sprite " + source);
+            }
+            packer.addImage(image, sprite[0]);
+        }
+
+        String name = atlas.getName();
+        packer.pack(atlas.getParentFile(), name.substring(0, name.lastIndexOf('.')));
+        System.out.println("Packed " + TexturePaths.SPRITES.length + " sprites into " + atlas);
+    }
+}